@@ -0,0 +1,135 @@
+package com.ivanserbyniuk.fluentlist.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * groupBy, minBy, maxBy, sumBy and joinToStringBy against plain loops and java.util.stream.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AggregateBenchmark {
+
+    @Benchmark
+    public Map<String, List<Product>> groupByCategory(ListState state) {
+        return state.fluentProducts.groupBy(Product::getCategory);
+    }
+
+    @Benchmark
+    public Map<String, List<Product>> groupByCategoryLoop(ListState state) {
+        Map<String, List<Product>> result = new HashMap<>();
+        for (Product product : state.products) {
+            List<Product> group = result.get(product.category);
+            if (group == null) {
+                group = new ArrayList<>();
+                result.put(product.category, group);
+            }
+            group.add(product);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Map<String, List<Product>> groupByCategoryStream(ListState state) {
+        return state.products.stream().collect(Collectors.groupingBy(Product::getCategory));
+    }
+
+    @Benchmark
+    public Map<Integer, List<Integer>> groupIntegers(ListState state) {
+        return state.fluentIntegers.groupBy(it -> it % 100);
+    }
+
+    @Benchmark
+    public Product minByPrice(ListState state) {
+        return state.fluentProducts.minBy(Product::getPrice);
+    }
+
+    @Benchmark
+    public Product minByPriceLoop(ListState state) {
+        Product min = state.products.get(0);
+        for (Product product : state.products) {
+            if (product.price < min.price) {
+                min = product;
+            }
+        }
+        return min;
+    }
+
+    @Benchmark
+    public Product minByPriceStream(ListState state) {
+        return state.products.stream().min(Comparator.comparingInt(Product::getPrice)).get();
+    }
+
+    @Benchmark
+    public Product maxByName(ListState state) {
+        return state.fluentProducts.maxBy(Product::getName);
+    }
+
+    @Benchmark
+    public Product maxByNameStream(ListState state) {
+        return state.products.stream().max(Comparator.comparing(Product::getName)).get();
+    }
+
+    @Benchmark
+    public int sumByPrice(ListState state) {
+        return state.fluentProducts.sumBy(Product::getPrice);
+    }
+
+    @Benchmark
+    public long sumByPricePrimitive(ListState state) {
+        return state.fluentProducts.mapToInt(Product::getPrice).sum();
+    }
+
+    @Benchmark
+    public int sumByPriceLoop(ListState state) {
+        int sum = 0;
+        for (Product product : state.products) {
+            sum += product.price;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int sumByPriceStream(ListState state) {
+        return state.products.stream().mapToInt(Product::getPrice).sum();
+    }
+
+    @Benchmark
+    public String joinToStringByName(ListState state) {
+        return state.fluentProducts.joinToStringBy(Product::getName);
+    }
+
+    @Benchmark
+    public String joinToStringByNameStream(ListState state) {
+        return state.products.stream().map(Product::getName).collect(Collectors.joining(", "));
+    }
+
+    @Benchmark
+    public Integer reduceIntegers(ListState state) {
+        return state.fluentIntegers.reduce((first, second) -> first + second);
+    }
+
+    @Benchmark
+    public long forEachIndexes(ListState state) {
+        final long[] sum = new long[1];
+        state.fluentProducts.forEachIndexes((index, item) -> sum[0] += index * item.price);
+        return sum[0];
+    }
+
+    @Benchmark
+    public long forEachIndexed(ListState state) {
+        final long[] sum = new long[1];
+        state.fluentProducts.forEachIndexed((index, item) -> sum[0] += index * item.price);
+        return sum[0];
+    }
+}
@@ -0,0 +1,80 @@
+package com.ivanserbyniuk.fluentlist.benchmark;
+
+import com.ivanserbyniuk.fluentlist.ArrayFluentList;
+import com.ivanserbyniuk.fluentlist.FluentList;
+import com.ivanserbyniuk.fluentlist.IntFluentList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * plus, intRange and factories against plain loops and java.util.stream.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConstructionBenchmark {
+
+    private static final Product PRODUCT = new Product(-1, "extra", "extra", 1);
+
+    @Benchmark
+    public List<Product> plusItem(ListState state) {
+        return state.fluentProducts.plus(PRODUCT);
+    }
+
+    @Benchmark
+    public List<Product> plusItemLoop(ListState state) {
+        List<Product> result = new ArrayList<>(state.products.size() + 1);
+        result.addAll(state.products);
+        result.add(PRODUCT);
+        return result;
+    }
+
+    @Benchmark
+    public List<Product> plusCollection(ListState state) {
+        return state.fluentProducts.plus(state.products);
+    }
+
+    @Benchmark
+    public List<Integer> intRange(ListState state) {
+        return FluentList.intRange(0, state.size);
+    }
+
+    @Benchmark
+    public IntFluentList intRangePrimitive(ListState state) {
+        return IntFluentList.range(0, state.size);
+    }
+
+    @Benchmark
+    public List<Integer> intRangeStream(ListState state) {
+        return IntStream.range(0, state.size).boxed().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> fromArray(ListState state) {
+        return FluentList.from(state.strings.toArray(new String[0]));
+    }
+
+    @Benchmark
+    public List<String> wrapArray(ListState state) {
+        return ArrayFluentList.wrap(state.strings.toArray(new String[0]));
+    }
+
+    @Benchmark
+    public List<String> fromArrayLoop(ListState state) {
+        return new ArrayList<>(Arrays.asList(state.strings.toArray(new String[0])));
+    }
+
+    @Benchmark
+    public List<Integer> fromSet(ListState state) {
+        return FluentList.from(state.fluentIntegers.toSet());
+    }
+}
@@ -0,0 +1,52 @@
+package com.ivanserbyniuk.fluentlist.benchmark;
+
+import com.ivanserbyniuk.fluentlist.FluentList;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Input lists of Integer, String and Product elements of the benchmarked size. Values are random but the seed is
+ * fixed, so every run sees the same data.
+ */
+@State(Scope.Benchmark)
+public class ListState {
+
+    private static final String[] CATEGORIES = {"books", "music", "games", "food", "toys", "tools", "garden"};
+
+    @Param({"100", "10000", "1000000"})
+    public int size;
+
+    public List<Integer> integers;
+    public List<String> strings;
+    public List<Product> products;
+
+    public FluentList<Integer> fluentIntegers;
+    public FluentList<String> fluentStrings;
+    public FluentList<Product> fluentProducts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        integers = new ArrayList<>(size);
+        strings = new ArrayList<>(size);
+        products = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int value = random.nextInt(size);
+            integers.add(value);
+            strings.add("item-" + value);
+            products.add(new Product(i, "product-" + value, CATEGORIES[value % CATEGORIES.length],
+                    random.nextInt(1000)));
+        }
+        fluentIntegers = FluentList.from(integers);
+        fluentStrings = FluentList.from(strings);
+        fluentProducts = FluentList.from(products);
+    }
+}
@@ -0,0 +1,114 @@
+package com.ivanserbyniuk.fluentlist.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * sortedBy, distinct and reversed against plain loops and java.util.stream.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderBenchmark {
+
+    @Benchmark
+    public List<Product> sortedByName(ListState state) {
+        return state.fluentProducts.sortedBy(Product::getName);
+    }
+
+    @Benchmark
+    public List<Product> sortedByNameLoop(ListState state) {
+        List<Product> result = new ArrayList<>(state.products);
+        Collections.sort(result, new Comparator<Product>() {
+            @Override
+            public int compare(Product first, Product second) {
+                return first.name.compareTo(second.name);
+            }
+        });
+        return result;
+    }
+
+    @Benchmark
+    public List<Product> sortedByNameStream(ListState state) {
+        return state.products.stream().sorted(Comparator.comparing(Product::getName)).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Integer> sortedIntegers(ListState state) {
+        return state.fluentIntegers.sortedBy(it -> it);
+    }
+
+    @Benchmark
+    public List<Integer> distinctIntegers(ListState state) {
+        return state.fluentIntegers.distinct();
+    }
+
+    @Benchmark
+    public List<Integer> distinctIntegersLoop(ListState state) {
+        return new ArrayList<>(new LinkedHashSet<>(state.integers));
+    }
+
+    @Benchmark
+    public List<Integer> distinctIntegersStream(ListState state) {
+        return state.integers.stream().distinct().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> distinctStrings(ListState state) {
+        return state.fluentStrings.distinct();
+    }
+
+    @Benchmark
+    public List<Product> distinctProductsByCategory(ListState state) {
+        return state.fluentProducts.distinct(Product::getCategory);
+    }
+
+    @Benchmark
+    public List<Product> reversedProducts(ListState state) {
+        return state.fluentProducts.reversed();
+    }
+
+    @Benchmark
+    public List<Product> reversedProductsLoop(ListState state) {
+        List<Product> result = new ArrayList<>(state.products.size());
+        for (int i = state.products.size() - 1; i >= 0; i--) {
+            result.add(state.products.get(i));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Product> cheapestTenSorted(ListState state) {
+        return state.fluentProducts.sortedBy(Product::getPrice).take(10);
+    }
+
+    @Benchmark
+    public List<Product> cheapestTen(ListState state) {
+        return state.fluentProducts.bottomBy(10, Product::getPrice);
+    }
+
+    @Benchmark
+    public List<Product> cheapestTenByInt(ListState state) {
+        return state.fluentProducts.bottomByInt(10, Product::getPrice);
+    }
+
+    @Benchmark
+    public List<Product> cheapestTenStream(ListState state) {
+        return state.products.stream().sorted(Comparator.comparing(Product::getPrice)).limit(10)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Product> cheapestTenParallel(ListState state) {
+        return state.fluentProducts.parallel().bottomBy(10, Product::getPrice);
+    }
+}
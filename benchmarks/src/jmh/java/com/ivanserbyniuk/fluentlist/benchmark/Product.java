@@ -0,0 +1,59 @@
+package com.ivanserbyniuk.fluentlist.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Element type with reference and primitive fields.
+ */
+public class Product {
+    public final long id;
+    public final String name;
+    public final String category;
+    public final int price;
+
+    public Product(long id, String name, String category, int price) {
+        this.id = id;
+        this.name = name;
+        this.category = category;
+        this.price = price;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public int getPrice() {
+        return price;
+    }
+
+    public List<String> getTags() {
+        return Arrays.asList(category, name);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Product)) {
+            return false;
+        }
+        Product product = (Product) o;
+        return id == product.id && price == product.price && name.equals(product.name)
+                && category.equals(product.category);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = (int) (id ^ (id >>> 32));
+        result = 31 * result + name.hashCode();
+        result = 31 * result + category.hashCode();
+        result = 31 * result + price;
+        return result;
+    }
+}
@@ -0,0 +1,202 @@
+package com.ivanserbyniuk.fluentlist.benchmark;
+
+import com.ivanserbyniuk.fluentlist.FluentList;
+import com.ivanserbyniuk.fluentlist.ListUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * map, filter, flatMap and distinct against plain loops and java.util.stream.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransformBenchmark {
+
+    @Benchmark
+    public List<Integer> mapIntegers(ListState state) {
+        return state.fluentIntegers.map(it -> it * 2);
+    }
+
+    @Benchmark
+    public List<Integer> mapIntegersListUtils(ListState state) {
+        return ListUtils.map(state.integers, it -> it * 2);
+    }
+
+    @Benchmark
+    public List<Integer> mapIntegersLoop(ListState state) {
+        List<Integer> result = new ArrayList<>(state.integers.size());
+        for (Integer item : state.integers) {
+            result.add(item * 2);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Integer> mapIntegersStream(ListState state) {
+        return state.integers.stream().map(it -> it * 2).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> mapProducts(ListState state) {
+        return state.fluentProducts.map(Product::getName);
+    }
+
+    @Benchmark
+    public List<String> mapProductsStream(ListState state) {
+        return state.products.stream().map(Product::getName).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> mapStrings(ListState state) {
+        return state.fluentStrings.map(String::toUpperCase);
+    }
+
+    @Benchmark
+    public List<Integer> filterIntegers(ListState state) {
+        return state.fluentIntegers.filter(it -> it % 2 == 0);
+    }
+
+    @Benchmark
+    public List<Integer> filterIntegersLoop(ListState state) {
+        List<Integer> result = new ArrayList<>();
+        for (Integer item : state.integers) {
+            if (item % 2 == 0) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Integer> filterIntegersStream(ListState state) {
+        return state.integers.stream().filter(it -> it % 2 == 0).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Product> filterProducts(ListState state) {
+        return state.fluentProducts.filter(it -> it.price > 500);
+    }
+
+    @Benchmark
+    public List<Product> filterProductsStream(ListState state) {
+        return state.products.stream().filter(it -> it.price > 500).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> flatMapProducts(ListState state) {
+        return state.fluentProducts.flatMap(Product::getTags);
+    }
+
+    @Benchmark
+    public List<String> flatMapProductsLoop(ListState state) {
+        List<String> result = new ArrayList<>();
+        for (Product product : state.products) {
+            result.addAll(product.getTags());
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<String> flatMapProductsStream(ListState state) {
+        return state.products.stream().flatMap(it -> it.getTags().stream()).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> chainEager(ListState state) {
+        return state.fluentProducts
+                .filter(it -> it.price > 500)
+                .map(Product::getName)
+                .distinct();
+    }
+
+    @Benchmark
+    public List<String> chainLazy(ListState state) {
+        return state.fluentProducts.lazy()
+                .filter(it -> it.price > 500)
+                .map(Product::getName)
+                .distinct()
+                .toList();
+    }
+
+    @Benchmark
+    public List<String> chainStream(ListState state) {
+        return state.products.stream()
+                .filter(it -> it.price > 500)
+                .map(Product::getName)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Integer> mapParallel(ListState state) {
+        return state.fluentIntegers.parallel().map(it -> it * 2).toList();
+    }
+
+    @Benchmark
+    public List<Integer> mapParallelStream(ListState state) {
+        return state.integers.parallelStream().map(it -> it * 2).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Integer> distinctIntegers(ListState state) {
+        return state.fluentIntegers.distinct();
+    }
+
+    @Benchmark
+    public List<Integer> distinctIntegersLinkedHashSet(ListState state) {
+        return new ArrayList<>(new LinkedHashSet<>(state.integers));
+    }
+
+    @Benchmark
+    public List<Integer> distinctIntegersStream(ListState state) {
+        return state.integers.stream().distinct().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Integer> distinctByInt(ListState state) {
+        return state.fluentIntegers.distinctByInt(it -> it);
+    }
+
+    @Benchmark
+    public List<Product> distinctByPrice(ListState state) {
+        return state.fluentProducts.distinct(Product::getPrice);
+    }
+
+    @Benchmark
+    public List<Integer> distinctParallel(ListState state) {
+        return state.fluentIntegers.parallel().distinct().toList();
+    }
+
+    @Benchmark
+    public List<String> joinProducts(ListState state) {
+        return state.fluentIntegers.join(state.products, it -> (long) it, product -> product.id,
+                (value, product) -> product.getName());
+    }
+
+    @Benchmark
+    public List<String> joinProductsParallel(ListState state) {
+        return state.fluentIntegers.parallel().join(state.products, it -> (long) it, product -> product.id,
+                (value, product) -> product.getName()).toList();
+    }
+
+    @Benchmark
+    public List<Integer> semiJoinProducts(ListState state) {
+        return state.fluentIntegers.semiJoin(state.products.subList(0, state.size / 10), it -> (long) it,
+                product -> product.id);
+    }
+
+    @Benchmark
+    public List<Integer> semiJoinProductsNestedLoop(ListState state) {
+        final List<Product> products = state.products.subList(0, state.size / 10);
+        return state.fluentIntegers.filter(it -> FluentList.from(products).any(product -> product.id == it));
+    }
+}
@@ -0,0 +1,41 @@
+package com.ivanserbyniuk.fluentlist;
+
+/**
+ * Aggregates elements of a group into a result without collecting the elements to a list. The accumulator is
+ * created once per group and updated by every element of the group.
+ * @param <T> the type of elements
+ * @param <A> the type of accumulator
+ * @param <R> the type of result
+ */
+public interface Aggregator<T, A, R> {
+
+    /**
+     * Create accumulator for a new group.
+     * @return the accumulator, must not be null
+     */
+    A create();
+
+    /**
+     * Add element to accumulator.
+     * @param accumulator the accumulator
+     * @param item the item
+     * @return the updated accumulator, usually the same object
+     */
+    A add(A accumulator, T item);
+
+    /**
+     * Merge accumulators of two ranges of the list, [second] contains elements following the elements of [first].
+     * Used by parallel grouping.
+     * @param first the first
+     * @param second the second
+     * @return the merged accumulator
+     */
+    A merge(A first, A second);
+
+    /**
+     * Create result from accumulator.
+     * @param accumulator the accumulator
+     * @return the result
+     */
+    R finish(A accumulator);
+}
@@ -0,0 +1,216 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Common aggregators for {@link Grouping}.
+ */
+public final class Aggregators {
+
+    private Aggregators() {
+    }
+
+    /**
+     * Count elements.
+     * @param <T> the type parameter
+     * @return the aggregator
+     */
+    public static <T> Aggregator<T, int[], Integer> count() {
+        return new Aggregator<T, int[], Integer>() {
+            @Override
+            public int[] create() {
+                return new int[1];
+            }
+
+            @Override
+            public int[] add(int[] accumulator, T item) {
+                accumulator[0]++;
+                return accumulator;
+            }
+
+            @Override
+            public int[] merge(int[] first, int[] second) {
+                first[0] += second[0];
+                return first;
+            }
+
+            @Override
+            public Integer finish(int[] accumulator) {
+                return accumulator[0];
+            }
+        };
+    }
+
+    /**
+     * Sum values produced by [transform] function.
+     * @param <T> the type parameter
+     * @param transform the transform
+     * @return the aggregator
+     */
+    public static <T> Aggregator<T, long[], Long> sumBy(final ListUtils.ToLongFunc<T> transform) {
+        return new Aggregator<T, long[], Long>() {
+            @Override
+            public long[] create() {
+                return new long[1];
+            }
+
+            @Override
+            public long[] add(long[] accumulator, T item) {
+                accumulator[0] += transform.apply(item);
+                return accumulator;
+            }
+
+            @Override
+            public long[] merge(long[] first, long[] second) {
+                first[0] += second[0];
+                return first;
+            }
+
+            @Override
+            public Long finish(long[] accumulator) {
+                return accumulator[0];
+            }
+        };
+    }
+
+    /**
+     * Find the first element yielding the smallest value of the given function.
+     * @param <T> the type parameter
+     * @param <R> the type parameter
+     * @param transform the transform
+     * @return the aggregator
+     */
+    public static <T, R extends Comparable<R>> Aggregator<T, Extreme<T, R>, T> minBy(
+            final ListUtils.TransformFunc<T, R> transform) {
+        return new ExtremeAggregator<>(transform, -1);
+    }
+
+    /**
+     * Find the first element yielding the largest value of the given function.
+     * @param <T> the type parameter
+     * @param <R> the type parameter
+     * @param transform the transform
+     * @return the aggregator
+     */
+    public static <T, R extends Comparable<R>> Aggregator<T, Extreme<T, R>, T> maxBy(
+            final ListUtils.TransformFunc<T, R> transform) {
+        return new ExtremeAggregator<>(transform, 1);
+    }
+
+    /**
+     * Collect elements to set.
+     * @param <T> the type parameter
+     * @return the aggregator
+     */
+    public static <T> Aggregator<T, Set<T>, Set<T>> toSet() {
+        return new Aggregator<T, Set<T>, Set<T>>() {
+            @Override
+            public Set<T> create() {
+                return new HashSet<>();
+            }
+
+            @Override
+            public Set<T> add(Set<T> accumulator, T item) {
+                accumulator.add(item);
+                return accumulator;
+            }
+
+            @Override
+            public Set<T> merge(Set<T> first, Set<T> second) {
+                first.addAll(second);
+                return first;
+            }
+
+            @Override
+            public Set<T> finish(Set<T> accumulator) {
+                return accumulator;
+            }
+        };
+    }
+
+    /**
+     * Collect elements to list in encounter order.
+     * @param <T> the type parameter
+     * @return the aggregator
+     */
+    public static <T> Aggregator<T, List<T>, List<T>> toList() {
+        return new Aggregator<T, List<T>, List<T>>() {
+            @Override
+            public List<T> create() {
+                return new ArrayList<>();
+            }
+
+            @Override
+            public List<T> add(List<T> accumulator, T item) {
+                accumulator.add(item);
+                return accumulator;
+            }
+
+            @Override
+            public List<T> merge(List<T> first, List<T> second) {
+                first.addAll(second);
+                return first;
+            }
+
+            @Override
+            public List<T> finish(List<T> accumulator) {
+                return accumulator;
+            }
+        };
+    }
+
+    /**
+     * Accumulator of minBy and maxBy aggregators, keeps the key of the current element.
+     * @param <T> the type parameter
+     * @param <R> the type parameter
+     */
+    public static final class Extreme<T, R> {
+        private boolean empty = true;
+        private T item;
+        private R key;
+    }
+
+    private static final class ExtremeAggregator<T, R extends Comparable<R>>
+            implements Aggregator<T, Extreme<T, R>, T> {
+
+        private final ListUtils.TransformFunc<T, R> transform;
+        private final int sign;
+
+        ExtremeAggregator(ListUtils.TransformFunc<T, R> transform, int sign) {
+            this.transform = transform;
+            this.sign = sign;
+        }
+
+        @Override
+        public Extreme<T, R> create() {
+            return new Extreme<>();
+        }
+
+        @Override
+        public Extreme<T, R> add(Extreme<T, R> accumulator, T item) {
+            R key = transform.apply(item);
+            if (accumulator.empty || Integer.signum(key.compareTo(accumulator.key)) == sign) {
+                accumulator.empty = false;
+                accumulator.item = item;
+                accumulator.key = key;
+            }
+            return accumulator;
+        }
+
+        @Override
+        public Extreme<T, R> merge(Extreme<T, R> first, Extreme<T, R> second) {
+            if (first.empty || (!second.empty && Integer.signum(second.key.compareTo(first.key)) == sign)) {
+                return second;
+            }
+            return first;
+        }
+
+        @Override
+        public T finish(Extreme<T, R> accumulator) {
+            return accumulator.item;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * List stored in an object array like {@link java.util.ArrayList}, but the array can be adopted without copying and
+ * the growth of the array is controlled by {@link ArrayFluentList.GrowthPolicy}.
+ * @param <T> the type parameter
+ */
+final class ArrayBackedList<T>
+        extends AbstractList<T>
+        implements RandomAccess {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private final ArrayFluentList.GrowthPolicy growthPolicy;
+    private Object[] elements;
+    private int size;
+
+    ArrayBackedList(Object[] elements, int size, ArrayFluentList.GrowthPolicy growthPolicy) {
+        this.elements = elements.length == 0 ? EMPTY : elements;
+        this.size = size;
+        this.growthPolicy = growthPolicy;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkIndex(index, size);
+        return (T) elements[index];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T set(int index, T element) {
+        checkIndex(index, size);
+        T old = (T) elements[index];
+        elements[index] = element;
+        return old;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean add(T element) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = element;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        checkIndex(index, size + 1);
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> collection) {
+        Object[] added = collection.toArray();
+        if (added.length == 0) {
+            return false;
+        }
+        ensureCapacity(size + added.length);
+        System.arraycopy(added, 0, elements, size, added.length);
+        size += added.length;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> collection) {
+        checkIndex(index, size + 1);
+        Object[] added = collection.toArray();
+        if (added.length == 0) {
+            return false;
+        }
+        ensureCapacity(size + added.length);
+        System.arraycopy(elements, index, elements, index + added.length, size - index);
+        System.arraycopy(added, 0, elements, index, added.length);
+        size += added.length;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remove(int index) {
+        checkIndex(index, size);
+        T old = (T) elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        elements[--size] = null;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        removeRange(0, size);
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(elements, newSize, size, null);
+        size = newSize;
+        modCount++;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        for (int i = 0; i < size; i++) {
+            if (o == null ? elements[i] == null : o.equals(elements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(elements, size, Object[].class);
+    }
+
+    /**
+     * Gets the length of the array.
+     * @return the capacity
+     */
+    int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Grow the array to hold at least [minCapacity] elements.
+     * @param minCapacity the min capacity
+     */
+    void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Shrink the array to the size of the list.
+     */
+    void trimToSize() {
+        if (size < elements.length) {
+            elements = size == 0 ? EMPTY : Arrays.copyOf(elements, size, Object[].class);
+            modCount++;
+        }
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required array size is too large.");
+        }
+        int capacity = growthPolicy.newCapacity(elements.length, minCapacity);
+        elements = Arrays.copyOf(elements, Math.max(capacity, minCapacity), Object[].class);
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.util.Arrays;
+
+/**
+ * Fluent list backed by an object array. Factories allocate the array of the exact size or adopt the given array
+ * without copying, so creating a small list takes one allocation or none. The growth of the array is controlled by
+ * {@link GrowthPolicy}, the unused capacity is released by {@link #trimToSize}.
+ * <pre>
+ *     ArrayFluentList&lt;String&gt; names = ArrayFluentList.withCapacity(users.size());
+ *     for (User user : users) {
+ *         names.add(user.name);
+ *     }
+ * </pre>
+ * @param <T> the type parameter
+ */
+public class ArrayFluentList<T>
+        extends FluentList<T> {
+
+    private final ArrayBackedList<T> elements;
+
+    private ArrayFluentList(ArrayBackedList<T> elements) {
+        super(elements);
+        this.elements = elements;
+    }
+
+    /**
+     * Create list which uses [array] as the backing array without copying. Changes of elements are written through
+     * to the array until the list grows, then elements are moved to the new array. Until then the component type of
+     * the array limits what can be stored, e.g. adding a StringBuilder to a list which wraps String[] throws
+     * {@link ArrayStoreException}, use {@link #copyOf} if the list is a list of a supertype.
+     * @param <T> the type parameter
+     * @param array the array
+     * @return the array fluent list
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> ArrayFluentList<T> wrap(T... array) {
+        return adopt(array, array.length);
+    }
+
+    /**
+     * Create list with a copy of [array].
+     * @param <T> the type parameter
+     * @param array the array
+     * @return the array fluent list
+     */
+    @SafeVarargs
+    public static <T> ArrayFluentList<T> copyOf(T... array) {
+        return adopt(Arrays.copyOf(array, array.length, Object[].class), array.length);
+    }
+
+    /**
+     * Create empty list which holds [capacity] elements without growing.
+     * @param <T> the type parameter
+     * @param capacity the capacity
+     * @return the array fluent list
+     */
+    public static <T> ArrayFluentList<T> withCapacity(int capacity) {
+        return withCapacity(capacity, GrowthPolicy.ONE_AND_HALF);
+    }
+
+    /**
+     * Create empty list which holds [capacity] elements without growing and then grows by [growthPolicy].
+     * @param <T> the type parameter
+     * @param capacity the capacity
+     * @param growthPolicy the growth policy
+     * @return the array fluent list
+     */
+    public static <T> ArrayFluentList<T> withCapacity(int capacity, GrowthPolicy growthPolicy) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity " + capacity + " is less than zero.");
+        }
+        if (growthPolicy == null) {
+            throw new NullPointerException("growthPolicy");
+        }
+        return new ArrayFluentList<>(new ArrayBackedList<T>(new Object[capacity], 0, growthPolicy));
+    }
+
+    /**
+     * Create list of the first [size] elements of [array] without copying, the array isn't shared with the caller.
+     */
+    static <T> ArrayFluentList<T> adopt(Object[] array, int size) {
+        return new ArrayFluentList<>(new ArrayBackedList<T>(array, size, GrowthPolicy.ONE_AND_HALF));
+    }
+
+    /**
+     * Gets the number of elements which the list holds without growing.
+     * @return the capacity
+     */
+    public int capacity() {
+        return elements.capacity();
+    }
+
+    /**
+     * Grow the backing array to hold at least [minCapacity] elements, e.g. before adding elements one by one.
+     * @param minCapacity the min capacity
+     * @return this list
+     */
+    public ArrayFluentList<T> ensureCapacity(int minCapacity) {
+        elements.ensureCapacity(minCapacity);
+        return this;
+    }
+
+    /**
+     * Shrink the backing array to the size of the list, e.g. when the list is kept after it's built.
+     * @return this list
+     */
+    public ArrayFluentList<T> trimToSize() {
+        elements.trimToSize();
+        return this;
+    }
+
+    /**
+     * Computes the new capacity of the backing array when it's full.
+     */
+    public interface GrowthPolicy {
+
+        /**
+         * Grow by half of the capacity like {@link java.util.ArrayList}.
+         */
+        GrowthPolicy ONE_AND_HALF = new GrowthPolicy() {
+            @Override
+            public int newCapacity(int capacity, int minCapacity) {
+                return Math.max(capacity + (capacity >> 1), 4);
+            }
+        };
+
+        /**
+         * Double the capacity, fewer copies for lists which grow a lot.
+         */
+        GrowthPolicy DOUBLING = new GrowthPolicy() {
+            @Override
+            public int newCapacity(int capacity, int minCapacity) {
+                return Math.max(capacity << 1, 4);
+            }
+        };
+
+        /**
+         * Grow to the required capacity only, no unused capacity but a copy on every growth.
+         */
+        GrowthPolicy EXACT = new GrowthPolicy() {
+            @Override
+            public int newCapacity(int capacity, int minCapacity) {
+                return minCapacity;
+            }
+        };
+
+        /**
+         * Compute the new capacity, values less than [minCapacity] are replaced by [minCapacity].
+         * @param capacity the current capacity
+         * @param minCapacity the required capacity
+         * @return the new capacity
+         */
+        int newCapacity(int capacity, int minCapacity);
+    }
+}
@@ -0,0 +1,179 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Buffered reader of the binary format written by {@link BinaryOutput}.
+ */
+public final class BinaryInput {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final int BUFFER_SIZE = 8192;
+
+    private final InputStream stream;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private List<String> dictionary;
+    private int position;
+    private int limit;
+
+    BinaryInput(InputStream stream) {
+        this.stream = stream;
+    }
+
+    /**
+     * Read strings written with the dictionary from now on, the flag is known only after the header is read.
+     */
+    void useDictionary() {
+        dictionary = new ArrayList<>();
+    }
+
+    /**
+     * Read byte.
+     * @return the byte from 0 to 255
+     * @throws IOException if the stream can't be read or ends
+     */
+    public int readByte() throws IOException {
+        if (position == limit) {
+            fill();
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    /**
+     * Read boolean.
+     * @return the value
+     * @throws IOException if the stream can't be read or ends
+     */
+    public boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    /**
+     * Read varint.
+     * @return the value
+     * @throws IOException if the stream can't be read or ends
+     */
+    public int readVarInt() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint.");
+    }
+
+    /**
+     * Read zigzag varint.
+     * @return the value
+     * @throws IOException if the stream can't be read or ends
+     */
+    public int readSignedVarInt() throws IOException {
+        int value = readVarInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Read varint of long.
+     * @return the value
+     * @throws IOException if the stream can't be read or ends
+     */
+    public long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint.");
+    }
+
+    /**
+     * Read zigzag varint of long.
+     * @return the value
+     * @throws IOException if the stream can't be read or ends
+     */
+    public long readSignedVarLong() throws IOException {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Read double of 8 bytes.
+     * @return the value
+     * @throws IOException if the stream can't be read or ends
+     */
+    public double readDouble() throws IOException {
+        long bits = 0;
+        for (int i = 0; i < 8; i++) {
+            bits = (bits << 8) | readByte();
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * Read string written by {@link BinaryOutput#writeString}.
+     * @return the string or null
+     * @throws IOException if the stream can't be read or ends
+     */
+    public String readString() throws IOException {
+        int tag = readVarInt();
+        if (tag == 0) {
+            return null;
+        }
+        if (dictionary == null) {
+            return new String(readBytes(tag - 1), UTF_8);
+        }
+        if (tag == 1) {
+            String value = new String(readBytes(readVarInt()), UTF_8);
+            dictionary.add(value);
+            return value;
+        }
+        if (tag - 2 >= dictionary.size()) {
+            throw new IOException("Unknown dictionary string " + (tag - 2) + ".");
+        }
+        return dictionary.get(tag - 2);
+    }
+
+    /**
+     * Read [length] bytes.
+     * @param length the length
+     * @return the bytes
+     * @throws IOException if the stream can't be read or ends
+     */
+    public byte[] readBytes(int length) throws IOException {
+        if (length < 0) {
+            throw new IOException("Negative length " + length + ".");
+        }
+        byte[] bytes = new byte[length];
+        int copied = 0;
+        while (copied < length) {
+            if (position == limit) {
+                fill();
+            }
+            int count = Math.min(length - copied, limit - position);
+            System.arraycopy(buffer, position, bytes, copied, count);
+            position += count;
+            copied += count;
+        }
+        return bytes;
+    }
+
+    private void fill() throws IOException {
+        int count = stream.read(buffer, 0, buffer.length);
+        if (count <= 0) {
+            throw new EOFException("Unexpected end of stream.");
+        }
+        position = 0;
+        limit = count;
+    }
+}
@@ -0,0 +1,163 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Buffered writer of the binary format of {@link FluentListCodec}. Integers are written as varints, signed integers
+ * are zigzag encoded first, so small values take one byte. With the dictionary every distinct string is written
+ * once and later occurrences are written as its number.
+ */
+public final class BinaryOutput {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final int BUFFER_SIZE = 8192;
+
+    private final OutputStream stream;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final Map<String, Integer> dictionary;
+    private int position;
+
+    BinaryOutput(OutputStream stream, boolean dictionary) {
+        this.stream = stream;
+        this.dictionary = dictionary ? new HashMap<String, Integer>() : null;
+    }
+
+    /**
+     * Write byte.
+     * @param value the value
+     * @throws IOException if the stream can't be written
+     */
+    public void writeByte(int value) throws IOException {
+        if (position == buffer.length) {
+            flushBuffer();
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    /**
+     * Write boolean as one byte.
+     * @param value the value
+     * @throws IOException if the stream can't be written
+     */
+    public void writeBoolean(boolean value) throws IOException {
+        writeByte(value ? 1 : 0);
+    }
+
+    /**
+     * Write non-negative int as varint of 1 to 5 bytes. Negative values take 5 bytes.
+     * @param value the value
+     * @throws IOException if the stream can't be written
+     */
+    public void writeVarInt(int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        writeByte(value);
+    }
+
+    /**
+     * Write int as zigzag varint, small negative values take few bytes.
+     * @param value the value
+     * @throws IOException if the stream can't be written
+     */
+    public void writeSignedVarInt(int value) throws IOException {
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    /**
+     * Write non-negative long as varint of 1 to 10 bytes.
+     * @param value the value
+     * @throws IOException if the stream can't be written
+     */
+    public void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        writeByte((int) value);
+    }
+
+    /**
+     * Write long as zigzag varint.
+     * @param value the value
+     * @throws IOException if the stream can't be written
+     */
+    public void writeSignedVarLong(long value) throws IOException {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Write double as 8 bytes.
+     * @param value the value
+     * @throws IOException if the stream can't be written
+     */
+    public void writeDouble(double value) throws IOException {
+        long bits = Double.doubleToRawLongBits(value);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            writeByte((int) (bits >>> shift));
+        }
+    }
+
+    /**
+     * Write string in UTF-8 with its length, null is allowed. With the dictionary a repeated string is written as the
+     * number of its first occurrence.
+     * @param value the value
+     * @throws IOException if the stream can't be written
+     */
+    public void writeString(String value) throws IOException {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        if (dictionary != null) {
+            Integer id = dictionary.get(value);
+            if (id != null) {
+                writeVarInt(id + 2);
+                return;
+            }
+            dictionary.put(value, dictionary.size());
+        }
+        byte[] bytes = value.getBytes(UTF_8);
+        writeVarInt(dictionary != null ? 1 : bytes.length + 1);
+        if (dictionary != null) {
+            writeVarInt(bytes.length);
+        }
+        writeBytes(bytes);
+    }
+
+    /**
+     * Write bytes without length.
+     * @param bytes the bytes
+     * @throws IOException if the stream can't be written
+     */
+    public void writeBytes(byte[] bytes) throws IOException {
+        if (bytes.length > buffer.length - position) {
+            flushBuffer();
+            if (bytes.length > buffer.length) {
+                stream.write(bytes);
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    /**
+     * Write buffered bytes to the stream and flush it.
+     * @throws IOException if the stream can't be written
+     */
+    public void flush() throws IOException {
+        flushBuffer();
+        stream.flush();
+    }
+
+    private void flushBuffer() throws IOException {
+        stream.write(buffer, 0, position);
+        position = 0;
+    }
+}
@@ -0,0 +1,182 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Bounded buffer between producer threads and the lazy list which consumes the items, e.g. events of a feed.
+ * Producers block in {@link #put} while the buffer is full, so a slow consumer slows down producers instead of
+ * collecting all items in memory.
+ * <pre>
+ *     BoundedChannel&lt;Event&gt; channel = new BoundedChannel&lt;&gt;(256);
+ *     feed.subscribe(event -&gt; channel.put(event));   // producer thread, channel.close() at the end
+ *     LazyFluentList.from(channel)
+ *         .filter(event -&gt; event.isError())
+ *         .forEachItem(event -&gt; log(event));
+ * </pre>
+ * The channel is consumed once. When the consumer stops early, e.g. after {@link LazyFluentList#take}, the channel is
+ * cancelled and {@link #put} returns false.
+ * @param <T> the type parameter
+ */
+public final class BoundedChannel<T>
+        implements Iterable<T> {
+
+    private final Object[] buffer;
+    private int head;
+    private int size;
+    private boolean closed;
+    private boolean cancelled;
+    private boolean consumed;
+    private Throwable failure;
+
+    /**
+     * Create channel.
+     * @param capacity the max number of buffered items
+     */
+    public BoundedChannel(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity " + capacity + " is less than one.");
+        }
+        buffer = new Object[capacity];
+    }
+
+    /**
+     * Add item, wait while the buffer is full.
+     * @param item the item
+     * @return false if the consumer stopped and the item was dropped
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public synchronized boolean put(T item) throws InterruptedException {
+        while (size == buffer.length && !cancelled) {
+            wait();
+        }
+        return add(item);
+    }
+
+    /**
+     * Add item if the buffer is not full.
+     * @param item the item
+     * @return false if the buffer is full or the consumer stopped
+     */
+    public synchronized boolean offer(T item) {
+        return size < buffer.length && add(item);
+    }
+
+    /**
+     * Finish the channel, the consumer receives buffered items and stops.
+     */
+    public synchronized void close() {
+        closed = true;
+        notifyAll();
+    }
+
+    /**
+     * Finish the channel with [failure], which is thrown to the consumer after buffered items wrapped to
+     * {@link RuntimeException} unless it's unchecked.
+     * @param failure the failure
+     */
+    public synchronized void fail(Throwable failure) {
+        if (!closed) {
+            this.failure = failure;
+        }
+        close();
+    }
+
+    /**
+     * Drop buffered items and stop accepting new items, called when the consumer doesn't need more items.
+     */
+    public synchronized void cancel() {
+        cancelled = true;
+        closed = true;
+        for (int i = 0; i < size; i++) {
+            buffer[(head + i) % buffer.length] = null;
+        }
+        size = 0;
+        notifyAll();
+    }
+
+    /**
+     * Check that the consumer stopped.
+     * @return true if the channel is cancelled
+     */
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Iterator which blocks while the buffer is empty and the channel is not closed. The waiting interrupted
+     * thread cancels the channel and throws {@link RuntimeException}.
+     * @return the iterator
+     */
+    @Override
+    public synchronized Iterator<T> iterator() {
+        if (consumed) {
+            throw new IllegalStateException("Channel is already consumed.");
+        }
+        consumed = true;
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return await();
+            }
+
+            @Override
+            public T next() {
+                if (!await()) {
+                    throw new NoSuchElementException();
+                }
+                return take();
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("remove");
+            }
+        };
+    }
+
+    private boolean add(T item) {
+        if (cancelled) {
+            return false;
+        }
+        if (closed) {
+            throw new IllegalStateException("Channel is closed.");
+        }
+        buffer[(head + size) % buffer.length] = item;
+        size++;
+        notifyAll();
+        return true;
+    }
+
+    private synchronized boolean await() {
+        try {
+            while (size == 0 && !closed) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            cancel();
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        if (size == 0 && failure != null && !cancelled) {
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            throw new RuntimeException(failure);
+        }
+        return size > 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized T take() {
+        T item = (T) buffer[head];
+        buffer[head] = null;
+        head = (head + 1) % buffer.length;
+        size--;
+        notifyAll();
+        return item;
+    }
+}
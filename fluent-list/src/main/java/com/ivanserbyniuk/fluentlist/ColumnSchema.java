@@ -0,0 +1,157 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Names and types of columns of {@link ColumnarFluentList}. Columns are numbered in the order they are added.
+ * <pre>
+ *     ColumnSchema schema = ColumnSchema.create().withString("name").withInt("price");
+ * </pre>
+ */
+public final class ColumnSchema {
+
+    /**
+     * Type of column values.
+     */
+    public enum Type {
+        INT(4), LONG(8), DOUBLE(8), STRING(4);
+
+        final int width;
+
+        Type(int width) {
+            this.width = width;
+        }
+    }
+
+    private final List<String> names;
+    private final List<Type> types;
+
+    private ColumnSchema(List<String> names, List<Type> types) {
+        this.names = names;
+        this.types = types;
+    }
+
+    /**
+     * Create schema without columns.
+     * @return the column schema
+     */
+    public static ColumnSchema create() {
+        return new ColumnSchema(Collections.<String>emptyList(), Collections.<Type>emptyList());
+    }
+
+    /**
+     * Add int column.
+     * @param name the column name
+     * @return the column schema
+     */
+    public ColumnSchema withInt(String name) {
+        return with(name, Type.INT);
+    }
+
+    /**
+     * Add long column.
+     * @param name the column name
+     * @return the column schema
+     */
+    public ColumnSchema withLong(String name) {
+        return with(name, Type.LONG);
+    }
+
+    /**
+     * Add double column.
+     * @param name the column name
+     * @return the column schema
+     */
+    public ColumnSchema withDouble(String name) {
+        return with(name, Type.DOUBLE);
+    }
+
+    /**
+     * Add string column, strings are stored in UTF-8.
+     * @param name the column name
+     * @return the column schema
+     */
+    public ColumnSchema withString(String name) {
+        return with(name, Type.STRING);
+    }
+
+    /**
+     * Gets the number of columns.
+     * @return the column count
+     */
+    public int size() {
+        return names.size();
+    }
+
+    /**
+     * Gets the column number by name.
+     * @param name the column name
+     * @return the column number
+     */
+    public int indexOf(String name) {
+        int index = names.indexOf(name);
+        if (index < 0) {
+            throw new IllegalArgumentException("No column " + name + " in " + names + ".");
+        }
+        return index;
+    }
+
+    /**
+     * Gets the column name.
+     * @param column the column number
+     * @return the name
+     */
+    public String name(int column) {
+        return names.get(column);
+    }
+
+    /**
+     * Gets the column type.
+     * @param column the column number
+     * @return the type
+     */
+    public Type type(int column) {
+        return types.get(column);
+    }
+
+    /**
+     * Gets the column number by name and check its type.
+     * @param name the column name
+     * @param type the expected type
+     * @return the column number
+     */
+    int indexOf(String name, Type type) {
+        int index = indexOf(name);
+        checkType(index, type);
+        return index;
+    }
+
+    void checkType(int column, Type type) {
+        if (types.get(column) != type) {
+            throw new IllegalArgumentException("Column " + names.get(column) + " is " + types.get(column)
+                    + ", not " + type + ".");
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("ColumnSchema[");
+        for (int i = 0; i < names.size(); i++) {
+            builder.append(i == 0 ? "" : ", ").append(names.get(i)).append(' ').append(types.get(i));
+        }
+        return builder.append(']').toString();
+    }
+
+    private ColumnSchema with(String name, Type type) {
+        if (names.contains(name)) {
+            throw new IllegalArgumentException("Duplicated column " + name + ".");
+        }
+        List<String> newNames = new ArrayList<>(names);
+        newNames.add(name);
+        List<Type> newTypes = new ArrayList<>(types);
+        newTypes.add(type);
+        return new ColumnSchema(newNames, newTypes);
+    }
+}
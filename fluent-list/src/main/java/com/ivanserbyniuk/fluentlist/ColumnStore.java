@@ -0,0 +1,119 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+
+/**
+ * Column values stored in direct {@link ByteBuffer}s outside of the Java heap. Every column is one buffer of
+ * fixed-width values. A string column stores offsets into the shared string buffer, where every string is written
+ * as its UTF-8 length and bytes, -1 offset is null.
+ * <p>
+ * The store is filled once when the list is created and then only read with absolute gets, so it may be read
+ * from several threads.
+ */
+final class ColumnStore {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final int NULL_OFFSET = -1;
+
+    private final ColumnSchema schema;
+    private final ByteBuffer[] columns;
+    private final int rowCount;
+    private ByteBuffer strings;
+    private int stringsEnd;
+
+    ColumnStore(ColumnSchema schema, int rowCount) {
+        this.schema = schema;
+        this.rowCount = rowCount;
+        this.columns = new ByteBuffer[schema.size()];
+        int stringColumns = 0;
+        for (int i = 0; i < columns.length; i++) {
+            ColumnSchema.Type type = schema.type(i);
+            columns[i] = allocate((long) rowCount * type.width);
+            if (type == ColumnSchema.Type.STRING) {
+                stringColumns++;
+            }
+        }
+        strings = allocate(stringColumns == 0 ? 0 : Math.max(64L, (long) rowCount * stringColumns * 16));
+    }
+
+    ColumnSchema schema() {
+        return schema;
+    }
+
+    int rowCount() {
+        return rowCount;
+    }
+
+    int getInt(int column, int row) {
+        return columns[column].getInt(row << 2);
+    }
+
+    long getLong(int column, int row) {
+        return columns[column].getLong(row << 3);
+    }
+
+    double getDouble(int column, int row) {
+        return columns[column].getDouble(row << 3);
+    }
+
+    String getString(int column, int row) {
+        int offset = columns[column].getInt(row << 2);
+        if (offset == NULL_OFFSET) {
+            return null;
+        }
+        byte[] bytes = new byte[strings.getInt(offset)];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = strings.get(offset + 4 + i);
+        }
+        return new String(bytes, UTF_8);
+    }
+
+    void putInt(int column, int row, int value) {
+        columns[column].putInt(row << 2, value);
+    }
+
+    void putLong(int column, int row, long value) {
+        columns[column].putLong(row << 3, value);
+    }
+
+    void putDouble(int column, int row, double value) {
+        columns[column].putDouble(row << 3, value);
+    }
+
+    void putString(int column, int row, String value) {
+        if (value == null) {
+            columns[column].putInt(row << 2, NULL_OFFSET);
+            return;
+        }
+        byte[] bytes = value.getBytes(UTF_8);
+        ensureStringCapacity(4 + bytes.length);
+        strings.putInt(stringsEnd, bytes.length);
+        for (int i = 0; i < bytes.length; i++) {
+            strings.put(stringsEnd + 4 + i, bytes[i]);
+        }
+        columns[column].putInt(row << 2, stringsEnd);
+        stringsEnd += 4 + bytes.length;
+    }
+
+    private void ensureStringCapacity(int bytes) {
+        if ((long) stringsEnd + bytes <= strings.capacity()) {
+            return;
+        }
+        long capacity = Math.max((long) strings.capacity() * 2, (long) stringsEnd + bytes);
+        ByteBuffer grown = allocate(capacity);
+        ByteBuffer used = strings.duplicate();
+        used.position(0);
+        used.limit(stringsEnd);
+        grown.put(used);
+        strings = grown;
+    }
+
+    private static ByteBuffer allocate(long bytes) {
+        if (bytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Column of " + bytes + " bytes exceeds 2 GB.");
+        }
+        return ByteBuffer.allocateDirect((int) bytes).order(ByteOrder.nativeOrder());
+    }
+}
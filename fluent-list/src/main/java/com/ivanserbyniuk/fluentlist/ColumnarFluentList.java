@@ -0,0 +1,499 @@
+package com.ivanserbyniuk.fluentlist;
+
+import android.support.annotation.NonNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * Fluent list which stores elements as columns of primitive values and UTF-8 strings in direct buffers outside of
+ * the Java heap. Elements are created by {@link RowMapper#read} only when they are accessed, so a list of millions
+ * of rows doesn't hold millions of objects and doesn't load the garbage collector.
+ * <p>
+ * Column operations such as {@link #filterInt}, {@link #sumInt}, {@link #sortedByInt} and {@link #groupByString}
+ * read the columns directly without creating elements. They return lists which share the columns and keep only the
+ * numbers of the selected rows. Operations of {@link FluentList} create elements of every row and return usual
+ * lists. The list is read-only.
+ * <pre>
+ *     ColumnarFluentList&lt;Product&gt; products = FluentList.from(loaded)
+ *             .toColumnar(ColumnSchema.create().withString("name").withInt("price"), new ProductMapper());
+ *     long total = products.filterInt("price", price -&gt; price &gt; 100).sumInt("price");
+ * </pre>
+ * @param <T> the type parameter
+ */
+public class ColumnarFluentList<T>
+        extends FluentList<T> {
+
+    private final ColumnStore store;
+    private final RowMapper<T> mapper;
+    private final int[] rows;
+
+    private ColumnarFluentList(ColumnStore store, RowMapper<T> mapper, int[] rows) {
+        super(new Rows<>(store, mapper, rows));
+        this.store = store;
+        this.mapper = mapper;
+        this.rows = rows;
+    }
+
+    /**
+     * Create columnar list with columns of [items].
+     * @param <T> the type parameter
+     * @param items the items
+     * @param schema the schema of columns
+     * @param mapper the mapper of items to rows
+     * @return the columnar fluent list
+     */
+    public static <T> ColumnarFluentList<T> of(@NonNull Collection<? extends T> items, ColumnSchema schema,
+                                               RowMapper<T> mapper) {
+        ColumnStore store = new ColumnStore(schema, items.size());
+        Row row = new Row(store, 0);
+        int index = 0;
+        for (T item : items) {
+            row.moveTo(index++);
+            mapper.write(item, row);
+        }
+        return new ColumnarFluentList<>(store, mapper, null);
+    }
+
+    /**
+     * Gets the schema of columns.
+     * @return the schema
+     */
+    public ColumnSchema schema() {
+        return store.schema();
+    }
+
+    /**
+     * Filter rows by value of int column.
+     * @param column the column name
+     * @param predicate the predicate
+     * @return the columnar fluent list
+     */
+    public ColumnarFluentList<T> filterInt(String column, ListUtils.IntPredicate predicate) {
+        int index = store.schema().indexOf(column, ColumnSchema.Type.INT);
+        int size = size();
+        int[] selected = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            int row = row(i);
+            if (predicate.test(store.getInt(index, row))) {
+                selected[count++] = row;
+            }
+        }
+        return select(selected, count);
+    }
+
+    /**
+     * Filter rows by value of long column.
+     * @param column the column name
+     * @param predicate the predicate
+     * @return the columnar fluent list
+     */
+    public ColumnarFluentList<T> filterLong(String column, ListUtils.LongPredicate predicate) {
+        int index = store.schema().indexOf(column, ColumnSchema.Type.LONG);
+        int size = size();
+        int[] selected = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            int row = row(i);
+            if (predicate.test(store.getLong(index, row))) {
+                selected[count++] = row;
+            }
+        }
+        return select(selected, count);
+    }
+
+    /**
+     * Filter rows by value of double column.
+     * @param column the column name
+     * @param predicate the predicate
+     * @return the columnar fluent list
+     */
+    public ColumnarFluentList<T> filterDouble(String column, ListUtils.DoublePredicate predicate) {
+        int index = store.schema().indexOf(column, ColumnSchema.Type.DOUBLE);
+        int size = size();
+        int[] selected = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            int row = row(i);
+            if (predicate.test(store.getDouble(index, row))) {
+                selected[count++] = row;
+            }
+        }
+        return select(selected, count);
+    }
+
+    /**
+     * Filter rows by value of string column.
+     * @param column the column name
+     * @param predicate the predicate
+     * @return the columnar fluent list
+     */
+    public ColumnarFluentList<T> filterString(String column, ListUtils.Predicate<String> predicate) {
+        int index = store.schema().indexOf(column, ColumnSchema.Type.STRING);
+        int size = size();
+        int[] selected = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            int row = row(i);
+            if (predicate.test(store.getString(index, row))) {
+                selected[count++] = row;
+            }
+        }
+        return select(selected, count);
+    }
+
+    /**
+     * Sum values of int column.
+     * @param column the column name
+     * @return the sum
+     */
+    public long sumInt(String column) {
+        int index = store.schema().indexOf(column, ColumnSchema.Type.INT);
+        long sum = 0;
+        for (int i = 0, size = size(); i < size; i++) {
+            sum += store.getInt(index, row(i));
+        }
+        return sum;
+    }
+
+    /**
+     * Sum values of long column.
+     * @param column the column name
+     * @return the sum
+     */
+    public long sumLong(String column) {
+        int index = store.schema().indexOf(column, ColumnSchema.Type.LONG);
+        long sum = 0;
+        for (int i = 0, size = size(); i < size; i++) {
+            sum += store.getLong(index, row(i));
+        }
+        return sum;
+    }
+
+    /**
+     * Sum values of double column.
+     * @param column the column name
+     * @return the sum
+     */
+    public double sumDouble(String column) {
+        int index = store.schema().indexOf(column, ColumnSchema.Type.DOUBLE);
+        double sum = 0;
+        for (int i = 0, size = size(); i < size; i++) {
+            sum += store.getDouble(index, row(i));
+        }
+        return sum;
+    }
+
+    /**
+     * Find element with the smallest value of int column, only this element is created.
+     * @param column the column name
+     * @return the element
+     */
+    public T minByInt(String column) {
+        return extreme(store.schema().indexOf(column, ColumnSchema.Type.INT), -1);
+    }
+
+    /**
+     * Find element with the largest value of int column, only this element is created.
+     * @param column the column name
+     * @return the element
+     */
+    public T maxByInt(String column) {
+        return extreme(store.schema().indexOf(column, ColumnSchema.Type.INT), 1);
+    }
+
+    /**
+     * Find element with the smallest value of long column, only this element is created.
+     * @param column the column name
+     * @return the element
+     */
+    public T minByLong(String column) {
+        return extreme(store.schema().indexOf(column, ColumnSchema.Type.LONG), -1);
+    }
+
+    /**
+     * Find element with the largest value of long column, only this element is created.
+     * @param column the column name
+     * @return the element
+     */
+    public T maxByLong(String column) {
+        return extreme(store.schema().indexOf(column, ColumnSchema.Type.LONG), 1);
+    }
+
+    /**
+     * Find element with the smallest value of double column, only this element is created.
+     * @param column the column name
+     * @return the element
+     */
+    public T minByDouble(String column) {
+        return extreme(store.schema().indexOf(column, ColumnSchema.Type.DOUBLE), -1);
+    }
+
+    /**
+     * Find element with the largest value of double column, only this element is created.
+     * @param column the column name
+     * @return the element
+     */
+    public T maxByDouble(String column) {
+        return extreme(store.schema().indexOf(column, ColumnSchema.Type.DOUBLE), 1);
+    }
+
+    /**
+     * Sort rows by int column, the sort is stable.
+     * @param column the column name
+     * @return the columnar fluent list
+     */
+    public ColumnarFluentList<T> sortedByInt(String column) {
+        int index = store.schema().indexOf(column, ColumnSchema.Type.INT);
+        int[] keys = new int[size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = store.getInt(index, row(i));
+        }
+        return reorder(Sorting.sortedIndexes(keys, false));
+    }
+
+    /**
+     * Sort rows by long column, the sort is stable.
+     * @param column the column name
+     * @return the columnar fluent list
+     */
+    public ColumnarFluentList<T> sortedByLong(String column) {
+        int index = store.schema().indexOf(column, ColumnSchema.Type.LONG);
+        long[] keys = new long[size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = store.getLong(index, row(i));
+        }
+        return reorder(Sorting.sortedIndexes(keys, false));
+    }
+
+    /**
+     * Sort rows by string column, the sort is stable. The column must not contain nulls.
+     * @param column the column name
+     * @return the columnar fluent list
+     */
+    public ColumnarFluentList<T> sortedByString(String column) {
+        int index = store.schema().indexOf(column, ColumnSchema.Type.STRING);
+        Object[] keys = new Object[size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = store.getString(index, row(i));
+        }
+        return reorder(Sorting.sortedIndexes(keys, false));
+    }
+
+    /**
+     * Group rows by value of int column. Every group shares the columns of this list.
+     * @param column the column name
+     * @return the groups
+     */
+    @NonNull
+    public Map<Integer, ColumnarFluentList<T>> groupByInt(String column) {
+        int index = store.schema().indexOf(column, ColumnSchema.Type.INT);
+        Map<Integer, RowSet> groups = new HashMap<>();
+        for (int i = 0, size = size(); i < size; i++) {
+            int row = row(i);
+            add(groups, store.getInt(index, row), row);
+        }
+        return groups(groups);
+    }
+
+    /**
+     * Group rows by value of string column. Every group shares the columns of this list.
+     * @param column the column name
+     * @return the groups
+     */
+    @NonNull
+    public Map<String, ColumnarFluentList<T>> groupByString(String column) {
+        int index = store.schema().indexOf(column, ColumnSchema.Type.STRING);
+        Map<String, RowSet> groups = new HashMap<>();
+        for (int i = 0, size = size(); i < size; i++) {
+            int row = row(i);
+            add(groups, store.getString(index, row), row);
+        }
+        return groups(groups);
+    }
+
+    /**
+     * Copy values of int column to primitive list.
+     * @param column the column name
+     * @return the int fluent list
+     */
+    public IntFluentList mapToInt(String column) {
+        int index = store.schema().indexOf(column, ColumnSchema.Type.INT);
+        int[] values = new int[size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = store.getInt(index, row(i));
+        }
+        return new IntFluentList(values, values.length);
+    }
+
+    /**
+     * Copy values of long column to primitive list.
+     * @param column the column name
+     * @return the long fluent list
+     */
+    public LongFluentList mapToLong(String column) {
+        int index = store.schema().indexOf(column, ColumnSchema.Type.LONG);
+        long[] values = new long[size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = store.getLong(index, row(i));
+        }
+        return new LongFluentList(values, values.length);
+    }
+
+    /**
+     * Copy values of double column to primitive list.
+     * @param column the column name
+     * @return the double fluent list
+     */
+    public DoubleFluentList mapToDouble(String column) {
+        int index = store.schema().indexOf(column, ColumnSchema.Type.DOUBLE);
+        double[] values = new double[size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = store.getDouble(index, row(i));
+        }
+        return new DoubleFluentList(values, values.length);
+    }
+
+    private int row(int index) {
+        return rows == null ? index : rows[index];
+    }
+
+    private ColumnarFluentList<T> select(int[] selected, int count) {
+        return new ColumnarFluentList<>(store, mapper, count == selected.length ? selected
+                : Arrays.copyOf(selected, count));
+    }
+
+    private ColumnarFluentList<T> reorder(int[] indexes) {
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = row(indexes[i]);
+        }
+        return new ColumnarFluentList<>(store, mapper, indexes);
+    }
+
+    private T extreme(int column, int sign) {
+        int size = size();
+        if (size == 0) {
+            throw new UnsupportedOperationException("Empty collection can't be reduced.");
+        }
+        ColumnSchema.Type type = store.schema().type(column);
+        int best = row(0);
+        for (int i = 1; i < size; i++) {
+            int row = row(i);
+            int result;
+            if (type == ColumnSchema.Type.DOUBLE) {
+                result = Double.compare(store.getDouble(column, row), store.getDouble(column, best));
+            } else {
+                long value = type == ColumnSchema.Type.INT ? store.getInt(column, row) : store.getLong(column, row);
+                long bestValue = type == ColumnSchema.Type.INT ? store.getInt(column, best)
+                        : store.getLong(column, best);
+                result = value < bestValue ? -1 : (value == bestValue ? 0 : 1);
+            }
+            if (result * sign > 0) {
+                best = row;
+            }
+        }
+        return mapper.read(new Row(store, best));
+    }
+
+    private static <K> void add(Map<K, RowSet> groups, K key, int row) {
+        RowSet group = groups.get(key);
+        if (group == null) {
+            group = new RowSet();
+            groups.put(key, group);
+        }
+        group.add(row);
+    }
+
+    private <K> Map<K, ColumnarFluentList<T>> groups(Map<K, RowSet> groups) {
+        Map<K, ColumnarFluentList<T>> result = new HashMap<>(Grouping.capacity(groups.size()));
+        for (Map.Entry<K, RowSet> entry : groups.entrySet()) {
+            RowSet group = entry.getValue();
+            result.put(entry.getKey(), select(group.rows, group.size));
+        }
+        return result;
+    }
+
+    /**
+     * Growing array of row numbers.
+     */
+    private static final class RowSet {
+
+        int[] rows = new int[4];
+        int size;
+
+        void add(int row) {
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, size * 2);
+            }
+            rows[size++] = row;
+        }
+    }
+
+    /**
+     * Elements of the selected rows, created on every access.
+     * @param <T> the type parameter
+     */
+    private static final class Rows<T>
+            extends AbstractList<T>
+            implements RandomAccess {
+
+        private final ColumnStore store;
+        private final RowMapper<T> mapper;
+        private final int[] rows;
+
+        Rows(ColumnStore store, RowMapper<T> mapper, int[] rows) {
+            this.store = store;
+            this.mapper = mapper;
+            this.rows = rows;
+        }
+
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            return mapper.read(new Row(store, rows == null ? index : rows[index]));
+        }
+
+        @Override
+        public int size() {
+            return rows == null ? store.rowCount() : rows.length;
+        }
+
+        @NonNull
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<T>() {
+                private final Row row = new Row(store, 0);
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < size();
+                }
+
+                @Override
+                public T next() {
+                    if (index >= size()) {
+                        throw new NoSuchElementException();
+                    }
+                    row.moveTo(rows == null ? index : rows[index]);
+                    index++;
+                    return mapper.read(row);
+                }
+
+                @Override
+                public void remove() {
+                    throw new UnsupportedOperationException("Read-only list");
+                }
+            };
+        }
+    }
+}
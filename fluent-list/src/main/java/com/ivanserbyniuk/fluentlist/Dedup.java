@@ -0,0 +1,227 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Open-addressing hash sets used to remove duplicates. Keys are stored directly in one array without entry objects,
+ * primitive keys are not boxed. Sets only grow, they are created for one distinct operation.
+ */
+final class Dedup {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private Dedup() {
+    }
+
+    /**
+     * Table capacity which keeps the load factor under 0.5 for [expectedSize] keys.
+     * @param expectedSize the expected size
+     * @return the power of two capacity
+     */
+    static int capacity(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2 && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Keep the first element of every run of equal elements.
+     * @param list the list, equal elements must be adjacent
+     * @return the list without duplicates
+     */
+    static <T> List<T> distinctAdjacent(List<T> list) {
+        List<T> result = new ArrayList<>();
+        boolean first = true;
+        T previous = null;
+        for (T item : list) {
+            if (first || (item == null ? previous != null : !item.equals(previous))) {
+                result.add(item);
+                previous = item;
+                first = false;
+            }
+        }
+        return result;
+    }
+
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Set of objects compared by equals.
+     */
+    static final class ObjectSet {
+
+        private Object[] table;
+        private int size;
+        private boolean containsNull;
+
+        ObjectSet(int expectedSize) {
+            table = new Object[capacity(expectedSize)];
+        }
+
+        /**
+         * Add key.
+         * @param key the key
+         * @return true if the key wasn't in the set
+         */
+        boolean add(Object key) {
+            if (key == null) {
+                if (containsNull) {
+                    return false;
+                }
+                containsNull = true;
+                return true;
+            }
+            int mask = table.length - 1;
+            int index = mix(key.hashCode()) & mask;
+            Object current;
+            while ((current = table[index]) != null) {
+                if (current == key || current.equals(key)) {
+                    return false;
+                }
+                index = (index + 1) & mask;
+            }
+            table[index] = key;
+            if (++size * 2 > table.length) {
+                rehash();
+            }
+            return true;
+        }
+
+        private void rehash() {
+            Object[] old = table;
+            table = new Object[old.length * 2];
+            int mask = table.length - 1;
+            for (Object key : old) {
+                if (key != null) {
+                    int index = mix(key.hashCode()) & mask;
+                    while (table[index] != null) {
+                        index = (index + 1) & mask;
+                    }
+                    table[index] = key;
+                }
+            }
+        }
+    }
+
+    /**
+     * Set of int keys.
+     */
+    static final class IntSet {
+
+        private int[] table;
+        private int size;
+        private boolean containsZero;
+
+        IntSet(int expectedSize) {
+            table = new int[capacity(expectedSize)];
+        }
+
+        /**
+         * Add key.
+         * @param key the key
+         * @return true if the key wasn't in the set
+         */
+        boolean add(int key) {
+            if (key == 0) {
+                if (containsZero) {
+                    return false;
+                }
+                containsZero = true;
+                return true;
+            }
+            int mask = table.length - 1;
+            int index = mix(key) & mask;
+            int current;
+            while ((current = table[index]) != 0) {
+                if (current == key) {
+                    return false;
+                }
+                index = (index + 1) & mask;
+            }
+            table[index] = key;
+            if (++size * 2 > table.length) {
+                rehash();
+            }
+            return true;
+        }
+
+        private void rehash() {
+            int[] old = table;
+            table = new int[old.length * 2];
+            int mask = table.length - 1;
+            for (int key : old) {
+                if (key != 0) {
+                    int index = mix(key) & mask;
+                    while (table[index] != 0) {
+                        index = (index + 1) & mask;
+                    }
+                    table[index] = key;
+                }
+            }
+        }
+    }
+
+    /**
+     * Set of long keys.
+     */
+    static final class LongSet {
+
+        private long[] table;
+        private int size;
+        private boolean containsZero;
+
+        LongSet(int expectedSize) {
+            table = new long[capacity(expectedSize)];
+        }
+
+        /**
+         * Add key.
+         * @param key the key
+         * @return true if the key wasn't in the set
+         */
+        boolean add(long key) {
+            if (key == 0) {
+                if (containsZero) {
+                    return false;
+                }
+                containsZero = true;
+                return true;
+            }
+            int mask = table.length - 1;
+            int index = mix((int) (key ^ (key >>> 32))) & mask;
+            long current;
+            while ((current = table[index]) != 0) {
+                if (current == key) {
+                    return false;
+                }
+                index = (index + 1) & mask;
+            }
+            table[index] = key;
+            if (++size * 2 > table.length) {
+                rehash();
+            }
+            return true;
+        }
+
+        private void rehash() {
+            long[] old = table;
+            table = new long[old.length * 2];
+            int mask = table.length - 1;
+            for (long key : old) {
+                if (key != 0) {
+                    int index = mix((int) (key ^ (key >>> 32))) & mask;
+                    while (table[index] != 0) {
+                        index = (index + 1) & mask;
+                    }
+                    table[index] = key;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.ivanserbyniuk.fluentlist;
+
+import android.support.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable list of doubles backed by a double array. Operations don't box values.
+ */
+public class DoubleFluentList {
+
+    private static final double[] EMPTY = new double[0];
+
+    private final double[] values;
+    private final int size;
+
+    DoubleFluentList(double[] values, int size) {
+        this.values = values;
+        this.size = size;
+    }
+
+    /**
+     * Create DoubleFluentList from values.
+     * @param values the values
+     * @return the double fluent list
+     */
+    public static DoubleFluentList of(double... values) {
+        return new DoubleFluentList(values.clone(), values.length);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public double get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return values[index];
+    }
+
+    /**
+     * Filter list by predicate.
+     * @param predicate the predicate
+     * @return the double fluent list
+     */
+    public DoubleFluentList filter(final ListUtils.DoublePredicate predicate) {
+        double[] result = new double[size];
+        int resultSize = 0;
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(values[i])) {
+                result[resultSize++] = values[i];
+            }
+        }
+        return new DoubleFluentList(result, resultSize);
+    }
+
+    /**
+     * Transform list items and return new list.
+     * @param transform the transform
+     * @return the double fluent list
+     */
+    public DoubleFluentList map(final ListUtils.DoubleTransformFunc transform) {
+        double[] result = new double[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = transform.apply(values[i]);
+        }
+        return new DoubleFluentList(result, size);
+    }
+
+    /**
+     * Returns the number of elements matching the given [predicate].
+     */
+    public int count(final ListUtils.DoublePredicate predicate) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(values[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Is at least one element matches the given [predicate].
+     * @param predicate the predicate
+     * @return `true` if at least one element matches the given [predicate]
+     */
+    public boolean any(final ListUtils.DoublePredicate predicate) {
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(values[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the sum of all values.
+     */
+    public double sum() {
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the smallest value or throw exception if there are no values.
+     */
+    public double min() {
+        checkNotEmpty();
+        double min = values[0];
+        for (int i = 1; i < size; i++) {
+            if (values[i] < min) {
+                min = values[i];
+            }
+        }
+        return min;
+    }
+
+    /**
+     * Returns the largest value or throw exception if there are no values.
+     */
+    public double max() {
+        checkNotEmpty();
+        double max = values[0];
+        for (int i = 1; i < size; i++) {
+            if (values[i] > max) {
+                max = values[i];
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the average of all values or NaN if there are no values.
+     */
+    public double average() {
+        return size == 0 ? Double.NaN : sum() / size;
+    }
+
+    /**
+     * Returns the list sorted in ascending order.
+     */
+    public DoubleFluentList sorted() {
+        double[] result = Arrays.copyOf(values, size);
+        Arrays.sort(result);
+        return new DoubleFluentList(result, size);
+    }
+
+    /**
+     * Copy values to the new array.
+     */
+    @NonNull
+    public double[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Create FluentList of boxed values.
+     */
+    @NonNull
+    public FluentList<Double> boxed() {
+        List<Double> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(values[i]);
+        }
+        return FluentList.from(list);
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new UnsupportedOperationException("Empty collection can't be reduced.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
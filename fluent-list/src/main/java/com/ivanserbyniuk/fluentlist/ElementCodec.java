@@ -0,0 +1,38 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.io.IOException;
+
+/**
+ * Writes elements of {@link FluentListCodec} streams and reads them back.
+ * <pre>
+ *     class ProductCodec implements ElementCodec&lt;Product&gt; {
+ *         public void write(Product product, BinaryOutput output) throws IOException {
+ *             output.writeString(product.getName());
+ *             output.writeSignedVarInt(product.getPrice());
+ *         }
+ *
+ *         public Product read(BinaryInput input) throws IOException {
+ *             return new Product(input.readString(), input.readSignedVarInt());
+ *         }
+ *     }
+ * </pre>
+ * @param <T> the type parameter
+ */
+public interface ElementCodec<T> {
+
+    /**
+     * Write element.
+     * @param item the item
+     * @param output the output
+     * @throws IOException if the output can't be written
+     */
+    void write(T item, BinaryOutput output) throws IOException;
+
+    /**
+     * Read element.
+     * @param input the input
+     * @return the element
+     * @throws IOException if the input can't be read
+     */
+    T read(BinaryInput input) throws IOException;
+}
@@ -0,0 +1,84 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.io.IOException;
+
+/**
+ * Codecs of elements of common types.
+ */
+public final class ElementCodecs {
+
+    private ElementCodecs() {
+    }
+
+    /**
+     * Codec of ints written as zigzag varints.
+     * @return the element codec
+     */
+    public static ElementCodec<Integer> ints() {
+        return new ElementCodec<Integer>() {
+            @Override
+            public void write(Integer item, BinaryOutput output) throws IOException {
+                output.writeSignedVarInt(item);
+            }
+
+            @Override
+            public Integer read(BinaryInput input) throws IOException {
+                return input.readSignedVarInt();
+            }
+        };
+    }
+
+    /**
+     * Codec of longs written as zigzag varints.
+     * @return the element codec
+     */
+    public static ElementCodec<Long> longs() {
+        return new ElementCodec<Long>() {
+            @Override
+            public void write(Long item, BinaryOutput output) throws IOException {
+                output.writeSignedVarLong(item);
+            }
+
+            @Override
+            public Long read(BinaryInput input) throws IOException {
+                return input.readSignedVarLong();
+            }
+        };
+    }
+
+    /**
+     * Codec of doubles written as 8 bytes.
+     * @return the element codec
+     */
+    public static ElementCodec<Double> doubles() {
+        return new ElementCodec<Double>() {
+            @Override
+            public void write(Double item, BinaryOutput output) throws IOException {
+                output.writeDouble(item);
+            }
+
+            @Override
+            public Double read(BinaryInput input) throws IOException {
+                return input.readDouble();
+            }
+        };
+    }
+
+    /**
+     * Codec of nullable strings, repeated strings are written once when the dictionary is enabled.
+     * @return the element codec
+     */
+    public static ElementCodec<String> strings() {
+        return new ElementCodec<String>() {
+            @Override
+            public void write(String item, BinaryOutput output) throws IOException {
+                output.writeString(item);
+            }
+
+            @Override
+            public String read(BinaryInput input) throws IOException {
+                return input.readString();
+            }
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package com.ivanserbyniuk.fluentlist;
+
+/**
+ * Observable view of the elements of the source matching the predicate. The predicate is tested once for every
+ * added or replaced element, removed elements are found by their source index.
+ * @param <T> the type parameter
+ */
+final class FilteredObservableList<T>
+        extends IndexedObservableList<T>
+        implements ListChangeListener<T> {
+
+    private final ObservableList<T> source;
+    private final ListUtils.Predicate<T> predicate;
+
+    FilteredObservableList(ObservableList<T> source, ListUtils.Predicate<T> predicate) {
+        super(source);
+        this.source = source;
+        this.predicate = predicate;
+        for (int i = 0, size = source.size(); i < size; i++) {
+            T item = source.get(i);
+            sourceAdded(i, item, predicate.test(item));
+        }
+        source.addListener(this);
+    }
+
+    @Override
+    public void onItemAdded(int index, T item) {
+        sourceAdded(index, item, predicate.test(item));
+    }
+
+    @Override
+    public void onItemRemoved(int index, T item) {
+        sourceRemoved(index, item);
+    }
+
+    @Override
+    public void onItemChanged(int index, T oldItem, T newItem) {
+        sourceChanged(index, oldItem, newItem, predicate.test(newItem));
+    }
+
+    @Override
+    void dispose() {
+        source.removeListener(this);
+    }
+}
@@ -0,0 +1,291 @@
+package com.ivanserbyniuk.fluentlist;
+
+import android.support.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Result of the operation which applies blocking function to every element of the list on the executor, e.g. a
+ * database lookup. At most [concurrency] elements are processed at the same time, results keep encounter order.
+ * The first failure cancels the operation, workers are interrupted and remaining elements are not processed.
+ * <pre>
+ *     FluentList&lt;Profile&gt; profiles = users.mapAsync(16, user -&gt; database.loadProfile(user.id)).join();
+ * </pre>
+ * @param <R> the type parameter
+ */
+public final class FluentFuture<R>
+        implements Future<FluentList<R>> {
+
+    private static ExecutorService ioExecutor;
+
+    private final Object[] items;
+    private final Step step;
+    private final Assembler<R> assembler;
+    private final Object[] results;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+    private final CountDownLatch finished = new CountDownLatch(1);
+    private final Object lock = new Object();
+    private final Set<Thread> running = new HashSet<>();
+    private volatile Throwable failure;
+    private volatile boolean cancelled;
+    private volatile FluentList<R> value;
+
+    private FluentFuture(Object[] items, Step step, Assembler<R> assembler) {
+        this.items = items;
+        this.step = step;
+        this.assembler = assembler;
+        this.results = new Object[items.length];
+    }
+
+    /**
+     * Shared executor for blocking functions with daemon threads, threads are created on demand and stop when
+     * they are idle.
+     * @return the executor
+     */
+    public static synchronized ExecutorService ioExecutor() {
+        if (ioExecutor == null) {
+            ioExecutor = Executors.newCachedThreadPool(new ThreadFactory() {
+                private final AtomicInteger count = new AtomicInteger();
+
+                @Override
+                public Thread newThread(@NonNull Runnable runnable) {
+                    Thread thread = new Thread(runnable, "fluent-list-io-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return ioExecutor;
+    }
+
+    static <T, R> FluentFuture<R> map(List<T> list, Executor executor, int concurrency,
+            final ListUtils.TransformFunc<T, R> transform) {
+        final Object[] items = list.toArray();
+        FluentFuture<R> future = new FluentFuture<>(items, new Step() {
+            @Override
+            public Object apply(int index) {
+                return transform.apply(Sorting.<T>item(items, index));
+            }
+        }, new Assembler<R>() {
+            @Override
+            public List<R> assemble(Object[] results) {
+                List<R> result = new ArrayList<>(results.length);
+                for (int i = 0; i < results.length; i++) {
+                    result.add(Sorting.<R>item(results, i));
+                }
+                return result;
+            }
+        });
+        future.start(executor, concurrency);
+        return future;
+    }
+
+    static <T> FluentFuture<T> filter(List<T> list, Executor executor, int concurrency,
+            final ListUtils.Predicate<T> predicate) {
+        final Object[] items = list.toArray();
+        FluentFuture<T> future = new FluentFuture<>(items, new Step() {
+            @Override
+            public Object apply(int index) {
+                return predicate.test(Sorting.<T>item(items, index)) ? Boolean.TRUE : Boolean.FALSE;
+            }
+        }, new Assembler<T>() {
+            @Override
+            public List<T> assemble(Object[] results) {
+                List<T> result = new ArrayList<>();
+                for (int i = 0; i < results.length; i++) {
+                    if (results[i] == Boolean.TRUE) {
+                        result.add(Sorting.<T>item(items, i));
+                    }
+                }
+                return result;
+            }
+        });
+        future.start(executor, concurrency);
+        return future;
+    }
+
+    /**
+     * Wait for the result. The failure of the function is thrown as is if it's unchecked, otherwise it's wrapped to
+     * {@link RuntimeException}. The interrupted waiting cancels the operation.
+     * @return the fluent list
+     */
+    public FluentList<R> join() {
+        try {
+            return get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        } catch (InterruptedException e) {
+            cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        synchronized (lock) {
+            if (isDone()) {
+                return false;
+            }
+            cancelled = true;
+            if (mayInterruptIfRunning) {
+                interruptRunning();
+            }
+        }
+        finished.countDown();
+        return true;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public boolean isDone() {
+        return finished.getCount() == 0;
+    }
+
+    @Override
+    public FluentList<R> get() throws InterruptedException, ExecutionException {
+        finished.await();
+        return result();
+    }
+
+    @Override
+    public FluentList<R> get(long timeout, @NonNull TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        if (!finished.await(timeout, unit)) {
+            throw new TimeoutException();
+        }
+        return result();
+    }
+
+    private FluentList<R> result() throws ExecutionException {
+        if (cancelled) {
+            throw new CancellationException();
+        }
+        if (failure != null) {
+            throw new ExecutionException(failure);
+        }
+        return value;
+    }
+
+    private void start(Executor executor, int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency " + concurrency + " is less than one.");
+        }
+        int workerCount = Math.min(concurrency, items.length);
+        activeWorkers.set(workerCount + 1);
+        for (int i = 0; i < workerCount; i++) {
+            try {
+                executor.execute(new Worker());
+            } catch (RejectedExecutionException e) {
+                fail(e);
+                activeWorkers.addAndGet(i - workerCount);
+                break;
+            }
+        }
+        workerFinished();
+    }
+
+    private void fail(Throwable e) {
+        synchronized (lock) {
+            if (failure == null && !cancelled) {
+                failure = e;
+                interruptRunning();
+            }
+        }
+    }
+
+    private void interruptRunning() {
+        Thread current = Thread.currentThread();
+        for (Thread thread : running) {
+            if (thread != current) {
+                thread.interrupt();
+            }
+        }
+    }
+
+    private void workerFinished() {
+        if (activeWorkers.decrementAndGet() != 0) {
+            return;
+        }
+        if (failure == null && !cancelled) {
+            try {
+                value = FluentList.from(assembler.assemble(results));
+            } catch (RuntimeException | Error e) {
+                failure = e;
+            }
+        }
+        finished.countDown();
+    }
+
+    /**
+     * Processes elements until all elements are taken or the operation fails.
+     */
+    private final class Worker
+            implements Runnable {
+
+        @Override
+        public void run() {
+            Thread thread = Thread.currentThread();
+            synchronized (lock) {
+                running.add(thread);
+            }
+            try {
+                int index;
+                while (failure == null && !cancelled && (index = next.getAndIncrement()) < items.length) {
+                    results[index] = step.apply(index);
+                }
+            } catch (RuntimeException | Error e) {
+                fail(e);
+            } finally {
+                synchronized (lock) {
+                    running.remove(thread);
+                }
+                workerFinished();
+            }
+        }
+    }
+
+    /**
+     * Function applied to the element at index.
+     */
+    private interface Step {
+
+        Object apply(int index);
+    }
+
+    /**
+     * Creates the result from the results of elements.
+     * @param <R> the type parameter
+     */
+    private interface Assembler<R> {
+
+        List<R> assemble(Object[] results);
+    }
+}
@@ -2,10 +2,11 @@ package com.ivanserbyniuk.fluentlist;
 
 import android.support.annotation.NonNull;
 
+import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.Array;
 import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -13,7 +14,10 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 /**
  * The type Fluent list.
@@ -23,8 +27,9 @@ public class FluentList<T>
         implements List<T> {
 
     private final List<T> list;
+    private List<ListIndex<T, ?>> indexes;
 
-    private FluentList(List<T> list) {
+    FluentList(List<T> list) {
         this.list = list;
     }
 
@@ -45,7 +50,7 @@ public class FluentList<T>
      * @return the fluent list
      */
     public static <T> FluentList<T> from(T... array) {
-        return new FluentList<>(new ArrayList<>(Arrays.asList(array)));
+        return ArrayFluentList.copyOf(array);
     }
 
     /**
@@ -55,9 +60,8 @@ public class FluentList<T>
      * @return the fluent list
      */
     public static <T> FluentList<T> from(Set<T> set) {
-        FluentList<T> fluentList = new FluentList<>(new ArrayList<T>());
-        fluentList.addAll(set);
-        return fluentList;
+        Object[] array = set.toArray();
+        return ArrayFluentList.adopt(array, array.length);
     }
 
     /**
@@ -71,18 +75,34 @@ public class FluentList<T>
         return from(map.entrySet());
     }
 
+    /**
+     * Create read-only FluentList of records of memory-mapped [file]. Records are decoded by [codec] when they are
+     * accessed, the file is not loaded to the heap.
+     * @param <T> the type parameter
+     * @param file the file written by {@link #writeTo}
+     * @param codec the codec
+     * @return the fluent list
+     * @throws IOException if the file can't be mapped
+     */
+    public static <T> FluentList<T> fromMappedFile(File file, RecordCodec<T> codec) throws IOException {
+        return from(MappedFileList.open(file, codec));
+    }
+
+    /**
+     * Create FluentList with ints from [startInclusive] to [endExclusive].
+     * @param startInclusive the start inclusive
+     * @param endExclusive the end exclusive
+     * @return the fluent list
+     */
     public static FluentList<Integer> intRange(int startInclusive, int endExclusive) {
-        ArrayList<Integer> arrayList = new ArrayList<>(endExclusive);
         if (startInclusive >= endExclusive) {
-            return from(Collections.<Integer>emptyList());
-        } else {
-            int lastIndex = startInclusive + endExclusive;
-            for (int i = startInclusive; i <= lastIndex; i++) {
-                arrayList.add(i);
-            }
+            return ArrayFluentList.withCapacity(0);
         }
-        return from(arrayList);
-
+        Object[] values = new Object[endExclusive - startInclusive];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = startInclusive + i;
+        }
+        return ArrayFluentList.adopt(values, values.length);
     }
 
     /**
@@ -92,7 +112,8 @@ public class FluentList<T>
      * @return fluent list
      */
     public <R> FluentList<R> map(final ListUtils.TransformFunc<T, R> transform) {
-        return from(ListUtils.map(list, transform));
+        long start = Instrumentation.start();
+        return result("map", start, ListUtils.map(list, transform));
     }
 
     /**
@@ -101,7 +122,82 @@ public class FluentList<T>
      * @return the fluent list
      */
     public FluentList<T> filter(final ListUtils.Predicate<T> predicate) {
-        return from(ListUtils.filter(list, predicate));
+        long start = Instrumentation.start();
+        return result("filter", start, ListUtils.filter(list, predicate));
+    }
+
+    /**
+     * Transform items with blocking [transform] on {@link FluentFuture#ioExecutor()}, at most [concurrency] items
+     * are transformed at the same time.
+     * @param <R> the type parameter
+     * @param concurrency the max number of concurrent calls
+     * @param transform the transform
+     * @return the future of the transformed list in encounter order
+     */
+    public <R> FluentFuture<R> mapAsync(int concurrency, final ListUtils.TransformFunc<T, R> transform) {
+        return mapAsync(FluentFuture.ioExecutor(), concurrency, transform);
+    }
+
+    /**
+     * Transform items with blocking [transform] on [executor], at most [concurrency] items are transformed at the
+     * same time. The first failure cancels the remaining items.
+     * @param <R> the type parameter
+     * @param executor the executor
+     * @param concurrency the max number of concurrent calls
+     * @param transform the transform
+     * @return the future of the transformed list in encounter order
+     */
+    public <R> FluentFuture<R> mapAsync(Executor executor, int concurrency,
+            final ListUtils.TransformFunc<T, R> transform) {
+        return FluentFuture.map(list, executor, concurrency, transform);
+    }
+
+    /**
+     * Filter items with blocking [predicate] on {@link FluentFuture#ioExecutor()}, at most [concurrency] items are
+     * tested at the same time.
+     * @param concurrency the max number of concurrent calls
+     * @param predicate the predicate
+     * @return the future of the filtered list in encounter order
+     */
+    public FluentFuture<T> filterAsync(int concurrency, final ListUtils.Predicate<T> predicate) {
+        return filterAsync(FluentFuture.ioExecutor(), concurrency, predicate);
+    }
+
+    /**
+     * Filter items with blocking [predicate] on [executor], at most [concurrency] items are tested at the same
+     * time. The first failure cancels the remaining items.
+     * @param executor the executor
+     * @param concurrency the max number of concurrent calls
+     * @param predicate the predicate
+     * @return the future of the filtered list in encounter order
+     */
+    public FluentFuture<T> filterAsync(Executor executor, int concurrency, final ListUtils.Predicate<T> predicate) {
+        return FluentFuture.filter(list, executor, concurrency, predicate);
+    }
+
+    /**
+     * Create lazy list, intermediate operations of which are fused and run in a single pass by a terminal operation.
+     * @return the lazy fluent list
+     */
+    public LazyFluentList<T> lazy() {
+        return LazyFluentList.from(list);
+    }
+
+    /**
+     * Create list which runs operations concurrently on the shared executor.
+     * @return the parallel fluent list
+     */
+    public ParallelFluentList<T> parallel() {
+        return parallel(ParallelFluentList.defaultExecutor());
+    }
+
+    /**
+     * Create list which runs operations concurrently on the [executor].
+     * @param executor the executor
+     * @return the parallel fluent list
+     */
+    public ParallelFluentList<T> parallel(ExecutorService executor) {
+        return new ParallelFluentList<>(list, executor, ParallelFluentList.DEFAULT_THRESHOLD);
     }
 
     /**
@@ -128,14 +224,148 @@ public class FluentList<T>
     }
 
     /**
-     * Sort list by predicate.
+     * Sort list by key.
      * @param <R> the type parameter
      * @param transform the transform
      * @return the fluent list
      */
     @NonNull
     public <R extends Comparable<R>> FluentList<T> sortedBy(final ListUtils.TransformFunc<T, R> transform) {
-        return from(ListUtils.sortedBy(list, transform));
+        long start = Instrumentation.start();
+        return result("sortedBy", start, ListUtils.sortedBy(list, transform));
+    }
+
+    /**
+     * Sort list by key in descending order.
+     * @param <R> the type parameter
+     * @param transform the transform
+     * @return the fluent list
+     */
+    @NonNull
+    public <R extends Comparable<R>> FluentList<T> sortedByDescending(final ListUtils.TransformFunc<T, R> transform) {
+        long start = Instrumentation.start();
+        return result("sortedByDescending", start, ListUtils.sortedByDescending(list, transform));
+    }
+
+    /**
+     * Sort list by int key.
+     * @param transform the transform
+     * @return the fluent list
+     */
+    @NonNull
+    public FluentList<T> sortedByInt(final ListUtils.ToIntFunc<T> transform) {
+        long start = Instrumentation.start();
+        return result("sortedByInt", start, ListUtils.sortedByInt(list, transform));
+    }
+
+    /**
+     * Sort list by long key.
+     * @param transform the transform
+     * @return the fluent list
+     */
+    @NonNull
+    public FluentList<T> sortedByLong(final ListUtils.ToLongFunc<T> transform) {
+        long start = Instrumentation.start();
+        return result("sortedByLong", start, ListUtils.sortedByLong(list, transform));
+    }
+
+    /**
+     * Select [count] elements with the highest keys without sorting the whole list, e.g. the leaderboard. Elements
+     * with equal keys keep their order, so the result is equal to {@code sortedByDescending(transform).take(count)}.
+     * @param <R> the type parameter
+     * @param count the count
+     * @param transform the key selector
+     * @return the fluent list sorted by key in descending order
+     */
+    @NonNull
+    public <R extends Comparable<R>> FluentList<T> topBy(int count, final ListUtils.TransformFunc<T, R> transform) {
+        long start = Instrumentation.start();
+        return result("topBy", start, TopK.selectBy(list, count, transform, true));
+    }
+
+    /**
+     * Select [count] elements with the lowest keys without sorting the whole list, the result is equal to
+     * {@code sortedBy(transform).take(count)}.
+     * @param <R> the type parameter
+     * @param count the count
+     * @param transform the key selector
+     * @return the fluent list sorted by key
+     */
+    @NonNull
+    public <R extends Comparable<R>> FluentList<T> bottomBy(int count, final ListUtils.TransformFunc<T, R> transform) {
+        long start = Instrumentation.start();
+        return result("bottomBy", start, TopK.selectBy(list, count, transform, false));
+    }
+
+    /**
+     * Select [count] elements with the highest int keys, keys are not boxed.
+     * @param count the count
+     * @param transform the key selector
+     * @return the fluent list sorted by key in descending order
+     */
+    @NonNull
+    public FluentList<T> topByInt(int count, final ListUtils.ToIntFunc<T> transform) {
+        long start = Instrumentation.start();
+        return result("topByInt", start, TopK.selectByInt(list, count, transform, true));
+    }
+
+    /**
+     * Select [count] elements with the lowest int keys, keys are not boxed.
+     * @param count the count
+     * @param transform the key selector
+     * @return the fluent list sorted by key
+     */
+    @NonNull
+    public FluentList<T> bottomByInt(int count, final ListUtils.ToIntFunc<T> transform) {
+        long start = Instrumentation.start();
+        return result("bottomByInt", start, TopK.selectByInt(list, count, transform, false));
+    }
+
+    /**
+     * Select [count] elements with the highest long keys, keys are not boxed.
+     * @param count the count
+     * @param transform the key selector
+     * @return the fluent list sorted by key in descending order
+     */
+    @NonNull
+    public FluentList<T> topByLong(int count, final ListUtils.ToLongFunc<T> transform) {
+        long start = Instrumentation.start();
+        return result("topByLong", start, TopK.selectByLong(list, count, transform, true));
+    }
+
+    /**
+     * Select [count] elements with the lowest long keys, keys are not boxed.
+     * @param count the count
+     * @param transform the key selector
+     * @return the fluent list sorted by key
+     */
+    @NonNull
+    public FluentList<T> bottomByLong(int count, final ListUtils.ToLongFunc<T> transform) {
+        long start = Instrumentation.start();
+        return result("bottomByLong", start, TopK.selectByLong(list, count, transform, false));
+    }
+
+    /**
+     * Find the element which would be at [index] of {@code sortedBy(transform)} without sorting the whole list,
+     * e.g. the median.
+     * @param <R> the type parameter
+     * @param index the index in the sorted list
+     * @param transform the key selector
+     * @return the element
+     */
+    public <R extends Comparable<R>> T nthBy(int index, final ListUtils.TransformFunc<T, R> transform) {
+        return TopK.nthBy(list, index, transform);
+    }
+
+    /**
+     * Sort list by several keys.
+     * @param order the order
+     * @return the fluent list
+     */
+    @NonNull
+    public FluentList<T> sortedWith(final SortOrder<T> order) {
+        long start = Instrumentation.start();
+        return result("sortedWith", start, ListUtils.sortedWith(list, order));
     }
 
     /**
@@ -155,30 +385,109 @@ public class FluentList<T>
     }
 
     /**
-     * Distinct fluent list.
-     * Users
+     * Iterate each element with int index, the index is not boxed and no iterator is created for random access
+     * lists.
+     * @param consumer the consumer
+     */
+    public void forEachIndexed(ListUtils.IntObjConsumer<T> consumer) {
+        ListUtils.forEachIndexed(list, consumer);
+    }
+
+    /**
+     * Distinct fluent list. The first occurrence of each element is kept in encounter order.
      * @return a list containing only distinct elements from the given list
      */
     public FluentList<T> distinct() {
-        return from(toSet());
+        long start = Instrumentation.start();
+        return result("distinct", start, ListUtils.distinct(list));
     }
 
     /**
-     * Distinct fluent list by keySelector.
+     * Distinct fluent list by keySelector. The first element for each key is kept in encounter order.
      * @param <K> the type parameter
      * @param keySelector the key selector
      * @return the fluent list
      */
-    public <K> FluentList distinct(final ListUtils.TransformFunc<T, K> keySelector) {
-        HashSet<K> set = new HashSet<>();
-        List<T> list = new ArrayList<>();
-        for (T item : this) {
-            K key = keySelector.apply(item);
-            if (set.add(key)) {
-                list.add(item);
-            }
+    public <K> FluentList<T> distinct(final ListUtils.TransformFunc<T, K> keySelector) {
+        long start = Instrumentation.start();
+        return result("distinct", start, ListUtils.distinctBy(list, keySelector));
+    }
+
+    /**
+     * Distinct fluent list by int key, keys are not boxed.
+     * @param keySelector the key selector
+     * @return the fluent list
+     */
+    public FluentList<T> distinctByInt(final ListUtils.ToIntFunc<T> keySelector) {
+        long start = Instrumentation.start();
+        return result("distinctByInt", start, ListUtils.distinctByInt(list, keySelector));
+    }
+
+    /**
+     * Distinct fluent list by long key, keys are not boxed.
+     * @param keySelector the key selector
+     * @return the fluent list
+     */
+    public FluentList<T> distinctByLong(final ListUtils.ToLongFunc<T> keySelector) {
+        long start = Instrumentation.start();
+        return result("distinctByLong", start, ListUtils.distinctByLong(list, keySelector));
+    }
+
+    /**
+     * Distinct fluent list for the sorted list, only adjacent equal elements are removed.
+     * @return the fluent list
+     */
+    public FluentList<T> distinctSorted() {
+        long start = Instrumentation.start();
+        return result("distinctSorted", start, ListUtils.distinctSorted(list));
+    }
+
+    /**
+     * Split list into chunks of [size] elements, the last chunk may be smaller. Chunks are views of this list, the
+     * elements are not copied.
+     * @param size the chunk size
+     * @return the fluent list of chunks
+     */
+    public FluentList<List<T>> chunked(int size) {
+        long start = Instrumentation.start();
+        return view("chunked", start, new Windows<>(list, size, size, true));
+    }
+
+    /**
+     * Create windows of [size] elements, every window starts [step] elements after the previous one. Windows
+     * smaller than [size] at the end of the list are skipped. Windows are views of this list, the elements are not
+     * copied.
+     * @param size the window size
+     * @param step the step
+     * @return the fluent list of windows
+     */
+    public FluentList<List<T>> windowed(int size, int step) {
+        return windowed(size, step, false);
+    }
+
+    /**
+     * Create windows of [size] elements, every window starts [step] elements after the previous one. Windows are
+     * views of this list, the elements are not copied.
+     * @param size the window size
+     * @param step the step
+     * @param partialWindows keep windows smaller than [size] at the end of the list
+     * @return the fluent list of windows
+     */
+    public FluentList<List<T>> windowed(int size, int step, boolean partialWindows) {
+        long start = Instrumentation.start();
+        return view("windowed", start, new Windows<>(list, size, step, partialWindows));
+    }
+
+    /**
+     * Pass the list to [consumer] by chunks of [size] elements, the last chunk may be smaller. Chunks are views of
+     * this list, so the consumer must copy a chunk to keep it.
+     * @param size the chunk size
+     * @param consumer the consumer
+     */
+    public void batchedForEach(int size, ListUtils.ConsumerFunc<List<T>> consumer) {
+        for (List<T> chunk : new Windows<>(list, size, size, true)) {
+            consumer.apply(chunk);
         }
-        return from(list);
     }
 
     /**
@@ -223,7 +532,184 @@ public class FluentList<T>
      * @return fluent list
      */
     public <R> FluentList<R> flatMap(final ListUtils.TransformFunc<T, List<R>> transformer) {
-        return from(ListUtils.flatMap(list, transformer));
+        long start = Instrumentation.start();
+        return result("flatMap", start, ListUtils.flatMap(list, transformer));
+    }
+
+    /**
+     * Gets a single list of all elements yielded from results of [transform] function, the result list is created
+     * with capacity for [expectedSize] elements.
+     * @param <R> the type parameter
+     * @param transformer the transformer
+     * @param expectedSize the expected size
+     * @return fluent list
+     */
+    public <R> FluentList<R> flatMap(final ListUtils.TransformFunc<T, List<R>> transformer, int expectedSize) {
+        long start = Instrumentation.start();
+        return result("flatMap", start, ListUtils.flatMap(list, transformer, expectedSize));
+    }
+
+    /**
+     * Gets a single list of all elements emitted by [transformer] to the sink, e.g.
+     * {@code flatMap((user, sink) -> { sink.apply(user.name); sink.apply(user.email); })}.
+     * @param <R> the type parameter
+     * @param transformer the transformer
+     * @return fluent list
+     */
+    public <R> FluentList<R> flatMap(final ListUtils.FlatMapFunc<T, R> transformer) {
+        long start = Instrumentation.start();
+        return result("flatMap", start, ListUtils.flatMap(list, transformer));
+    }
+
+    /**
+     * Gets a single list of all elements of iterables returned by [transformer].
+     * @param <R> the type parameter
+     * @param transformer the transformer
+     * @return fluent list
+     */
+    public <R> FluentList<R> flatMapIterable(final ListUtils.TransformFunc<T, ? extends Iterable<R>> transformer) {
+        long start = Instrumentation.start();
+        return result("flatMapIterable", start, ListUtils.flatMapIterable(list, transformer));
+    }
+
+    /**
+     * Gets iterator over elements of iterables returned by [transformer], which are created on demand.
+     * @param <R> the type parameter
+     * @param transformer the transformer
+     * @return the iterator
+     */
+    public <R> Iterator<R> flatMapIterator(final ListUtils.TransformFunc<T, ? extends Iterable<R>> transformer) {
+        return ListUtils.flatMapIterator(list, transformer);
+    }
+
+    /**
+     * Create key selector which computes the key of every element of this list once, pass it to {@link #sortedBy},
+     * {@link #groupBy}, {@link #distinct(ListUtils.TransformFunc)}, {@link #minBy} or {@link #maxBy} to reuse the
+     * keys between operators.
+     * @param <K> the type parameter
+     * @param keySelector the key selector
+     * @return the key cache
+     */
+    public <K> KeyCache<T, K> cachedBy(final ListUtils.TransformFunc<T, K> keySelector) {
+        return KeyCache.create(keySelector, Math.max(list.size(), 1));
+    }
+
+    /**
+     * Create hash index of elements by key, which is updated by the mutating methods of this list, e.g. to replace
+     * {@code firstOrNull(user -> user.id == id)} in a loop with {@code index.findFirst(id)}.
+     * @param <K> the type parameter
+     * @param keySelector the key selector
+     * @return the index
+     */
+    public <K> HashIndex<T, K> indexBy(final ListUtils.TransformFunc<T, K> keySelector) {
+        return attach(new HashIndex<>(keySelector, false, list.size()));
+    }
+
+    /**
+     * Create hash index of elements by unique key, which is updated by the mutating methods of this list. Adding
+     * element with the key which is already in the index throws {@link IllegalArgumentException}.
+     * @param <K> the type parameter
+     * @param keySelector the key selector
+     * @return the index
+     * @throws IllegalArgumentException if two elements have the same key
+     */
+    public <K> HashIndex<T, K> uniqueIndexBy(final ListUtils.TransformFunc<T, K> keySelector) {
+        return attach(new HashIndex<>(keySelector, true, list.size()));
+    }
+
+    /**
+     * Create sorted index of elements by key for range queries, which is updated by the mutating methods of this
+     * list.
+     * @param <K> the type parameter
+     * @param keySelector the key selector
+     * @return the index
+     */
+    public <K extends Comparable<K>> SortedIndex<T, K> sortedIndexBy(final ListUtils.TransformFunc<T, K> keySelector) {
+        return attach(new SortedIndex<>(keySelector));
+    }
+
+    /**
+     * Stop updating [index] when the list changes.
+     * @param index the index
+     */
+    public void removeIndex(ListIndex<T, ?> index) {
+        if (indexes != null) {
+            indexes.remove(index);
+            if (indexes.isEmpty()) {
+                indexes = null;
+            }
+        }
+    }
+
+    /**
+     * Combine every element with elements of [other] which have the equal key. The hash table is built on the
+     * smaller list, lists sorted by comparable keys are merged without the table. Results are in the order of this
+     * list, elements without matches are skipped, null keys don't match.
+     * <pre>
+     *     users.join(orders, user -&gt; user.id, order -&gt; order.userId,
+     *             (user, order) -&gt; user.name + order.total);
+     * </pre>
+     * @param <U> the type parameter
+     * @param <K> the type parameter
+     * @param <R> the type parameter
+     * @param other the other list
+     * @param keySelector the key selector of this list
+     * @param otherKeySelector the key selector of [other]
+     * @param combiner the combiner of matching elements
+     * @return the fluent list
+     */
+    public <U, K, R> FluentList<R> join(List<U> other, final ListUtils.TransformFunc<T, K> keySelector,
+            final ListUtils.TransformFunc<U, K> otherKeySelector, final ListUtils.JoinFunc<T, U, R> combiner) {
+        long start = Instrumentation.start();
+        return result("join", start, Joins.join(list, other, keySelector, otherKeySelector, combiner, false));
+    }
+
+    /**
+     * Combine every element with elements of [other] which have the equal key, elements without matches are
+     * combined with null.
+     * @param <U> the type parameter
+     * @param <K> the type parameter
+     * @param <R> the type parameter
+     * @param other the other list
+     * @param keySelector the key selector of this list
+     * @param otherKeySelector the key selector of [other]
+     * @param combiner the combiner of matching elements
+     * @return the fluent list
+     */
+    public <U, K, R> FluentList<R> leftJoin(List<U> other, final ListUtils.TransformFunc<T, K> keySelector,
+            final ListUtils.TransformFunc<U, K> otherKeySelector, final ListUtils.JoinFunc<T, U, R> combiner) {
+        long start = Instrumentation.start();
+        return result("leftJoin", start, Joins.join(list, other, keySelector, otherKeySelector, combiner, true));
+    }
+
+    /**
+     * Keep elements which have elements with the equal key in [other], e.g. users who have orders.
+     * @param <U> the type parameter
+     * @param <K> the type parameter
+     * @param other the other list
+     * @param keySelector the key selector of this list
+     * @param otherKeySelector the key selector of [other]
+     * @return the fluent list
+     */
+    public <U, K> FluentList<T> semiJoin(List<U> other, final ListUtils.TransformFunc<T, K> keySelector,
+            final ListUtils.TransformFunc<U, K> otherKeySelector) {
+        long start = Instrumentation.start();
+        return result("semiJoin", start, Joins.semiJoin(list, other, keySelector, otherKeySelector, true));
+    }
+
+    /**
+     * Keep elements which don't have elements with the equal key in [other], e.g. users without orders.
+     * @param <U> the type parameter
+     * @param <K> the type parameter
+     * @param other the other list
+     * @param keySelector the key selector of this list
+     * @param otherKeySelector the key selector of [other]
+     * @return the fluent list
+     */
+    public <U, K> FluentList<T> antiJoin(List<U> other, final ListUtils.TransformFunc<T, K> keySelector,
+            final ListUtils.TransformFunc<U, K> otherKeySelector) {
+        long start = Instrumentation.start();
+        return result("antiJoin", start, Joins.semiJoin(list, other, keySelector, otherKeySelector, false));
     }
 
     /**
@@ -235,7 +721,45 @@ public class FluentList<T>
      * @return the grouped map
      */
     public <K> Map<K, List<T>> groupBy(final ListUtils.TransformFunc<T, K> keySelector) {
-        return ListUtils.groupBy(list, keySelector);
+        return groupBy(keySelector, 0);
+    }
+
+    /**
+     * Groups elements of the original collection by the key returned by the given [keySelector], the map is created
+     * with the capacity for [expectedKeyCount] groups.
+     * @param <K> the type parameter
+     * @param keySelector the transform
+     * @param expectedKeyCount the expected number of groups
+     * @return the grouped map
+     */
+    public <K> Map<K, List<T>> groupBy(final ListUtils.TransformFunc<T, K> keySelector, int expectedKeyCount) {
+        long start = Instrumentation.start();
+        Map<K, List<T>> groups = ListUtils.groupBy(list, keySelector, expectedKeyCount);
+        Instrumentation.record("groupBy", list.size(), groups.size(), start,
+                Instrumentation.estimateListBytes(list.size()) + Instrumentation.estimateListBytes(0) * groups.size());
+        return groups;
+    }
+
+    /**
+     * Create grouping by the key returned by [keySelector], which aggregates groups without collecting them to
+     * lists, e.g. {@code groupingBy(user -> user.city).eachCount()}.
+     * @param <K> the type parameter
+     * @param keySelector the key selector
+     * @return the grouping
+     */
+    public <K> Grouping<T, K> groupingBy(final ListUtils.TransformFunc<T, K> keySelector) {
+        return groupingBy(keySelector, 0);
+    }
+
+    /**
+     * Create grouping by the key returned by [keySelector].
+     * @param <K> the type parameter
+     * @param keySelector the key selector
+     * @param expectedKeyCount the expected number of groups
+     * @return the grouping
+     */
+    public <K> Grouping<T, K> groupingBy(final ListUtils.TransformFunc<T, K> keySelector, int expectedKeyCount) {
+        return new Grouping<>(list, keySelector, expectedKeyCount, null, 0);
     }
 
     /**
@@ -251,12 +775,7 @@ public class FluentList<T>
      * Returns the first element yielding the smallest value of the given function or throw exception .
      */
     public <R extends Comparable<R>> T minBy(final ListUtils.TransformFunc<T, R> transform) {
-        return ListUtils.reduce(list, new ListUtils.BiOperationFunc<T, T>() {
-            @Override
-            public T apply(T first, T second) {
-                return transform.apply(first).compareTo(transform.apply(second)) == -1 ? first : second;
-            }
-        });
+        return ListUtils.minBy(list, transform);
     }
 
     /**
@@ -264,28 +783,133 @@ public class FluentList<T>
      * elements.
      */
     public <R extends Comparable<R>> T maxBy(final ListUtils.TransformFunc<T, R> transform) {
-        return ListUtils.reduce(list, new ListUtils.BiOperationFunc<T, T>() {
-            @Override
-            public T apply(T first, T second) {
-                return transform.apply(first).compareTo(transform.apply(second)) == 1 ? first : second;
-            }
-        });
+        return ListUtils.maxBy(list, transform);
+    }
+
+    /**
+     * Returns the first element yielding the smallest value of the given function or null if there are no elements.
+     */
+    public <R extends Comparable<R>> T minByOrNull(final ListUtils.TransformFunc<T, R> transform) {
+        return ListUtils.minByOrNull(list, transform);
+    }
+
+    /**
+     * Returns the first element yielding the largest value of the given function or null if there are no elements.
+     */
+    public <R extends Comparable<R>> T maxByOrNull(final ListUtils.TransformFunc<T, R> transform) {
+        return ListUtils.maxByOrNull(list, transform);
+    }
+
+    /**
+     * Returns the first elements yielding the smallest and the largest values of the given function in one traversal
+     * or throw exception if there are no elements.
+     */
+    public <R extends Comparable<R>> MinMax<T> minMaxBy(final ListUtils.TransformFunc<T, R> transform) {
+        return ListUtils.minMaxBy(list, transform);
+    }
+
+    /**
+     * Returns the first element yielding the smallest value of the given function or throw exception if there are no
+     * elements.
+     */
+    public T minByInt(final ListUtils.ToIntFunc<T> transform) {
+        return ListUtils.minByInt(list, transform);
+    }
+
+    /**
+     * Returns the first element yielding the largest value of the given function or throw exception if there are no
+     * elements.
+     */
+    public T maxByInt(final ListUtils.ToIntFunc<T> transform) {
+        return ListUtils.maxByInt(list, transform);
+    }
+
+    /**
+     * Returns the first element yielding the smallest value of the given function or throw exception if there are no
+     * elements.
+     */
+    public T minByLong(final ListUtils.ToLongFunc<T> transform) {
+        return ListUtils.minByLong(list, transform);
+    }
+
+    /**
+     * Returns the first element yielding the largest value of the given function or throw exception if there are no
+     * elements.
+     */
+    public T maxByLong(final ListUtils.ToLongFunc<T> transform) {
+        return ListUtils.maxByLong(list, transform);
+    }
+
+    /**
+     * Returns the first element yielding the smallest value of the given function or throw exception if there are no
+     * elements.
+     */
+    public T minByDouble(final ListUtils.ToDoubleFunc<T> transform) {
+        return ListUtils.minByDouble(list, transform);
+    }
+
+    /**
+     * Returns the first element yielding the largest value of the given function or throw exception if there are no
+     * elements.
+     */
+    public T maxByDouble(final ListUtils.ToDoubleFunc<T> transform) {
+        return ListUtils.maxByDouble(list, transform);
     }
 
     /**
      * Returns the sum of all values produced by [transform] function applied to each element in the collection.
      */
     public Integer sumBy(final ListUtils.TransformFunc<T, Integer> transform) {
-        List<Integer> intList = new ArrayList<>(list.size());
+        if (list.isEmpty()) {
+            throw new UnsupportedOperationException("Empty collection can't be reduced.");
+        }
+        int sum = 0;
         for (T item : list) {
-            intList.add(transform.apply(item));
+            sum += transform.apply(item);
         }
-        return ListUtils.reduce(intList, new ListUtils.BiOperationFunc<Integer, Integer>() {
-            @Override
-            public Integer apply(Integer first, Integer second) {
-                return first + second;
-            }
-        });
+        return sum;
+    }
+
+    /**
+     * Transform list items to ints and return IntFluentList.
+     * @param transform the transform
+     * @return the int fluent list
+     */
+    public IntFluentList mapToInt(final ListUtils.ToIntFunc<T> transform) {
+        int[] values = new int[list.size()];
+        int i = 0;
+        for (T item : list) {
+            values[i++] = transform.apply(item);
+        }
+        return new IntFluentList(values, values.length);
+    }
+
+    /**
+     * Transform list items to longs and return LongFluentList.
+     * @param transform the transform
+     * @return the long fluent list
+     */
+    public LongFluentList mapToLong(final ListUtils.ToLongFunc<T> transform) {
+        long[] values = new long[list.size()];
+        int i = 0;
+        for (T item : list) {
+            values[i++] = transform.apply(item);
+        }
+        return new LongFluentList(values, values.length);
+    }
+
+    /**
+     * Transform list items to doubles and return DoubleFluentList.
+     * @param transform the transform
+     * @return the double fluent list
+     */
+    public DoubleFluentList mapToDouble(final ListUtils.ToDoubleFunc<T> transform) {
+        double[] values = new double[list.size()];
+        int i = 0;
+        for (T item : list) {
+            values[i++] = transform.apply(item);
+        }
+        return new DoubleFluentList(values, values.length);
     }
 
     /**
@@ -309,11 +933,95 @@ public class FluentList<T>
         return ListUtils.joinToStringBy(list, transform);
     }
 
+    /**
+     * Create reversed copy of the list.
+     * @return the fluent list
+     */
     public FluentList<T> reversed() {
+        long start = Instrumentation.start();
         ArrayList<T> arrayList = new ArrayList<>(this.size());
         arrayList.addAll(this);
         Collections.reverse(arrayList);
-        return from(arrayList);
+        return result("reversed", start, arrayList);
+    }
+
+    /**
+     * Create reversed view of the list. The view of random access list remaps indexes and doesn't copy elements,
+     * other lists are copied.
+     * @return the fluent list
+     */
+    public FluentList<T> asReversed() {
+        if (list instanceof ReversedList) {
+            return from(((ReversedList<T>) list).original());
+        }
+        if (!(list instanceof RandomAccess)) {
+            return reversed();
+        }
+        long start = Instrumentation.start();
+        return view("asReversed", start, new ReversedList<>(indexedView(list)));
+    }
+
+    /**
+     * Create view of the first [count] elements, or of the whole list if it is shorter.
+     * @param count the count
+     * @return the fluent list
+     */
+    public FluentList<T> take(int count) {
+        checkCount(count);
+        long start = Instrumentation.start();
+        return view("take", start, indexedView(list.subList(0, Math.min(count, list.size()))));
+    }
+
+    /**
+     * Create view of the list without the first [count] elements.
+     * @param count the count
+     * @return the fluent list
+     */
+    public FluentList<T> drop(int count) {
+        checkCount(count);
+        long start = Instrumentation.start();
+        return view("drop", start, indexedView(list.subList(Math.min(count, list.size()), list.size())));
+    }
+
+    /**
+     * Create view of the leading elements matching the given [predicate].
+     * @param predicate the predicate
+     * @return the fluent list
+     */
+    public FluentList<T> takeWhile(final ListUtils.Predicate<T> predicate) {
+        long start = Instrumentation.start();
+        return view("takeWhile", start, indexedView(list.subList(0, prefixLength(predicate))));
+    }
+
+    /**
+     * Create view of the list without the leading elements matching the given [predicate].
+     * @param predicate the predicate
+     * @return the fluent list
+     */
+    public FluentList<T> dropWhile(final ListUtils.Predicate<T> predicate) {
+        long start = Instrumentation.start();
+        return view("dropWhile", start, indexedView(list.subList(prefixLength(predicate), list.size())));
+    }
+
+    /**
+     * Create view of the elements from [fromIndex] inclusive to [toIndex] exclusive.
+     * @param fromIndex the from index
+     * @param toIndex the to index
+     * @return the fluent list
+     */
+    public FluentList<T> slice(int fromIndex, int toIndex) {
+        long start = Instrumentation.start();
+        return view("slice", start, indexedView(list.subList(fromIndex, toIndex)));
+    }
+
+    /**
+     * Create copy of the list. Views returned by {@link #take}, {@link #slice}, {@link #asReversed} and others see
+     * changes of the original list, the copy doesn't.
+     * @return the fluent list
+     */
+    public FluentList<T> copy() {
+        long start = Instrumentation.start();
+        return result("copy", start, new ArrayList<>(list));
     }
 
     /**
@@ -334,52 +1042,172 @@ public class FluentList<T>
         return toArray(array);
     }
 
+    /**
+     * Create list with item appended to the end. For persistent lists the nodes are shared with this list, otherwise
+     * the list is copied.
+     * @param item the item
+     * @return the fluent list
+     */
     public FluentList<T> plus(T item) {
+        if (list instanceof PersistentVector) {
+            return from(((PersistentVector<T>) list).plus(item));
+        }
+        long start = Instrumentation.start();
         ArrayList<T> arrayList = new ArrayList<>(list.size() + 1);
         arrayList.addAll(this);
         arrayList.add(item);
-        return from(arrayList);
+        return result("plus", start, arrayList);
     }
 
+    /**
+     * Create list with items appended to the end. For persistent lists the nodes are shared with this list,
+     * otherwise the list is copied.
+     * @param iterable the items
+     * @return the fluent list
+     */
     public FluentList<T> plus(Collection<T> iterable) {
+        if (list instanceof PersistentVector) {
+            return from(((PersistentVector<T>) list).plusAll(iterable));
+        }
+        long start = Instrumentation.start();
         ArrayList<T> arrayList = new ArrayList<>(this.size() + iterable.size());
+        arrayList.addAll(this);
         arrayList.addAll(iterable);
-        return from(arrayList);
+        return result("plus", start, arrayList);
+    }
+
+    /**
+     * Create list with item replaced at [index]. For persistent lists the nodes are shared with this list, otherwise
+     * the list is copied.
+     * @param index the index
+     * @param item the item
+     * @return the fluent list
+     */
+    public FluentList<T> with(int index, T item) {
+        if (list instanceof PersistentVector) {
+            return from(((PersistentVector<T>) list).with(index, item));
+        }
+        long start = Instrumentation.start();
+        ArrayList<T> arrayList = new ArrayList<>(list);
+        arrayList.set(index, item);
+        return result("with", start, arrayList);
+    }
+
+    /**
+     * Create persistent list. {@link #plus}, {@link #with} and {@link #subList} of persistent list share the
+     * structure with the original list instead of copying it, mutating methods throw exception.
+     * @return the fluent list
+     */
+    public FluentList<T> toPersistent() {
+        return list instanceof PersistentVector ? this : from(PersistentVector.of(list));
+    }
+
+    /**
+     * Write records of the list to [file] through a file channel, records are encoded by [codec] to a reusable
+     * buffer.
+     * @param file the file
+     * @param codec the codec
+     * @throws IOException if the file can't be written
+     */
+    public void writeTo(File file, RecordCodec<T> codec) throws IOException {
+        MappedFileList.write(list, file, codec);
+    }
+
+    /**
+     * Create columnar copy of the list, which stores elements as columns outside of the Java heap.
+     * @param schema the schema of columns
+     * @param mapper the mapper of elements to rows
+     * @return the columnar fluent list
+     */
+    public ColumnarFluentList<T> toColumnar(ColumnSchema schema, RowMapper<T> mapper) {
+        return ColumnarFluentList.of(list, schema, mapper);
     }
 
     /**
-     * Create immutable list.
+     * Create observable copy of the list, derived views of which are updated incrementally on every change.
+     * @return the observable fluent list
+     */
+    public ObservableFluentList<T> toObservable() {
+        return ObservableFluentList.of(list);
+    }
+
+    /**
+     * Create immutable snapshot of the list. Later changes of this list are not visible in the snapshot.
      */
     public List<T> toImmutableList() {
-        return new AbstractList<T>() {
+        return PersistentVector.of(list);
+    }
 
-            private UnsupportedOperationException unsupportedOperationException = new UnsupportedOperationException("Immutable list");
+    private <R> FluentList<R> result(String operation, long start, List<R> result) {
+        Instrumentation.record(operation, list.size(), result.size(), start,
+                Instrumentation.estimateListBytes(result.size()));
+        return from(result);
+    }
 
-            @Override
-            public T get(int index) {
-                return list.get(index);
+    private int prefixLength(ListUtils.Predicate<T> predicate) {
+        int length = 0;
+        for (T item : list) {
+            if (!predicate.test(item)) {
+                break;
             }
+            length++;
+        }
+        return length;
+    }
+
+    private static void checkCount(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Requested element count " + count + " is less than zero.");
+        }
+    }
+
+    private <R> FluentList<R> view(String operation, long start, List<R> view) {
+        Instrumentation.record(operation, list.size(), view.size(), start, 0);
+        return from(view);
+    }
+
+    private <I extends ListIndex<T, ?>> I attach(I index) {
+        long start = Instrumentation.start();
+        index.rebuild(list);
+        Instrumentation.record("indexBy", list.size(), index.keyCount(), start,
+                Instrumentation.estimateListBytes(list.size()));
+        if (indexes == null) {
+            indexes = new ArrayList<>(1);
+        }
+        indexes.add(index);
+        return index;
+    }
 
-            @Override
-            public int size() {
-                return list.size();
+    private void checkIndexes(Collection<? extends T> items, T replaced) {
+        if (indexes != null) {
+            for (ListIndex<T, ?> index : indexes) {
+                index.checkAdded(items, replaced);
             }
+        }
+    }
 
-            @Override
-            public boolean add(T t) {
-                throw unsupportedOperationException;
+    private void indexAdded(T item) {
+        if (indexes != null) {
+            for (ListIndex<T, ?> index : indexes) {
+                index.added(item);
             }
+        }
+    }
 
-            @Override
-            public boolean addAll(Collection<? extends T> c) {
-                throw unsupportedOperationException;
+    private void indexRemoved(T item) {
+        if (indexes != null) {
+            for (ListIndex<T, ?> index : indexes) {
+                index.removed(item);
             }
+        }
+    }
 
-            @Override
-            public void clear() {
-                throw unsupportedOperationException;
+    private void rebuildIndexes() {
+        if (indexes != null) {
+            for (ListIndex<T, ?> index : indexes) {
+                index.rebuild(list);
             }
-        };
+        }
     }
 
     @Override
@@ -400,7 +1228,7 @@ public class FluentList<T>
     @NonNull
     @Override
     public Iterator<T> iterator() {
-        return list.iterator();
+        return indexes == null ? list.iterator() : new IndexedIterator(list.listIterator());
     }
 
     @NonNull
@@ -417,12 +1245,25 @@ public class FluentList<T>
 
     @Override
     public boolean add(T t) {
-        return list.add(t);
+        checkIndexes(Collections.singletonList(t), null);
+        boolean added = list.add(t);
+        if (added) {
+            indexAdded(t);
+        }
+        return added;
     }
 
     @Override
     public boolean remove(Object o) {
-        return list.remove(o);
+        if (indexes == null) {
+            return list.remove(o);
+        }
+        int index = list.indexOf(o);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
     }
 
     @Override
@@ -432,27 +1273,54 @@ public class FluentList<T>
 
     @Override
     public boolean addAll(@NonNull Collection<? extends T> c) {
-        return list.addAll(c);
+        checkIndexes(c, null);
+        boolean added = list.addAll(c);
+        if (added) {
+            for (T item : c) {
+                indexAdded(item);
+            }
+        }
+        return added;
     }
 
     @Override
     public boolean addAll(int index, @NonNull Collection<? extends T> c) {
-        return list.addAll(index, c);
+        checkIndexes(c, null);
+        boolean added = list.addAll(index, c);
+        if (added) {
+            for (T item : c) {
+                indexAdded(item);
+            }
+        }
+        return added;
     }
 
     @Override
     public boolean removeAll(@NonNull Collection<?> c) {
-        return list.removeAll(c);
+        boolean removed = list.removeAll(c);
+        if (removed) {
+            rebuildIndexes();
+        }
+        return removed;
     }
 
     @Override
     public boolean retainAll(@NonNull Collection<?> c) {
-        return list.retainAll(c);
+        boolean removed = list.retainAll(c);
+        if (removed) {
+            rebuildIndexes();
+        }
+        return removed;
     }
 
     @Override
     public void clear() {
         list.clear();
+        if (indexes != null) {
+            for (ListIndex<T, ?> index : indexes) {
+                index.cleared();
+            }
+        }
     }
 
     @Override
@@ -462,17 +1330,27 @@ public class FluentList<T>
 
     @Override
     public T set(int index, T element) {
-        return list.set(index, element);
+        if (indexes != null) {
+            checkIndexes(Collections.singletonList(element), list.get(index));
+        }
+        T old = list.set(index, element);
+        indexRemoved(old);
+        indexAdded(element);
+        return old;
     }
 
     @Override
     public void add(int index, T element) {
+        checkIndexes(Collections.singletonList(element), null);
         list.add(index, element);
+        indexAdded(element);
     }
 
     @Override
     public T remove(int index) {
-        return list.remove(index);
+        T old = list.remove(index);
+        indexRemoved(old);
+        return old;
     }
 
     @Override
@@ -488,18 +1366,164 @@ public class FluentList<T>
     @NonNull
     @Override
     public ListIterator<T> listIterator() {
-        return list.listIterator();
+        return indexes == null ? list.listIterator() : new IndexedIterator(list.listIterator());
     }
 
     @NonNull
     @Override
     public ListIterator<T> listIterator(int index) {
-        return list.listIterator(index);
+        return indexes == null ? list.listIterator(index) : new IndexedIterator(list.listIterator(index));
     }
 
     @NonNull
     @Override
     public List<T> subList(int fromIndex, int toIndex) {
-        return list.subList(fromIndex, toIndex);
+        return indexedView(list.subList(fromIndex, toIndex));
+    }
+
+    private List<T> indexedView(List<T> view) {
+        return view instanceof RandomAccess ? new RandomAccessIndexedView(view) : new IndexedView(view);
+    }
+
+    /**
+     * View of the range of the list which updates indexes of the list when elements are changed through it.
+     */
+    private class IndexedView
+            extends AbstractList<T> {
+
+        private final List<T> view;
+
+        IndexedView(List<T> view) {
+            this.view = view;
+        }
+
+        @Override
+        public T get(int index) {
+            return view.get(index);
+        }
+
+        @Override
+        public int size() {
+            return view.size();
+        }
+
+        @Override
+        public T set(int index, T element) {
+            if (indexes != null) {
+                checkIndexes(Collections.singletonList(element), view.get(index));
+            }
+            T old = view.set(index, element);
+            indexRemoved(old);
+            indexAdded(element);
+            return old;
+        }
+
+        @Override
+        public void add(int index, T element) {
+            checkIndexes(Collections.singletonList(element), null);
+            view.add(index, element);
+            indexAdded(element);
+            modCount++;
+        }
+
+        @Override
+        public T remove(int index) {
+            T old = view.remove(index);
+            indexRemoved(old);
+            modCount++;
+            return old;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            List<T> range = view.subList(fromIndex, toIndex);
+            if (indexes != null) {
+                for (T item : range) {
+                    indexRemoved(item);
+                }
+            }
+            range.clear();
+            modCount++;
+        }
+    }
+
+    /**
+     * Indexed view of the random access list.
+     */
+    private final class RandomAccessIndexedView
+            extends IndexedView
+            implements RandomAccess {
+
+        RandomAccessIndexedView(List<T> view) {
+            super(view);
+        }
+    }
+
+    /**
+     * Iterator which updates indexes of the list when elements are changed through it.
+     */
+    private final class IndexedIterator
+            implements ListIterator<T> {
+
+        private final ListIterator<T> iterator;
+        private T last;
+
+        IndexedIterator(ListIterator<T> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public T next() {
+            last = iterator.next();
+            return last;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return iterator.hasPrevious();
+        }
+
+        @Override
+        public T previous() {
+            last = iterator.previous();
+            return last;
+        }
+
+        @Override
+        public int nextIndex() {
+            return iterator.nextIndex();
+        }
+
+        @Override
+        public int previousIndex() {
+            return iterator.previousIndex();
+        }
+
+        @Override
+        public void remove() {
+            iterator.remove();
+            indexRemoved(last);
+        }
+
+        @Override
+        public void set(T t) {
+            checkIndexes(Collections.singletonList(t), last);
+            iterator.set(t);
+            indexRemoved(last);
+            indexAdded(t);
+            last = t;
+        }
+
+        @Override
+        public void add(T t) {
+            checkIndexes(Collections.singletonList(t), null);
+            iterator.add(t);
+            indexAdded(t);
+        }
     }
 }
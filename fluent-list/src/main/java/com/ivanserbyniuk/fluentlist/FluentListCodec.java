@@ -0,0 +1,311 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Compact binary format of lists. A stream starts with a header and the number of elements, elements follow one by
+ * one, so a stream is written and read without holding the whole payload in memory.
+ * <pre>
+ *     FluentListCodec.write(products, new ProductCodec(), stream, true);
+ *     FluentList&lt;Product&gt; copy = FluentListCodec.read(input, new ProductCodec());
+ * </pre>
+ * Primitive lists are written with their own encoders: ints and longs as zigzag varints of the differences between
+ * neighbours, which keeps sorted ids small, doubles as 8 bytes. Readers buffer the input and may read past the end of
+ * the list.
+ */
+public final class FluentListCodec {
+
+    private static final int MAGIC_F = 'F';
+    private static final int MAGIC_L = 'L';
+    private static final int VERSION = 1;
+    private static final int KIND_ELEMENTS = 0;
+    private static final int KIND_INTS = 1;
+    private static final int KIND_LONGS = 2;
+    private static final int KIND_DOUBLES = 3;
+    private static final int FLAG_DICTIONARY = 1;
+    private static final int INITIAL_CAPACITY_LIMIT = 1 << 16;
+
+    private FluentListCodec() {
+    }
+
+    /**
+     * Write [items] to [stream] without string dictionary. The stream is flushed but not closed.
+     * @param <T> the type parameter
+     * @param items the items
+     * @param codec the element codec
+     * @param stream the stream
+     * @throws IOException if the stream can't be written
+     */
+    public static <T> void write(List<T> items, ElementCodec<T> codec, OutputStream stream) throws IOException {
+        write(items, codec, stream, false);
+    }
+
+    /**
+     * Write [items] to [stream]. The stream is flushed but not closed.
+     * @param <T> the type parameter
+     * @param items the items
+     * @param codec the element codec
+     * @param stream the stream
+     * @param dictionary write every distinct string once, e.g. for names or categories repeated in many elements
+     * @throws IOException if the stream can't be written
+     */
+    public static <T> void write(List<T> items, ElementCodec<T> codec, OutputStream stream, boolean dictionary)
+            throws IOException {
+        BinaryOutput output = new BinaryOutput(stream, dictionary);
+        writeHeader(output, KIND_ELEMENTS, dictionary ? FLAG_DICTIONARY : 0, items.size());
+        for (T item : items) {
+            codec.write(item, output);
+        }
+        output.flush();
+    }
+
+    /**
+     * Read list written by {@link #write}.
+     * @param <T> the type parameter
+     * @param stream the stream
+     * @param codec the element codec
+     * @return the fluent list
+     * @throws IOException if the stream can't be read or is not a list
+     */
+    public static <T> FluentList<T> read(InputStream stream, ElementCodec<T> codec) throws IOException {
+        ElementIterator<T> iterator = elementIterator(stream, codec);
+        List<T> result = new ArrayList<>(Math.min(iterator.remaining, INITIAL_CAPACITY_LIMIT));
+        try {
+            while (iterator.hasNext()) {
+                result.add(iterator.next());
+            }
+        } catch (RuntimeException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+        return FluentList.from(result);
+    }
+
+    /**
+     * Read elements of list written by {@link #write} one by one. The header is read immediately, an element is
+     * read by every {@link Iterator#next()}, which throws {@link RuntimeException} caused by {@link IOException} if
+     * the stream can't be read.
+     * @param <T> the type parameter
+     * @param stream the stream
+     * @param codec the element codec
+     * @return the iterator
+     * @throws IOException if the stream can't be read or is not a list
+     */
+    public static <T> Iterator<T> iterator(InputStream stream, ElementCodec<T> codec) throws IOException {
+        return elementIterator(stream, codec);
+    }
+
+    private static <T> ElementIterator<T> elementIterator(InputStream stream, ElementCodec<T> codec)
+            throws IOException {
+        BinaryInput input = new BinaryInput(stream);
+        if ((readHeader(input, KIND_ELEMENTS) & FLAG_DICTIONARY) != 0) {
+            input.useDictionary();
+        }
+        return new ElementIterator<>(input, codec, readCount(input));
+    }
+
+    /**
+     * Write ints as zigzag varints of differences between neighbours.
+     * @param values the values
+     * @param stream the stream
+     * @throws IOException if the stream can't be written
+     */
+    public static void writeInts(IntFluentList values, OutputStream stream) throws IOException {
+        BinaryOutput output = new BinaryOutput(stream, false);
+        writeHeader(output, KIND_INTS, 0, values.size());
+        int previous = 0;
+        for (int i = 0; i < values.size(); i++) {
+            int value = values.get(i);
+            output.writeSignedVarInt(value - previous);
+            previous = value;
+        }
+        output.flush();
+    }
+
+    /**
+     * Read ints written by {@link #writeInts}.
+     * @param stream the stream
+     * @return the int fluent list
+     * @throws IOException if the stream can't be read or is not an int list
+     */
+    public static IntFluentList readInts(InputStream stream) throws IOException {
+        BinaryInput input = new BinaryInput(stream);
+        readHeader(input, KIND_INTS);
+        int count = readCount(input);
+        int[] values = new int[Math.min(count, INITIAL_CAPACITY_LIMIT)];
+        int previous = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == values.length) {
+                values = Arrays.copyOf(values, grownCapacity(values.length, count));
+            }
+            previous += input.readSignedVarInt();
+            values[i] = previous;
+        }
+        return new IntFluentList(values, values.length);
+    }
+
+    /**
+     * Write longs as zigzag varints of differences between neighbours.
+     * @param values the values
+     * @param stream the stream
+     * @throws IOException if the stream can't be written
+     */
+    public static void writeLongs(LongFluentList values, OutputStream stream) throws IOException {
+        BinaryOutput output = new BinaryOutput(stream, false);
+        writeHeader(output, KIND_LONGS, 0, values.size());
+        long previous = 0;
+        for (int i = 0; i < values.size(); i++) {
+            long value = values.get(i);
+            output.writeSignedVarLong(value - previous);
+            previous = value;
+        }
+        output.flush();
+    }
+
+    /**
+     * Read longs written by {@link #writeLongs}.
+     * @param stream the stream
+     * @return the long fluent list
+     * @throws IOException if the stream can't be read or is not a long list
+     */
+    public static LongFluentList readLongs(InputStream stream) throws IOException {
+        BinaryInput input = new BinaryInput(stream);
+        readHeader(input, KIND_LONGS);
+        int count = readCount(input);
+        long[] values = new long[Math.min(count, INITIAL_CAPACITY_LIMIT)];
+        long previous = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == values.length) {
+                values = Arrays.copyOf(values, grownCapacity(values.length, count));
+            }
+            previous += input.readSignedVarLong();
+            values[i] = previous;
+        }
+        return new LongFluentList(values, values.length);
+    }
+
+    /**
+     * Write doubles as 8 bytes.
+     * @param values the values
+     * @param stream the stream
+     * @throws IOException if the stream can't be written
+     */
+    public static void writeDoubles(DoubleFluentList values, OutputStream stream) throws IOException {
+        BinaryOutput output = new BinaryOutput(stream, false);
+        writeHeader(output, KIND_DOUBLES, 0, values.size());
+        for (int i = 0; i < values.size(); i++) {
+            output.writeDouble(values.get(i));
+        }
+        output.flush();
+    }
+
+    /**
+     * Read doubles written by {@link #writeDoubles}.
+     * @param stream the stream
+     * @return the double fluent list
+     * @throws IOException if the stream can't be read or is not a double list
+     */
+    public static DoubleFluentList readDoubles(InputStream stream) throws IOException {
+        BinaryInput input = new BinaryInput(stream);
+        readHeader(input, KIND_DOUBLES);
+        int count = readCount(input);
+        double[] values = new double[Math.min(count, INITIAL_CAPACITY_LIMIT)];
+        for (int i = 0; i < count; i++) {
+            if (i == values.length) {
+                values = Arrays.copyOf(values, grownCapacity(values.length, count));
+            }
+            values[i] = input.readDouble();
+        }
+        return new DoubleFluentList(values, values.length);
+    }
+
+    /**
+     * Capacity of the array of values which is full, the array grows while values are read, so a corrupted count
+     * fails when the stream ends instead of allocating the array of the count.
+     */
+    private static int grownCapacity(int capacity, int count) {
+        return (int) Math.min(count, capacity * 2L);
+    }
+
+    private static void writeHeader(BinaryOutput output, int kind, int flags, int count) throws IOException {
+        output.writeByte(MAGIC_F);
+        output.writeByte(MAGIC_L);
+        output.writeByte(VERSION);
+        output.writeByte(kind);
+        output.writeByte(flags);
+        output.writeVarInt(count);
+    }
+
+    private static int readHeader(BinaryInput input, int kind) throws IOException {
+        if (input.readByte() != MAGIC_F || input.readByte() != MAGIC_L) {
+            throw new IOException("Not a FluentList stream.");
+        }
+        int version = input.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported version " + version + ".");
+        }
+        int actualKind = input.readByte();
+        if (actualKind != kind) {
+            throw new IOException("Stream contains list of kind " + actualKind + ", not " + kind + ".");
+        }
+        return input.readByte();
+    }
+
+    private static int readCount(BinaryInput input) throws IOException {
+        int count = input.readVarInt();
+        if (count < 0) {
+            throw new IOException("Negative size " + count + ".");
+        }
+        return count;
+    }
+
+    /**
+     * Iterator which reads an element on every call of {@link #next()}.
+     * @param <T> the type parameter
+     */
+    private static final class ElementIterator<T>
+            implements Iterator<T> {
+
+        private final BinaryInput input;
+        private final ElementCodec<T> codec;
+        private int remaining;
+
+        ElementIterator(BinaryInput input, ElementCodec<T> codec, int remaining) {
+            this.input = input;
+            this.codec = codec;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public T next() {
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            remaining--;
+            try {
+                return codec.read(input);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("remove");
+        }
+    }
+}
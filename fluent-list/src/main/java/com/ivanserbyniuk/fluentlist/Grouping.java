@@ -0,0 +1,196 @@
+package com.ivanserbyniuk.fluentlist;
+
+import android.support.annotation.NonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Groups elements of a list by key and aggregates every group in place, without collecting the elements of the
+ * groups to lists. Every element is put to its group with one hash lookup when the group exists.
+ * <pre>
+ *     Map&lt;String, Integer&gt; usersByCity = FluentList.from(users).groupingBy(user -&gt; user.city).eachCount();
+ * </pre>
+ * @param <T> the type parameter
+ * @param <K> the type parameter
+ */
+public final class Grouping<T, K> {
+
+    private final List<T> list;
+    private final ListUtils.TransformFunc<T, K> keySelector;
+    private final int expectedKeyCount;
+    private final ExecutorService executor;
+    private final int threshold;
+
+    Grouping(List<T> list, ListUtils.TransformFunc<T, K> keySelector, int expectedKeyCount,
+             ExecutorService executor, int threshold) {
+        this.list = list;
+        this.keySelector = keySelector;
+        this.expectedKeyCount = expectedKeyCount;
+        this.executor = executor;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Count elements of every group.
+     * @return the map of group key to count
+     */
+    @NonNull
+    public Map<K, Integer> eachCount() {
+        return aggregate(Aggregators.<T>count());
+    }
+
+    /**
+     * Sum values produced by [transform] function for every group.
+     * @param transform the transform
+     * @return the map of group key to sum
+     */
+    @NonNull
+    public Map<K, Long> eachSumBy(final ListUtils.ToLongFunc<T> transform) {
+        return aggregate(Aggregators.sumBy(transform));
+    }
+
+    /**
+     * Find the first element yielding the smallest value of the given function in every group.
+     * @param <R> the type parameter
+     * @param transform the transform
+     * @return the map of group key to element
+     */
+    @NonNull
+    public <R extends Comparable<R>> Map<K, T> eachMinBy(final ListUtils.TransformFunc<T, R> transform) {
+        return aggregate(Aggregators.minBy(transform));
+    }
+
+    /**
+     * Find the first element yielding the largest value of the given function in every group.
+     * @param <R> the type parameter
+     * @param transform the transform
+     * @return the map of group key to element
+     */
+    @NonNull
+    public <R extends Comparable<R>> Map<K, T> eachMaxBy(final ListUtils.TransformFunc<T, R> transform) {
+        return aggregate(Aggregators.maxBy(transform));
+    }
+
+    /**
+     * Collect elements of every group to set.
+     * @return the map of group key to set of elements
+     */
+    @NonNull
+    public Map<K, Set<T>> eachToSet() {
+        return aggregate(Aggregators.<T>toSet());
+    }
+
+    /**
+     * Fold elements of every group starting with [initialValue]. Folding always runs sequentially, because fold
+     * results of two ranges can't be merged.
+     * @param <R> the type parameter
+     * @param initialValue the initial value of every group
+     * @param operation the operation
+     * @return the map of group key to folded value
+     */
+    @NonNull
+    public <R> Map<K, R> fold(final R initialValue, final ListUtils.FoldFunc<R, T> operation) {
+        return aggregateSequentially(0, list.size(), new Aggregator<T, Object[], R>() {
+            @Override
+            public Object[] create() {
+                return new Object[]{initialValue};
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object[] add(Object[] accumulator, T item) {
+                accumulator[0] = operation.apply((R) accumulator[0], item);
+                return accumulator;
+            }
+
+            @Override
+            public Object[] merge(Object[] first, Object[] second) {
+                throw new UnsupportedOperationException("Fold results can't be merged.");
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public R finish(Object[] accumulator) {
+                return (R) accumulator[0];
+            }
+        });
+    }
+
+    /**
+     * Aggregate every group with the [aggregator].
+     * @param <A> the type parameter
+     * @param <R> the type parameter
+     * @param aggregator the aggregator
+     * @return the map of group key to result
+     */
+    @NonNull
+    public <A, R> Map<K, R> aggregate(final Aggregator<T, A, R> aggregator) {
+        if (executor == null) {
+            return aggregateSequentially(0, list.size(), aggregator);
+        }
+        List<Map<K, A>> chunks = ParallelFluentList.invoke(executor, list.size(), threshold,
+                new ParallelFluentList.RangeTask<Map<K, A>>() {
+                    @Override
+                    public Map<K, A> apply(int from, int to) {
+                        return accumulate(from, to, aggregator);
+                    }
+                });
+        Map<K, A> result = chunks.get(0);
+        for (int i = 1; i < chunks.size(); i++) {
+            for (Map.Entry<K, A> entry : chunks.get(i).entrySet()) {
+                A accumulator = result.get(entry.getKey());
+                result.put(entry.getKey(), accumulator == null
+                        ? entry.getValue()
+                        : aggregator.merge(accumulator, entry.getValue()));
+            }
+        }
+        return finish(result, aggregator);
+    }
+
+    private <A, R> Map<K, R> aggregateSequentially(int from, int to, Aggregator<T, A, R> aggregator) {
+        return finish(accumulate(from, to, aggregator), aggregator);
+    }
+
+    private <A> Map<K, A> accumulate(int from, int to, Aggregator<T, A, ?> aggregator) {
+        Map<K, A> accumulators = new HashMap<>(capacity(expectedKeyCount));
+        List<T> range = from == 0 && to == list.size() ? list : list.subList(from, to);
+        for (T item : range) {
+            K key = keySelector.apply(item);
+            A accumulator = accumulators.get(key);
+            if (accumulator == null) {
+                accumulator = aggregator.create();
+                accumulators.put(key, accumulator);
+            }
+            A updated = aggregator.add(accumulator, item);
+            if (updated != accumulator) {
+                accumulators.put(key, updated);
+            }
+        }
+        return accumulators;
+    }
+
+    /**
+     * Replace accumulators with results in the same map, so no other map is created.
+     */
+    @SuppressWarnings("unchecked")
+    private <A, R> Map<K, R> finish(Map<K, A> accumulators, Aggregator<T, A, R> aggregator) {
+        Map<K, Object> results = (Map<K, Object>) accumulators;
+        for (Map.Entry<K, Object> entry : results.entrySet()) {
+            entry.setValue(aggregator.finish((A) entry.getValue()));
+        }
+        return (Map<K, R>) results;
+    }
+
+    /**
+     * HashMap capacity which holds [expectedSize] entries without rehashing.
+     * @param expectedSize the expected size
+     * @return the capacity
+     */
+    static int capacity(int expectedSize) {
+        return expectedSize <= 0 ? 16 : (int) (expectedSize / 0.75f + 1);
+    }
+}
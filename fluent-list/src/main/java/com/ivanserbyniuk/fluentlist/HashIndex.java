@@ -0,0 +1,121 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hash index of elements by key, lookup by key takes constant time. The unique index keeps one element for every key
+ * without lists and rejects elements with keys which are already in the index.
+ * @param <T> the type parameter
+ * @param <K> the type parameter
+ */
+public final class HashIndex<T, K>
+        extends ListIndex<T, K> {
+
+    private final boolean unique;
+    private final Map<K, T> elements;
+    private final Map<K, List<T>> groups;
+
+    HashIndex(ListUtils.TransformFunc<T, K> keySelector, boolean unique, int expectedSize) {
+        super(keySelector);
+        this.unique = unique;
+        int capacity = (int) (expectedSize / 0.75f) + 1;
+        this.elements = unique ? new HashMap<K, T>(capacity) : null;
+        this.groups = unique ? null : new HashMap<K, List<T>>(capacity);
+    }
+
+    @Override
+    public FluentList<T> findByKey(K key) {
+        if (unique) {
+            T item = elements.get(key);
+            return FluentList.from(item == null && !elements.containsKey(key)
+                    ? Collections.<T>emptyList() : Collections.singletonList(item));
+        }
+        List<T> group = groups.get(key);
+        return FluentList.from(group == null ? Collections.<T>emptyList() : Collections.unmodifiableList(group));
+    }
+
+    /**
+     * Find the first element with [key].
+     * @param key the key
+     * @return the element or null
+     */
+    public T findFirst(K key) {
+        if (unique) {
+            return elements.get(key);
+        }
+        List<T> group = groups.get(key);
+        return group == null ? null : group.get(0);
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return unique ? elements.containsKey(key) : groups.containsKey(key);
+    }
+
+    @Override
+    public int keyCount() {
+        return unique ? elements.size() : groups.size();
+    }
+
+    @Override
+    void checkAdded(Collection<? extends T> items, T replaced) {
+        if (!unique) {
+            return;
+        }
+        Set<K> addedKeys = items.size() > 1 ? new HashSet<K>() : null;
+        for (T item : items) {
+            K key = keySelector.apply(item);
+            boolean replacesKey = replaced != null && elements.get(key) == replaced;
+            if ((elements.containsKey(key) && !replacesKey) || (addedKeys != null && !addedKeys.add(key))) {
+                throw new IllegalArgumentException("Duplicate key " + key + ".");
+            }
+        }
+    }
+
+    @Override
+    void added(T item) {
+        K key = keySelector.apply(item);
+        if (unique) {
+            if (elements.containsKey(key)) {
+                throw new IllegalArgumentException("Duplicate key " + key + ".");
+            }
+            elements.put(key, item);
+            return;
+        }
+        List<T> group = groups.get(key);
+        if (group == null) {
+            group = new ArrayList<>(1);
+            groups.put(key, group);
+        }
+        group.add(item);
+    }
+
+    @Override
+    void removed(T item) {
+        K key = keySelector.apply(item);
+        if (unique) {
+            elements.remove(key);
+            return;
+        }
+        List<T> group = groups.get(key);
+        if (group != null && group.remove(item) && group.isEmpty()) {
+            groups.remove(key);
+        }
+    }
+
+    @Override
+    void cleared() {
+        if (unique) {
+            elements.clear();
+        } else {
+            groups.clear();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.ivanserbyniuk.fluentlist;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Operation listener which keeps totals per operation in memory, e.g. for tests and debug screens.
+ */
+public class InMemoryOperationRecorder
+        implements OperationListener {
+
+    private final ConcurrentHashMap<String, OperationStats> stats = new ConcurrentHashMap<>();
+
+    @Override
+    public void onOperation(String operation, int inputSize, int outputSize, long elapsedNanos,
+                            long allocatedBytes) {
+        OperationStats operationStats = stats.get(operation);
+        if (operationStats == null) {
+            operationStats = new OperationStats(operation);
+            OperationStats previous = stats.putIfAbsent(operation, operationStats);
+            if (previous != null) {
+                operationStats = previous;
+            }
+        }
+        operationStats.add(inputSize, outputSize, elapsedNanos, allocatedBytes);
+    }
+
+    /**
+     * Gets totals of the operation.
+     * @param operation the operation
+     * @return the stats or null if the operation wasn't called
+     */
+    @Nullable
+    public OperationStats getStats(String operation) {
+        return stats.get(operation);
+    }
+
+    /**
+     * Gets totals of all operations sorted by allocated bytes, the largest first.
+     * @return the stats
+     */
+    @NonNull
+    public List<OperationStats> getAllStats() {
+        List<OperationStats> result = new ArrayList<>(stats.values());
+        Collections.sort(result, new Comparator<OperationStats>() {
+            @Override
+            public int compare(OperationStats first, OperationStats second) {
+                long one = first.getAllocatedBytes();
+                long two = second.getAllocatedBytes();
+                return one > two ? -1 : (one == two ? 0 : 1);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Remove all totals.
+     */
+    public void reset() {
+        stats.clear();
+    }
+
+    /**
+     * Create text report with line per operation.
+     * @return the report
+     */
+    @NonNull
+    public String report() {
+        return FluentList.from(getAllStats()).joinToStringBy("\n", new ListUtils.TransformFunc<OperationStats,
+                String>() {
+            @Override
+            public String apply(OperationStats value) {
+                return value.toString();
+            }
+        });
+    }
+
+    /**
+     * Totals of one operation.
+     */
+    public static final class OperationStats {
+        private final String operation;
+        private long invocations;
+        private long inputSize;
+        private long outputSize;
+        private int maxOutputSize;
+        private long elapsedNanos;
+        private long allocatedBytes;
+
+        OperationStats(String operation) {
+            this.operation = operation;
+        }
+
+        synchronized void add(int inputSize, int outputSize, long elapsedNanos, long allocatedBytes) {
+            invocations++;
+            this.inputSize += inputSize;
+            this.outputSize += outputSize;
+            maxOutputSize = Math.max(maxOutputSize, outputSize);
+            this.elapsedNanos += elapsedNanos;
+            this.allocatedBytes += allocatedBytes;
+        }
+
+        public String getOperation() {
+            return operation;
+        }
+
+        public synchronized long getInvocations() {
+            return invocations;
+        }
+
+        public synchronized long getInputSize() {
+            return inputSize;
+        }
+
+        public synchronized long getOutputSize() {
+            return outputSize;
+        }
+
+        public synchronized int getMaxOutputSize() {
+            return maxOutputSize;
+        }
+
+        public synchronized long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        public synchronized long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        @Override
+        public synchronized String toString() {
+            return operation + ": invocations=" + invocations + ", input=" + inputSize + ", output=" + outputSize
+                    + ", maxOutput=" + maxOutputSize + ", elapsedNanos=" + elapsedNanos + ", allocatedBytes="
+                    + allocatedBytes;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Observable view of some elements of the source list. The view stores sorted indexes of the elements in the source,
+ * so an appended element costs a binary search and an element inserted in the middle shifts the following indexes.
+ * Elements are read from the source and never copied.
+ * @param <T> the type parameter
+ */
+class IndexedObservableList<T>
+        extends ObservableList<T> {
+
+    private final List<T> source;
+    private int[] indexes;
+    private int size;
+
+    IndexedObservableList(List<T> source) {
+        this.source = source;
+        this.indexes = new int[10];
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return source.get(indexes[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Update the view after [item] has been inserted to the source at [sourceIndex].
+     * @param sourceIndex the source index
+     * @param item the item
+     * @param include is the item in the view
+     */
+    void sourceAdded(int sourceIndex, T item, boolean include) {
+        int position = position(sourceIndex);
+        shift(position, 1);
+        if (include) {
+            insert(position, sourceIndex);
+            fireAdded(position, item);
+        }
+    }
+
+    /**
+     * Update the view after [item] has been removed from the source at [sourceIndex].
+     * @param sourceIndex the source index
+     * @param item the item
+     */
+    void sourceRemoved(int sourceIndex, T item) {
+        int position = position(sourceIndex);
+        boolean present = position < size && indexes[position] == sourceIndex;
+        if (present) {
+            removeAt(position);
+        }
+        shift(position, -1);
+        if (present) {
+            fireRemoved(position, item);
+        }
+    }
+
+    /**
+     * Update the view after [oldItem] has been replaced with [newItem] in the source at [sourceIndex].
+     * @param sourceIndex the source index
+     * @param oldItem the old item
+     * @param newItem the new item
+     * @param include is the new item in the view
+     */
+    void sourceChanged(int sourceIndex, T oldItem, T newItem, boolean include) {
+        int position = position(sourceIndex);
+        boolean present = position < size && indexes[position] == sourceIndex;
+        if (present && include) {
+            fireChanged(position, oldItem, newItem);
+        } else if (present) {
+            removeAt(position);
+            fireRemoved(position, oldItem);
+        } else if (include) {
+            insert(position, sourceIndex);
+            fireAdded(position, newItem);
+        }
+    }
+
+    private int position(int sourceIndex) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (indexes[middle] < sourceIndex) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private void shift(int from, int delta) {
+        for (int i = from; i < size; i++) {
+            indexes[i] += delta;
+        }
+    }
+
+    private void insert(int position, int sourceIndex) {
+        if (size == indexes.length) {
+            indexes = Arrays.copyOf(indexes, size + (size >> 1) + 1);
+        }
+        System.arraycopy(indexes, position, indexes, position + 1, size - position);
+        indexes[position] = sourceIndex;
+        size++;
+    }
+
+    private void removeAt(int position) {
+        System.arraycopy(indexes, position + 1, indexes, position, size - position - 1);
+        size--;
+    }
+}
@@ -0,0 +1,84 @@
+package com.ivanserbyniuk.fluentlist;
+
+/**
+ * Opt-in instrumentation of FluentList operations. While no listener is installed an operation pays one volatile
+ * read.
+ * <pre>
+ *     InMemoryOperationRecorder recorder = new InMemoryOperationRecorder();
+ *     Instrumentation.setListener(recorder);
+ *     ...
+ *     Log.d(TAG, recorder.report());
+ * </pre>
+ */
+public final class Instrumentation {
+
+    /**
+     * Estimated size of ArrayList object and header of its array.
+     */
+    private static final int LIST_OVERHEAD_BYTES = 40;
+
+    /**
+     * Estimated size of the reference in the array.
+     */
+    private static final int REFERENCE_BYTES = 4;
+
+    /**
+     * Start time of the operation when instrumentation is disabled, any other value can be returned by nanoTime.
+     */
+    static final long DISABLED = Long.MIN_VALUE;
+
+    private static volatile OperationListener listener;
+
+    private Instrumentation() {
+    }
+
+    /**
+     * Install the listener of operations, null disables instrumentation.
+     * @param operationListener the operation listener
+     */
+    public static void setListener(OperationListener operationListener) {
+        listener = operationListener;
+    }
+
+    /**
+     * Gets the installed listener.
+     * @return the listener or null
+     */
+    public static OperationListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Estimated size in bytes of the list with [size] references.
+     * @param size the size
+     * @return the bytes
+     */
+    public static long estimateListBytes(int size) {
+        return LIST_OVERHEAD_BYTES + (long) REFERENCE_BYTES * size;
+    }
+
+    /**
+     * Start time of the operation.
+     * @return the nano time or {@link #DISABLED} if instrumentation is disabled
+     */
+    static long start() {
+        return listener == null ? DISABLED : System.nanoTime();
+    }
+
+    /**
+     * Report the operation to the listener.
+     * @param operation the operation
+     * @param inputSize the input size
+     * @param outputSize the output size
+     * @param start the value returned by {@link #start()}
+     * @param allocatedBytes the estimated size of the created lists
+     */
+    static void record(String operation, int inputSize, int outputSize, long start, long allocatedBytes) {
+        OperationListener operationListener = listener;
+        if (operationListener == null || start == DISABLED) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        operationListener.onOperation(operation, inputSize, outputSize, elapsed, allocatedBytes);
+    }
+}
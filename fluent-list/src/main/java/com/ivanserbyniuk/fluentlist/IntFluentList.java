@@ -0,0 +1,206 @@
+package com.ivanserbyniuk.fluentlist;
+
+import android.support.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable list of ints backed by an int array. Operations don't box values.
+ */
+public class IntFluentList {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final int[] values;
+    private final int size;
+
+    IntFluentList(int[] values, int size) {
+        this.values = values;
+        this.size = size;
+    }
+
+    /**
+     * Create IntFluentList from values.
+     * @param values the values
+     * @return the int fluent list
+     */
+    public static IntFluentList of(int... values) {
+        return new IntFluentList(values.clone(), values.length);
+    }
+
+    /**
+     * Create IntFluentList with ints from [startInclusive] to [endExclusive].
+     * @param startInclusive the start inclusive
+     * @param endExclusive the end exclusive
+     * @return the int fluent list
+     */
+    public static IntFluentList range(int startInclusive, int endExclusive) {
+        if (startInclusive >= endExclusive) {
+            return new IntFluentList(EMPTY, 0);
+        }
+        int[] values = new int[endExclusive - startInclusive];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = startInclusive + i;
+        }
+        return new IntFluentList(values, values.length);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return values[index];
+    }
+
+    /**
+     * Filter list by predicate.
+     * @param predicate the predicate
+     * @return the int fluent list
+     */
+    public IntFluentList filter(final ListUtils.IntPredicate predicate) {
+        int[] result = new int[size];
+        int resultSize = 0;
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(values[i])) {
+                result[resultSize++] = values[i];
+            }
+        }
+        return new IntFluentList(result, resultSize);
+    }
+
+    /**
+     * Transform list items and return new list.
+     * @param transform the transform
+     * @return the int fluent list
+     */
+    public IntFluentList map(final ListUtils.IntTransformFunc transform) {
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = transform.apply(values[i]);
+        }
+        return new IntFluentList(result, size);
+    }
+
+    /**
+     * Returns the number of elements matching the given [predicate].
+     */
+    public int count(final ListUtils.IntPredicate predicate) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(values[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Is at least one element matches the given [predicate].
+     * @param predicate the predicate
+     * @return `true` if at least one element matches the given [predicate]
+     */
+    public boolean any(final ListUtils.IntPredicate predicate) {
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(values[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the sum of all values, the sum is accumulated in long so it doesn't overflow.
+     */
+    public long sum() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the smallest value or throw exception if there are no values.
+     */
+    public int min() {
+        checkNotEmpty();
+        int min = values[0];
+        for (int i = 1; i < size; i++) {
+            if (values[i] < min) {
+                min = values[i];
+            }
+        }
+        return min;
+    }
+
+    /**
+     * Returns the largest value or throw exception if there are no values.
+     */
+    public int max() {
+        checkNotEmpty();
+        int max = values[0];
+        for (int i = 1; i < size; i++) {
+            if (values[i] > max) {
+                max = values[i];
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the average of all values or NaN if there are no values.
+     */
+    public double average() {
+        return size == 0 ? Double.NaN : (double) sum() / size;
+    }
+
+    /**
+     * Returns the list sorted in ascending order.
+     */
+    public IntFluentList sorted() {
+        int[] result = Arrays.copyOf(values, size);
+        Arrays.sort(result);
+        return new IntFluentList(result, size);
+    }
+
+    /**
+     * Copy values to the new array.
+     */
+    @NonNull
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Create FluentList of boxed values.
+     */
+    @NonNull
+    public FluentList<Integer> boxed() {
+        List<Integer> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(values[i]);
+        }
+        return FluentList.from(list);
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new UnsupportedOperationException("Empty collection can't be reduced.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,292 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Joins of two lists by keys. Keys of both lists are extracted once. When both lists are sorted by keys of one type
+ * whose compareTo is consistent with equals, e.g. String or Integer, the lists are merged, otherwise the hash table
+ * is built on the smaller list. Keys match if they are equal. Results are in the order of the left list, matches of
+ * one left element are in the order of the right list, so the strategy doesn't change the result. Null keys don't
+ * match any key.
+ */
+final class Joins {
+
+    private static final Set<Class<?>> MERGEABLE_KEYS = new HashSet<Class<?>>(Arrays.<Class<?>>asList(String.class,
+            Integer.class, Long.class, Short.class, Byte.class, Character.class, Boolean.class, Double.class,
+            Float.class));
+
+    private Joins() {
+    }
+
+    /**
+     * Join elements with equal keys.
+     * @param left the left list
+     * @param right the right list
+     * @param leftKey the key selector of the left list
+     * @param rightKey the key selector of the right list
+     * @param combiner the combiner of matching elements
+     * @param keepUnmatched combine left elements without matches with null
+     * @return the combined elements
+     */
+    static <T, U, K, R> List<R> join(List<T> left, List<U> right, ListUtils.TransformFunc<T, K> leftKey,
+            ListUtils.TransformFunc<U, K> rightKey, ListUtils.JoinFunc<T, U, R> combiner, boolean keepUnmatched) {
+        Object[] leftKeys = keys(left, leftKey);
+        Object[] rightKeys = keys(right, rightKey);
+        if (canMerge(leftKeys, rightKeys)) {
+            return mergeJoin(left, right, leftKeys, rightKeys, combiner, keepUnmatched);
+        }
+        if (left.size() <= right.size()) {
+            return buildLeftJoin(left, right, leftKeys, rightKeys, combiner, keepUnmatched);
+        }
+        JoinTable table = new JoinTable(rightKeys);
+        List<R> result = new ArrayList<>(left.size());
+        probe(left, right, leftKeys, 0, left.size(), table, combiner, keepUnmatched, result);
+        return result;
+    }
+
+    /**
+     * Keep left elements which have matches in the right list, or which don't have them.
+     * @param left the left list
+     * @param right the right list
+     * @param leftKey the key selector of the left list
+     * @param rightKey the key selector of the right list
+     * @param matching keep elements with matches
+     * @return the left elements
+     */
+    static <T, U, K> List<T> semiJoin(List<T> left, List<U> right, ListUtils.TransformFunc<T, K> leftKey,
+            ListUtils.TransformFunc<U, K> rightKey, boolean matching) {
+        Object[] leftKeys = keys(left, leftKey);
+        Object[] rightKeys = keys(right, rightKey);
+        boolean[] matched = new boolean[leftKeys.length];
+        if (canMerge(leftKeys, rightKeys)) {
+            int j = 0;
+            for (int i = 0; i < leftKeys.length; i++) {
+                while (j < rightKeys.length && compare(rightKeys[j], leftKeys[i]) < 0) {
+                    j++;
+                }
+                matched[i] = j < rightKeys.length && compare(rightKeys[j], leftKeys[i]) == 0;
+            }
+        } else if (left.size() <= right.size()) {
+            Set<Object> leftKeySet = new HashSet<>(capacity(leftKeys.length));
+            for (Object key : leftKeys) {
+                if (key != null) {
+                    leftKeySet.add(key);
+                }
+            }
+            Set<Object> matchedKeys = new HashSet<>(capacity(leftKeySet.size()));
+            for (Object key : rightKeys) {
+                if (key != null && leftKeySet.contains(key)) {
+                    matchedKeys.add(key);
+                }
+            }
+            for (int i = 0; i < leftKeys.length; i++) {
+                matched[i] = leftKeys[i] != null && matchedKeys.contains(leftKeys[i]);
+            }
+        } else {
+            Set<Object> rightKeySet = new HashSet<>(capacity(rightKeys.length));
+            for (Object key : rightKeys) {
+                if (key != null) {
+                    rightKeySet.add(key);
+                }
+            }
+            for (int i = 0; i < leftKeys.length; i++) {
+                matched[i] = leftKeys[i] != null && rightKeySet.contains(leftKeys[i]);
+            }
+        }
+        List<T> result = new ArrayList<>();
+        for (int i = 0; i < matched.length; i++) {
+            if (matched[i] == matching) {
+                result.add(left.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Extract keys of all elements.
+     * @param list the list
+     * @param keySelector the key selector
+     * @return the keys
+     */
+    static <T, K> Object[] keys(List<T> list, ListUtils.TransformFunc<T, K> keySelector) {
+        Object[] keys = new Object[list.size()];
+        int i = 0;
+        for (T item : list) {
+            keys[i++] = keySelector.apply(item);
+        }
+        return keys;
+    }
+
+    /**
+     * Combine left elements of range from [from] to [to] with matches from [table] and add them to [result].
+     */
+    static <T, U, R> void probe(List<T> left, List<U> right, Object[] leftKeys, int from, int to, JoinTable table,
+            ListUtils.JoinFunc<T, U, R> combiner, boolean keepUnmatched, List<R> result) {
+        for (int i = from; i < to; i++) {
+            T item = left.get(i);
+            int match = table.first(leftKeys[i]);
+            if (match < 0 && keepUnmatched) {
+                result.add(combiner.apply(item, null));
+            }
+            for (; match >= 0; match = table.next(match)) {
+                result.add(combiner.apply(item, right.get(match)));
+            }
+        }
+    }
+
+    private static <T, U, R> List<R> buildLeftJoin(List<T> left, List<U> right, Object[] leftKeys,
+            Object[] rightKeys, ListUtils.JoinFunc<T, U, R> combiner, boolean keepUnmatched) {
+        JoinTable table = new JoinTable(leftKeys);
+        int[] matchCounts = new int[leftKeys.length + 1];
+        IntBuffer pairLeft = new IntBuffer();
+        IntBuffer pairRight = new IntBuffer();
+        for (int j = 0; j < rightKeys.length; j++) {
+            for (int match = table.first(rightKeys[j]); match >= 0; match = table.next(match)) {
+                pairLeft.add(match);
+                pairRight.add(j);
+                matchCounts[match + 1]++;
+            }
+        }
+        for (int i = 0; i < leftKeys.length; i++) {
+            matchCounts[i + 1] += matchCounts[i];
+        }
+        int[] ordered = new int[pairRight.size];
+        int[] positions = matchCounts.clone();
+        for (int p = 0; p < pairRight.size; p++) {
+            ordered[positions[pairLeft.values[p]]++] = pairRight.values[p];
+        }
+        List<R> result = new ArrayList<>(keepUnmatched ? Math.max(ordered.length, left.size()) : ordered.length);
+        for (int i = 0; i < leftKeys.length; i++) {
+            T item = left.get(i);
+            if (matchCounts[i] == matchCounts[i + 1] && keepUnmatched) {
+                result.add(combiner.apply(item, null));
+            }
+            for (int p = matchCounts[i]; p < matchCounts[i + 1]; p++) {
+                result.add(combiner.apply(item, right.get(ordered[p])));
+            }
+        }
+        return result;
+    }
+
+    private static <T, U, R> List<R> mergeJoin(List<T> left, List<U> right, Object[] leftKeys, Object[] rightKeys,
+            ListUtils.JoinFunc<T, U, R> combiner, boolean keepUnmatched) {
+        List<R> result = new ArrayList<>(left.size());
+        int runStart = 0;
+        for (int i = 0; i < leftKeys.length; i++) {
+            while (runStart < rightKeys.length && compare(rightKeys[runStart], leftKeys[i]) < 0) {
+                runStart++;
+            }
+            T item = left.get(i);
+            int j = runStart;
+            while (j < rightKeys.length && compare(rightKeys[j], leftKeys[i]) == 0) {
+                result.add(combiner.apply(item, right.get(j)));
+                j++;
+            }
+            if (j == runStart && keepUnmatched) {
+                result.add(combiner.apply(item, null));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Check that keys of both lists are of one type which compares like equals and are in ascending order, so the
+     * merge finds the same matches as the hash table.
+     */
+    private static boolean canMerge(Object[] leftKeys, Object[] rightKeys) {
+        Object first = leftKeys.length > 0 ? leftKeys[0] : rightKeys.length > 0 ? rightKeys[0] : null;
+        if (first == null || !MERGEABLE_KEYS.contains(first.getClass())) {
+            return false;
+        }
+        return isSorted(leftKeys, first.getClass()) && isSorted(rightKeys, first.getClass());
+    }
+
+    /**
+     * Check that keys are of [keyClass], not null and in ascending order.
+     */
+    private static boolean isSorted(Object[] keys, Class<?> keyClass) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == null || keys[i].getClass() != keyClass) {
+                return false;
+            }
+            if (i > 0 && compare(keys[i - 1], keys[i]) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compare(Object first, Object second) {
+        return ((Comparable<Object>) first).compareTo(second);
+    }
+
+    private static int capacity(int expectedSize) {
+        return (int) (expectedSize / 0.75f) + 1;
+    }
+
+    /**
+     * Hash table of element indexes by key. Indexes with equal keys are chained in ascending order through one int
+     * array, so the table doesn't create a list for every key.
+     */
+    static final class JoinTable {
+
+        private final Map<Object, Integer> heads;
+        private final int[] next;
+
+        JoinTable(Object[] keys) {
+            heads = new HashMap<>(capacity(keys.length));
+            next = new int[keys.length];
+            for (int i = keys.length - 1; i >= 0; i--) {
+                if (keys[i] == null) {
+                    continue;
+                }
+                Integer head = heads.put(keys[i], i);
+                next[i] = head == null ? -1 : head;
+            }
+        }
+
+        /**
+         * Gets the first index with [key].
+         * @param key the key
+         * @return the index or -1
+         */
+        int first(Object key) {
+            Integer head = key == null ? null : heads.get(key);
+            return head == null ? -1 : head;
+        }
+
+        /**
+         * Gets the next index with the same key.
+         * @param index the index
+         * @return the index or -1
+         */
+        int next(int index) {
+            return next[index];
+        }
+    }
+
+    /**
+     * Growing int array.
+     */
+    private static final class IntBuffer {
+
+        int[] values = new int[16];
+        int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                int[] grown = new int[size * 2];
+                System.arraycopy(values, 0, grown, 0, size);
+                values = grown;
+            }
+            values[size++] = value;
+        }
+    }
+}
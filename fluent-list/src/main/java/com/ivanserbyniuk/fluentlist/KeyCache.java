@@ -0,0 +1,256 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+/**
+ * Key selector which computes the key of every element once and remembers it. Elements are compared by identity, so
+ * the cache works for elements without equals and hashCode. Pass the same cache to several operators to compute keys
+ * only once:
+ * <pre>
+ *     KeyCache&lt;User, Date&gt; birthday = users.cachedBy(user -&gt; parseDate(user.birthday));
+ *     List&lt;User&gt; sorted = users.sortedBy(birthday);
+ *     User oldest = users.minBy(birthday);
+ * </pre>
+ * The cache keeps at most [maxSize] keys and evicts the least recently used one. The weak cache doesn't keep its
+ * elements from being garbage collected, keys of collected elements are removed. The cache is thread safe, the key
+ * function is called without holding the lock, so it may be called twice for the same element by parallel threads.
+ * @param <T> the type parameter
+ * @param <K> the type parameter
+ */
+public final class KeyCache<T, K>
+        implements ListUtils.TransformFunc<T, K> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final ListUtils.TransformFunc<T, K> keySelector;
+    private final int maxSize;
+    private final ReferenceQueue<T> queue;
+    private final Entry<T, K> head = new Entry<>(null, 0, null, null);
+    private Entry<T, K>[] table;
+    private int size;
+    private int hits;
+    private int misses;
+
+    private KeyCache(ListUtils.TransformFunc<T, K> keySelector, int maxSize, boolean weak) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Max size " + maxSize + " must be positive.");
+        }
+        this.keySelector = keySelector;
+        this.maxSize = maxSize;
+        this.queue = weak ? new ReferenceQueue<T>() : null;
+        this.table = newTable(Dedup.capacity(Math.min(maxSize, 1 << 16)));
+        head.before = head;
+        head.after = head;
+    }
+
+    /**
+     * Create cache which keeps its elements.
+     * @param <T> the type parameter
+     * @param <K> the type parameter
+     * @param keySelector the key selector
+     * @param maxSize the max number of cached keys
+     * @return the key cache
+     */
+    public static <T, K> KeyCache<T, K> create(ListUtils.TransformFunc<T, K> keySelector, int maxSize) {
+        return new KeyCache<>(keySelector, maxSize, false);
+    }
+
+    /**
+     * Create cache which references its elements weakly, for lists which live longer than their elements.
+     * @param <T> the type parameter
+     * @param <K> the type parameter
+     * @param keySelector the key selector
+     * @param maxSize the max number of cached keys
+     * @return the key cache
+     */
+    public static <T, K> KeyCache<T, K> weak(ListUtils.TransformFunc<T, K> keySelector, int maxSize) {
+        return new KeyCache<>(keySelector, maxSize, true);
+    }
+
+    @Override
+    public K apply(T value) {
+        if (value == null) {
+            return keySelector.apply(null);
+        }
+        int hash = System.identityHashCode(value);
+        synchronized (this) {
+            expungeCollected();
+            Entry<T, K> entry = find(value, hash);
+            if (entry != null) {
+                hits++;
+                entry.unlink();
+                entry.linkBefore(head);
+                return entry.key;
+            }
+            misses++;
+        }
+        K key = keySelector.apply(value);
+        synchronized (this) {
+            if (find(value, hash) == null) {
+                insert(value, hash, key);
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Gets the number of cached keys.
+     * @return the size
+     */
+    public synchronized int size() {
+        expungeCollected();
+        return size;
+    }
+
+    /**
+     * Gets the number of calls which found the key in the cache.
+     * @return the hits
+     */
+    public synchronized int hits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of calls which computed the key.
+     * @return the misses
+     */
+    public synchronized int misses() {
+        return misses;
+    }
+
+    /**
+     * Remove all keys.
+     */
+    public synchronized void clear() {
+        table = newTable(MIN_CAPACITY);
+        head.before = head;
+        head.after = head;
+        size = 0;
+        if (queue != null) {
+            while (queue.poll() != null) {
+                // entries are already unreachable from the table
+            }
+        }
+    }
+
+    private Entry<T, K> find(T value, int hash) {
+        Entry<T, K> entry = table[hash & (table.length - 1)];
+        while (entry != null) {
+            if (entry.hash == hash && entry.item() == value) {
+                return entry;
+            }
+            entry = entry.next;
+        }
+        return null;
+    }
+
+    private void insert(T value, int hash, K key) {
+        int index = hash & (table.length - 1);
+        Entry<T, K> entry = new Entry<>(value, hash, key, queue);
+        entry.next = table[index];
+        table[index] = entry;
+        entry.linkBefore(head);
+        if (++size > maxSize) {
+            remove(head.after);
+        } else if (size * 4 > table.length * 3 && table.length < (1 << 30)) {
+            rehash();
+        }
+    }
+
+    private void remove(Entry<T, K> entry) {
+        int index = entry.hash & (table.length - 1);
+        Entry<T, K> previous = null;
+        Entry<T, K> current = table[index];
+        while (current != null) {
+            if (current == entry) {
+                if (previous == null) {
+                    table[index] = current.next;
+                } else {
+                    previous.next = current.next;
+                }
+                entry.unlink();
+                size--;
+                return;
+            }
+            previous = current;
+            current = current.next;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void expungeCollected() {
+        if (queue == null) {
+            return;
+        }
+        Object collected;
+        while ((collected = queue.poll()) != null) {
+            remove((Entry<T, K>) collected);
+        }
+    }
+
+    private void rehash() {
+        Entry<T, K>[] old = table;
+        table = newTable(old.length * 2);
+        int mask = table.length - 1;
+        for (Entry<T, K> bucket : old) {
+            Entry<T, K> entry = bucket;
+            while (entry != null) {
+                Entry<T, K> next = entry.next;
+                int index = entry.hash & mask;
+                entry.next = table[index];
+                table[index] = entry;
+                entry = next;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, K> Entry<T, K>[] newTable(int capacity) {
+        return (Entry<T, K>[]) new Entry<?, ?>[capacity];
+    }
+
+    /**
+     * Cached key, entries are chained in the bucket and in the order of use. The entry of the cache which keeps its
+     * elements references the element strongly, so the weak reference is never cleared.
+     * @param <T> the type parameter
+     * @param <K> the type parameter
+     */
+    private static final class Entry<T, K>
+            extends WeakReference<T> {
+
+        final int hash;
+        final K key;
+        final T strongItem;
+        Entry<T, K> next;
+        Entry<T, K> before;
+        Entry<T, K> after;
+
+        Entry(T item, int hash, K key, ReferenceQueue<T> queue) {
+            super(item, queue);
+            this.hash = hash;
+            this.key = key;
+            this.strongItem = queue == null ? item : null;
+        }
+
+        T item() {
+            return strongItem != null ? strongItem : get();
+        }
+
+        void linkBefore(Entry<T, K> entry) {
+            after = entry;
+            before = entry.before;
+            before.after = this;
+            entry.before = this;
+        }
+
+        void unlink() {
+            if (before != null) {
+                before.after = after;
+                after.before = before;
+                before = null;
+                after = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,733 @@
+package com.ivanserbyniuk.fluentlist;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Lazy view of a list that records the chain of intermediate operations and runs them in a single pass when a
+ * terminal operation ({@link #toList()}, {@link #count()}, {@link #any}, {@link #firstOrNull()}, {@link #reduce}...)
+ * is invoked. Intermediate operations don't create intermediate lists, and terminal operations such as
+ * {@link #any} or {@link #firstOrNull()} stop the traversal as soon as the result is known.
+ * <p>
+ * A lazy list can be evaluated many times, every terminal operation traverses the source again.
+ * @param <T> the type parameter
+ */
+public class LazyFluentList<T> {
+
+    private final Source<T> source;
+
+    private LazyFluentList(Source<T> source) {
+        this.source = source;
+    }
+
+    /**
+     * Create LazyFluentList from List.
+     * @param <T> the type parameter
+     * @param list the list
+     * @return the lazy fluent list
+     */
+    public static <T> LazyFluentList<T> from(@NonNull final List<T> list) {
+        return new LazyFluentList<>(new Source<T>() {
+            @Override
+            public void push(Sink<T> sink) {
+                if (list instanceof RandomAccess) {
+                    for (int i = 0, size = list.size(); i < size; i++) {
+                        if (!sink.accept(list.get(i))) {
+                            break;
+                        }
+                    }
+                } else {
+                    for (T item : list) {
+                        if (!sink.accept(item)) {
+                            break;
+                        }
+                    }
+                }
+                sink.end();
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+    }
+
+    /**
+     * Create LazyFluentList from Iterable, every terminal operation iterates it again.
+     * @param <T> the type parameter
+     * @param iterable the iterable
+     * @return the lazy fluent list
+     */
+    public static <T> LazyFluentList<T> from(@NonNull final Iterable<T> iterable) {
+        return new LazyFluentList<>(new Source<T>() {
+            @Override
+            public void push(Sink<T> sink) {
+                pushAll(iterable.iterator(), sink);
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+    }
+
+    /**
+     * Create LazyFluentList which pulls items from [iterator] one by one, e.g. rows of a cursor or lines of a file,
+     * so the items are never held together. The list can be evaluated once.
+     * @param <T> the type parameter
+     * @param iterator the iterator
+     * @return the lazy fluent list
+     */
+    public static <T> LazyFluentList<T> fromIterator(@NonNull final Iterator<T> iterator) {
+        return new LazyFluentList<>(new Source<T>() {
+            private boolean consumed;
+
+            @Override
+            public void push(Sink<T> sink) {
+                if (consumed) {
+                    throw new IllegalStateException("Iterator is already consumed.");
+                }
+                consumed = true;
+                pushAll(iterator, sink);
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+    }
+
+    /**
+     * Create LazyFluentList which consumes items of [channel] while producers add them. The list can be evaluated
+     * once, the channel is cancelled if the terminal operation stops before the channel is closed.
+     * @param <T> the type parameter
+     * @param channel the channel
+     * @return the lazy fluent list
+     */
+    public static <T> LazyFluentList<T> from(@NonNull final BoundedChannel<T> channel) {
+        return new LazyFluentList<>(new Source<T>() {
+            @Override
+            public void push(Sink<T> sink) {
+                Iterator<T> iterator = channel.iterator();
+                try {
+                    pushAll(iterator, sink);
+                } finally {
+                    channel.cancel();
+                }
+            }
+
+            @Override
+            public void cancel() {
+                channel.cancel();
+            }
+        });
+    }
+
+    private static <T> void pushAll(Iterator<T> iterator, Sink<T> sink) {
+        while (iterator.hasNext()) {
+            if (!sink.accept(iterator.next())) {
+                break;
+            }
+        }
+        sink.end();
+    }
+
+    /**
+     * Transform items.
+     * @param <R> the type parameter
+     * @param transform the transform
+     * @return the lazy fluent list
+     */
+    public <R> LazyFluentList<R> map(final ListUtils.TransformFunc<T, R> transform) {
+        return new LazyFluentList<>(new Source<R>() {
+            @Override
+            public void push(final Sink<R> downstream) {
+                source.push(new Sink<T>() {
+                    @Override
+                    boolean accept(T item) {
+                        return downstream.accept(transform.apply(item));
+                    }
+
+                    @Override
+                    void end() {
+                        downstream.end();
+                    }
+                });
+            }
+
+            @Override
+            public void cancel() {
+                source.cancel();
+            }
+        });
+    }
+
+    /**
+     * Filter items by predicate.
+     * @param predicate the predicate
+     * @return the lazy fluent list
+     */
+    public LazyFluentList<T> filter(final ListUtils.Predicate<T> predicate) {
+        return new LazyFluentList<>(new Source<T>() {
+            @Override
+            public void push(final Sink<T> downstream) {
+                source.push(new Sink<T>() {
+                    @Override
+                    boolean accept(T item) {
+                        return !predicate.test(item) || downstream.accept(item);
+                    }
+
+                    @Override
+                    void end() {
+                        downstream.end();
+                    }
+                });
+            }
+
+            @Override
+            public void cancel() {
+                source.cancel();
+            }
+        });
+    }
+
+    /**
+     * Yields all elements from results of [transformer] function being invoked on each element.
+     * @param <R> the type parameter
+     * @param transformer the transformer
+     * @return the lazy fluent list
+     */
+    public <R> LazyFluentList<R> flatMap(final ListUtils.TransformFunc<T, List<R>> transformer) {
+        return flatMapIterable(transformer);
+    }
+
+    /**
+     * Yields all elements emitted by [transformer] to the sink.
+     * @param <R> the type parameter
+     * @param transformer the transformer
+     * @return the lazy fluent list
+     */
+    public <R> LazyFluentList<R> flatMap(final ListUtils.FlatMapFunc<T, R> transformer) {
+        return new LazyFluentList<>(new Source<R>() {
+            @Override
+            public void push(final Sink<R> downstream) {
+                source.push(new Sink<T>() {
+                    private boolean stopped;
+                    private final ListUtils.ConsumerFunc<R> emitter = new ListUtils.ConsumerFunc<R>() {
+                        @Override
+                        public void apply(R value) {
+                            if (!stopped) {
+                                stopped = !downstream.accept(value);
+                            }
+                        }
+                    };
+
+                    @Override
+                    boolean accept(T item) {
+                        transformer.apply(item, emitter);
+                        return !stopped;
+                    }
+
+                    @Override
+                    void end() {
+                        downstream.end();
+                    }
+                });
+            }
+
+            @Override
+            public void cancel() {
+                source.cancel();
+            }
+        });
+    }
+
+    /**
+     * Yields all elements of iterables returned by [transformer].
+     * @param <R> the type parameter
+     * @param transformer the transformer
+     * @return the lazy fluent list
+     */
+    public <R> LazyFluentList<R> flatMapIterable(final ListUtils.TransformFunc<T, ? extends Iterable<R>> transformer) {
+        return new LazyFluentList<>(new Source<R>() {
+            @Override
+            public void push(final Sink<R> downstream) {
+                source.push(new Sink<T>() {
+                    @Override
+                    boolean accept(T item) {
+                        for (R result : transformer.apply(item)) {
+                            if (!downstream.accept(result)) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    }
+
+                    @Override
+                    void end() {
+                        downstream.end();
+                    }
+                });
+            }
+
+            @Override
+            public void cancel() {
+                source.cancel();
+            }
+        });
+    }
+
+    /**
+     * Skip duplicated items, the first occurrence of each item is kept.
+     * @return the lazy fluent list
+     */
+    public LazyFluentList<T> distinct() {
+        return distinct(new ListUtils.TransformFunc<T, T>() {
+            @Override
+            public T apply(T value) {
+                return value;
+            }
+        });
+    }
+
+    /**
+     * Skip items with duplicated keys, the first item for each key is kept.
+     * @param <K> the type parameter
+     * @param keySelector the key selector
+     * @return the lazy fluent list
+     */
+    public <K> LazyFluentList<T> distinct(final ListUtils.TransformFunc<T, K> keySelector) {
+        return new LazyFluentList<>(new Source<T>() {
+            @Override
+            public void push(final Sink<T> downstream) {
+                final Dedup.ObjectSet keys = new Dedup.ObjectSet(0);
+                source.push(new Sink<T>() {
+                    @Override
+                    boolean accept(T item) {
+                        return !keys.add(keySelector.apply(item)) || downstream.accept(item);
+                    }
+
+                    @Override
+                    void end() {
+                        downstream.end();
+                    }
+                });
+            }
+
+            @Override
+            public void cancel() {
+                source.cancel();
+            }
+        });
+    }
+
+    /**
+     * Sort items by key. Sorting needs all items, so the items are buffered until the upstream is exhausted.
+     * @param <R> the type parameter
+     * @param transform the transform
+     * @return the lazy fluent list
+     */
+    public <R extends Comparable<R>> LazyFluentList<T> sortedBy(final ListUtils.TransformFunc<T, R> transform) {
+        return new LazyFluentList<>(new Source<T>() {
+            @Override
+            public void push(final Sink<T> downstream) {
+                final List<T> buffer = new ArrayList<>();
+                source.push(new Sink<T>() {
+                    @Override
+                    boolean accept(T item) {
+                        return buffer.add(item);
+                    }
+
+                    @Override
+                    void end() {
+                        for (T item : ListUtils.sortedBy(buffer, transform)) {
+                            if (!downstream.accept(item)) {
+                                break;
+                            }
+                        }
+                        downstream.end();
+                    }
+                });
+            }
+
+            @Override
+            public void cancel() {
+                source.cancel();
+            }
+        });
+    }
+
+    /**
+     * Take first [count] items.
+     * @param count the count
+     * @return the lazy fluent list
+     */
+    public LazyFluentList<T> take(final int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Requested element count " + count + " is less than zero.");
+        }
+        return new LazyFluentList<>(new Source<T>() {
+            @Override
+            public void push(final Sink<T> downstream) {
+                if (count == 0) {
+                    source.cancel();
+                    downstream.end();
+                    return;
+                }
+                source.push(new Sink<T>() {
+                    private int taken;
+
+                    @Override
+                    boolean accept(T item) {
+                        return downstream.accept(item) && ++taken < count;
+                    }
+
+                    @Override
+                    void end() {
+                        downstream.end();
+                    }
+                });
+            }
+
+            @Override
+            public void cancel() {
+                source.cancel();
+            }
+        });
+    }
+
+    /**
+     * Group items into chunks of [size] items, the last chunk may be smaller. A chunk is created when its last item
+     * is reached, so only one chunk is buffered and chunks after a short-circuiting terminal are never built.
+     * @param size the chunk size
+     * @return the lazy fluent list of chunks
+     */
+    public LazyFluentList<List<T>> chunked(final int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Size " + size + " must be positive.");
+        }
+        return new LazyFluentList<>(new Source<List<T>>() {
+            @Override
+            public void push(final Sink<List<T>> downstream) {
+                source.push(new Sink<T>() {
+                    private List<T> chunk = new ArrayList<>(size);
+                    private boolean stopped;
+
+                    @Override
+                    boolean accept(T item) {
+                        chunk.add(item);
+                        if (chunk.size() < size) {
+                            return true;
+                        }
+                        List<T> full = chunk;
+                        chunk = new ArrayList<>(size);
+                        stopped = !downstream.accept(full);
+                        return !stopped;
+                    }
+
+                    @Override
+                    void end() {
+                        if (!stopped && !chunk.isEmpty()) {
+                            downstream.accept(chunk);
+                        }
+                        downstream.end();
+                    }
+                });
+            }
+
+            @Override
+            public void cancel() {
+                source.cancel();
+            }
+        });
+    }
+
+    /**
+     * Collect items to the fluent list.
+     * @return the fluent list
+     */
+    @NonNull
+    public FluentList<T> toList() {
+        final List<T> result = new ArrayList<>();
+        source.push(new Sink<T>() {
+            @Override
+            boolean accept(T item) {
+                return result.add(item);
+            }
+        });
+        return FluentList.from(result);
+    }
+
+    /**
+     * Iterate each element.
+     * @param consumer the consumer
+     */
+    public void forEachItem(final ListUtils.ConsumerFunc<T> consumer) {
+        source.push(new Sink<T>() {
+            @Override
+            boolean accept(T item) {
+                consumer.apply(item);
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Returns the number of elements.
+     */
+    public int count() {
+        CountSink<T> sink = new CountSink<>(null);
+        source.push(sink);
+        return sink.count;
+    }
+
+    /**
+     * Returns the number of elements matching the given [predicate].
+     */
+    public int count(final ListUtils.Predicate<T> predicate) {
+        CountSink<T> sink = new CountSink<>(predicate);
+        source.push(sink);
+        return sink.count;
+    }
+
+    /**
+     * Is at least one element matches the given [predicate].
+     * @param predicate the predicate
+     * @return `true` if at least one element matches the given [predicate]
+     */
+    public boolean any(final ListUtils.Predicate<T> predicate) {
+        FirstSink<T> sink = new FirstSink<>(predicate);
+        source.push(sink);
+        return sink.found;
+    }
+
+    /**
+     * Is all elements match the given [predicate].
+     * @param predicate the predicate
+     * @return `true` if all elements match the given [predicate]
+     */
+    public boolean all(final ListUtils.Predicate<T> predicate) {
+        return !any(new ListUtils.Predicate<T>() {
+            @Override
+            public boolean test(T value) {
+                return !predicate.test(value);
+            }
+        });
+    }
+
+    /**
+     * Is no elements match the given [predicate].
+     * @param predicate the predicate
+     * @return true if no elements match the given [predicate]
+     */
+    public boolean non(final ListUtils.Predicate<T> predicate) {
+        return !any(predicate);
+    }
+
+    /**
+     * Return first item or null if there are no items.
+     */
+    @Nullable
+    public T firstOrNull() {
+        FirstSink<T> sink = new FirstSink<>(null);
+        source.push(sink);
+        return sink.item;
+    }
+
+    /**
+     * Find item by predicate.
+     * @param predicate the predicate
+     * @return the first item by the predicate.
+     */
+    @Nullable
+    public T firstOrNull(final ListUtils.Predicate<T> predicate) {
+        FirstSink<T> sink = new FirstSink<>(predicate);
+        source.push(sink);
+        return sink.item;
+    }
+
+    /**
+     * Provide reduce operation, such as finding min or max value, sum or multiply all items.
+     * @param reducer the reducer
+     * @return the reduced value
+     */
+    @NonNull
+    public T reduce(final ListUtils.BiOperationFunc<T, T> reducer) {
+        ReduceSink<T> sink = new ReduceSink<>(reducer);
+        source.push(sink);
+        if (sink.empty) {
+            throw new UnsupportedOperationException("Empty collection can't be reduced.");
+        }
+        return sink.accumulator;
+    }
+
+    /**
+     * Groups items by the key returned by the given [keySelector].
+     * @param <K> the type parameter
+     * @param keySelector the key selector
+     * @return the grouped map
+     */
+    @NonNull
+    public <K> Map<K, List<T>> groupBy(final ListUtils.TransformFunc<T, K> keySelector) {
+        final Map<K, List<T>> groups = new HashMap<>();
+        source.push(new Sink<T>() {
+            @Override
+            boolean accept(T item) {
+                K key = keySelector.apply(item);
+                List<T> group = groups.get(key);
+                if (group == null) {
+                    group = new ArrayList<>();
+                    groups.put(key, group);
+                }
+                return group.add(item);
+            }
+        });
+        return groups;
+    }
+
+    /**
+     * Creates a string from all the elements separated using [separator], items are appended as they arrive.
+     * @param <R> the type parameter
+     * @param separator the separator
+     * @param transform the transform
+     * @return the string
+     */
+    @NonNull
+    public <R> String joinToStringBy(final String separator, final ListUtils.TransformFunc<T, R> transform) {
+        final StringBuilder builder = new StringBuilder();
+        source.push(new Sink<T>() {
+            private boolean first = true;
+
+            @Override
+            boolean accept(T item) {
+                if (!first) {
+                    builder.append(separator);
+                }
+                first = false;
+                builder.append(transform.apply(item));
+                return true;
+            }
+        });
+        return builder.toString();
+    }
+
+    /**
+     * Creates a string from all the elements separated using ", " as separator.
+     * @param <R> the type parameter
+     * @param transform the transform
+     * @return the string
+     */
+    @NonNull
+    public <R> String joinToStringBy(final ListUtils.TransformFunc<T, R> transform) {
+        return joinToStringBy(", ", transform);
+    }
+
+    /**
+     * Pushes items to the sink chain.
+     * @param <T> the type parameter
+     */
+    interface Source<T> {
+
+        /**
+         * Push every item to the [sink] until it refuses the item, then call {@link Sink#end()}.
+         * @param sink the sink
+         */
+        void push(Sink<T> sink);
+
+        /**
+         * Release the source without pushing items, e.g. when no item is needed.
+         */
+        void cancel();
+    }
+
+    /**
+     * Receiver of the items of the pipeline stage.
+     * @param <T> the type parameter
+     */
+    abstract static class Sink<T> {
+
+        /**
+         * Accept item.
+         * @param item the item
+         * @return false if no more items are needed
+         */
+        abstract boolean accept(T item);
+
+        /**
+         * Called once when the upstream has no more items.
+         */
+        void end() {
+        }
+    }
+
+    private static final class CountSink<T>
+            extends Sink<T> {
+
+        private final ListUtils.Predicate<T> predicate;
+        private int count;
+
+        CountSink(ListUtils.Predicate<T> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        boolean accept(T item) {
+            if (predicate == null || predicate.test(item)) {
+                count++;
+            }
+            return true;
+        }
+    }
+
+    private static final class FirstSink<T>
+            extends Sink<T> {
+
+        private final ListUtils.Predicate<T> predicate;
+        private boolean found;
+        private T item;
+
+        FirstSink(ListUtils.Predicate<T> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        boolean accept(T item) {
+            if (predicate == null || predicate.test(item)) {
+                this.item = item;
+                found = true;
+                return false;
+            }
+            return true;
+        }
+    }
+
+    private static final class ReduceSink<T>
+            extends Sink<T> {
+
+        private final ListUtils.BiOperationFunc<T, T> reducer;
+        private boolean empty = true;
+        private T accumulator;
+
+        ReduceSink(ListUtils.BiOperationFunc<T, T> reducer) {
+            this.reducer = reducer;
+        }
+
+        @Override
+        boolean accept(T item) {
+            if (empty) {
+                accumulator = item;
+                empty = false;
+            } else {
+                accumulator = reducer.apply(accumulator, item);
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.ivanserbyniuk.fluentlist;
+
+/**
+ * Receives changes of {@link ObservableFluentList}. Every callback is called after the list has been changed, once
+ * per changed element.
+ * @param <T> the type parameter
+ */
+public interface ListChangeListener<T> {
+
+    /**
+     * Called when [item] has been inserted at [index].
+     * @param index the index
+     * @param item the item
+     */
+    void onItemAdded(int index, T item);
+
+    /**
+     * Called when [item] has been removed from [index].
+     * @param index the index
+     * @param item the item
+     */
+    void onItemRemoved(int index, T item);
+
+    /**
+     * Called when [oldItem] at [index] has been replaced with [newItem].
+     * @param index the index
+     * @param oldItem the old item
+     * @param newItem the new item
+     */
+    void onItemChanged(int index, T oldItem, T newItem);
+}
@@ -0,0 +1,60 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Index of {@link FluentList} elements by key. The index is updated by the mutating methods of the list, changes made
+ * through {@link List#subList} views or directly in the wrapped list are not visible to the index.
+ * @param <T> the type parameter
+ * @param <K> the type parameter
+ */
+public abstract class ListIndex<T, K> {
+
+    final ListUtils.TransformFunc<T, K> keySelector;
+
+    ListIndex(ListUtils.TransformFunc<T, K> keySelector) {
+        this.keySelector = keySelector;
+    }
+
+    /**
+     * Find elements with [key].
+     * @param key the key
+     * @return the elements in the order they were added to the index, or empty list
+     */
+    public abstract FluentList<T> findByKey(K key);
+
+    /**
+     * Check that elements with [key] exist.
+     * @param key the key
+     * @return true if the index contains the key
+     */
+    public abstract boolean containsKey(K key);
+
+    /**
+     * Gets the number of distinct keys.
+     * @return the key count
+     */
+    public abstract int keyCount();
+
+    /**
+     * Check that [items] can be added instead of [replaced] element, before the list is changed.
+     * @param items the items
+     * @param replaced the replaced element or null
+     */
+    void checkAdded(Collection<? extends T> items, T replaced) {
+    }
+
+    abstract void added(T item);
+
+    abstract void removed(T item);
+
+    abstract void cleared();
+
+    void rebuild(List<T> list) {
+        cleared();
+        for (T item : list) {
+            added(item);
+        }
+    }
+}
@@ -4,12 +4,12 @@ import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
 
 /**
  * Helper class for common operation with lists.
@@ -29,6 +29,15 @@ public class ListUtils {
      */
     @Nullable
     public static <T> T firstOrNull(@NonNull final List<T> values, final Predicate<T> predicate) {
+        if (values instanceof RandomAccess) {
+            for (int i = 0, size = values.size(); i < size; i++) {
+                T value = values.get(i);
+                if (predicate.test(value)) {
+                    return value;
+                }
+            }
+            return null;
+        }
         for (T value : values) {
             if (predicate.test(value)) {
                 return value;
@@ -47,7 +56,14 @@ public class ListUtils {
      */
     @NonNull
     public static <T, R> List<R> map(@NonNull final List<T> list, final TransformFunc<T, R> transform) {
-        List<R> resultList = new ArrayList<>(list.size());
+        int size = list.size();
+        List<R> resultList = new ArrayList<>(size);
+        if (list instanceof RandomAccess) {
+            for (int i = 0; i < size; i++) {
+                resultList.add(transform.apply(list.get(i)));
+            }
+            return resultList;
+        }
         for (T item : list) {
             resultList.add(transform.apply(item));
         }
@@ -64,6 +80,15 @@ public class ListUtils {
     @NonNull
     public static <T> List<T> filter(@NonNull final List<T> list, final Predicate<T> predicate) {
         List<T> resultList = new ArrayList<>();
+        if (list instanceof RandomAccess) {
+            for (int i = 0, size = list.size(); i < size; i++) {
+                T item = list.get(i);
+                if (predicate.test(item)) {
+                    resultList.add(item);
+                }
+            }
+            return resultList;
+        }
         for (T item : list) {
             if (predicate.test(item)) {
                 resultList.add(item);
@@ -73,26 +98,80 @@ public class ListUtils {
     }
 
     /**
-     * Sort list by predicate.
+     * Sort list by key. The key of every item is extracted once, the sort is stable.
      * @param <T> the type parameter
      * @param <R> the type parameter
      * @param list the list
      * @param transform the transform
-     * @return the list
+     * @return the sorted list
      */
     @NonNull
     public static <T, R extends Comparable<R>> List<T> sortedBy(@NonNull final List<T> list,
                                                                 final TransformFunc<T, R> transform) {
-        List<T> sortedList = new ArrayList<>(list);
-        Collections.sort(sortedList, new Comparator<T>() {
-            @Override
-            public int compare(T first, T second) {
-                R one = transform.apply(first);
-                R two = transform.apply(second);
-                return one.compareTo(two);
-            }
-        });
-        return list;
+        Object[] items = list.toArray();
+        return Sorting.reorder(items, Sorting.sortedIndexes(Sorting.keys(items, transform), false));
+    }
+
+    /**
+     * Sort list by key in descending order. The key of every item is extracted once, the sort is stable.
+     * @param <T> the type parameter
+     * @param <R> the type parameter
+     * @param list the list
+     * @param transform the transform
+     * @return the sorted list
+     */
+    @NonNull
+    public static <T, R extends Comparable<R>> List<T> sortedByDescending(@NonNull final List<T> list,
+                                                                          final TransformFunc<T, R> transform) {
+        Object[] items = list.toArray();
+        return Sorting.reorder(items, Sorting.sortedIndexes(Sorting.keys(items, transform), true));
+    }
+
+    /**
+     * Sort list by int key without boxing the keys.
+     * @param <T> the type parameter
+     * @param list the list
+     * @param transform the transform
+     * @return the sorted list
+     */
+    @NonNull
+    public static <T> List<T> sortedByInt(@NonNull final List<T> list, final ToIntFunc<T> transform) {
+        Object[] items = list.toArray();
+        int[] keys = new int[items.length];
+        for (int i = 0; i < items.length; i++) {
+            keys[i] = transform.apply(Sorting.<T>item(items, i));
+        }
+        return Sorting.reorder(items, Sorting.sortedIndexes(keys, false));
+    }
+
+    /**
+     * Sort list by long key without boxing the keys.
+     * @param <T> the type parameter
+     * @param list the list
+     * @param transform the transform
+     * @return the sorted list
+     */
+    @NonNull
+    public static <T> List<T> sortedByLong(@NonNull final List<T> list, final ToLongFunc<T> transform) {
+        Object[] items = list.toArray();
+        long[] keys = new long[items.length];
+        for (int i = 0; i < items.length; i++) {
+            keys[i] = transform.apply(Sorting.<T>item(items, i));
+        }
+        return Sorting.reorder(items, Sorting.sortedIndexes(keys, false));
+    }
+
+    /**
+     * Sort list by several keys.
+     * @param <T> the type parameter
+     * @param list the list
+     * @param order the order
+     * @return the sorted list
+     */
+    @NonNull
+    public static <T> List<T> sortedWith(@NonNull final List<T> list, final SortOrder<T> order) {
+        Object[] items = list.toArray();
+        return Sorting.reorder(items, order.sortedIndexes(items));
     }
 
     /**
@@ -102,6 +181,12 @@ public class ListUtils {
      * @param consumer the consumer
      */
     public static <T> void forEach(@NonNull final List<T> list, ConsumerFunc<T> consumer) {
+        if (list instanceof RandomAccess) {
+            for (int i = 0, size = list.size(); i < size; i++) {
+                consumer.apply(list.get(i));
+            }
+            return;
+        }
         for (T item : list) {
             consumer.apply(item);
         }
@@ -114,8 +199,34 @@ public class ListUtils {
      * @param consumer the consumer
      */
     public static <T> void forEachIndexes(@NonNull final List<T> list, ConsumerFunc2<Integer, T> consumer) {
-        for (int i = 0; i < list.size(); i++) {
-            consumer.apply(i, list.get(i));
+        if (list instanceof RandomAccess) {
+            for (int i = 0; i < list.size(); i++) {
+                consumer.apply(i, list.get(i));
+            }
+            return;
+        }
+        int index = 0;
+        for (T item : list) {
+            consumer.apply(index++, item);
+        }
+    }
+
+    /**
+     * Iterate each element with index, the index is not boxed.
+     * @param <T> the type parameter
+     * @param list the list
+     * @param consumer the consumer
+     */
+    public static <T> void forEachIndexed(@NonNull final List<T> list, IntObjConsumer<T> consumer) {
+        if (list instanceof RandomAccess) {
+            for (int i = 0, size = list.size(); i < size; i++) {
+                consumer.apply(i, list.get(i));
+            }
+            return;
+        }
+        int index = 0;
+        for (T item : list) {
+            consumer.apply(index++, item);
         }
     }
 
@@ -131,11 +242,22 @@ public class ListUtils {
     public static <T, R> String joinToStringBy(@NonNull final List<T> list, String separator, final TransformFunc<T,
             R> transform) {
         StringBuilder stringBuilder = new StringBuilder();
-        for (int i = 0; i < list.size(); i++) {
-            stringBuilder.append(transform.apply(list.get(i)));
-            if (i < list.size() - 1) {
+        if (list instanceof RandomAccess) {
+            for (int i = 0, size = list.size(); i < size; i++) {
+                if (i > 0) {
+                    stringBuilder.append(separator);
+                }
+                stringBuilder.append(transform.apply(list.get(i)));
+            }
+            return stringBuilder.toString();
+        }
+        boolean first = true;
+        for (T item : list) {
+            if (!first) {
                 stringBuilder.append(separator);
             }
+            first = false;
+            stringBuilder.append(transform.apply(item));
         }
         return stringBuilder.toString();
     }
@@ -160,6 +282,14 @@ public class ListUtils {
      * @return true is all items of the list suppress the predicate
      */
     public static <T> boolean all(@NonNull final List<T> list, final Predicate<T> predicate) {
+        if (list instanceof RandomAccess) {
+            for (int i = 0, size = list.size(); i < size; i++) {
+                if (!predicate.test(list.get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
         for (T item : list) {
             if (!predicate.test(item)) {
                 return false;
@@ -176,6 +306,14 @@ public class ListUtils {
      * @return true if someone item of the list suppress the predicate
      */
     public static <T> boolean any(@NonNull final List<T> list, final Predicate<T> predicate) {
+        if (list instanceof RandomAccess) {
+            for (int i = 0, size = list.size(); i < size; i++) {
+                if (predicate.test(list.get(i))) {
+                    return true;
+                }
+            }
+            return false;
+        }
         for (T item : list) {
             if (predicate.test(item)) {
                 return true;
@@ -200,6 +338,14 @@ public class ListUtils {
      */
     public static <T> int count(@NonNull final List<T> list, final Predicate<T> predicate) {
         int count = 0;
+        if (list instanceof RandomAccess) {
+            for (int i = 0, size = list.size(); i < size; i++) {
+                if (predicate.test(list.get(i))) {
+                    count++;
+                }
+            }
+            return count;
+        }
         for (T item : list) {
             if (predicate.test(item)) {
                 count++;
@@ -218,13 +364,213 @@ public class ListUtils {
      */
     @NonNull
     public static <T, R> List<R> flatMap(final List<T> list, final TransformFunc<T, List<R>> transformer) {
-        ArrayList<R> resultList = new ArrayList<>();
+        return flatMap(list, transformer, 0);
+    }
+
+    /**
+     * Get flat list.
+     * @param <T> the type parameter
+     * @param <R> the type parameter
+     * @param list the list
+     * @param transformer the transformer
+     * @param expectedSize the expected size of the flat list, the list is created with this capacity
+     * @return flat list
+     */
+    @NonNull
+    public static <T, R> List<R> flatMap(final List<T> list, final TransformFunc<T, List<R>> transformer,
+                                         int expectedSize) {
+        ArrayList<R> resultList = new ArrayList<>(Math.max(expectedSize, list.size()));
+        if (list instanceof RandomAccess) {
+            for (int i = 0, size = list.size(); i < size; i++) {
+                resultList.addAll(transformer.apply(list.get(i)));
+            }
+            return resultList;
+        }
         for (T item : list) {
             resultList.addAll(transformer.apply(item));
         }
         return resultList;
     }
 
+    /**
+     * Get flat list of all items emitted by [transformer] to the sink, no temporary list is created per item.
+     * @param <T> the type parameter
+     * @param <R> the type parameter
+     * @param list the list
+     * @param transformer the transformer
+     * @return flat list
+     */
+    @NonNull
+    public static <T, R> List<R> flatMap(final List<T> list, final FlatMapFunc<T, R> transformer) {
+        final ArrayList<R> resultList = new ArrayList<>(list.size());
+        ConsumerFunc<R> sink = new ConsumerFunc<R>() {
+            @Override
+            public void apply(R value) {
+                resultList.add(value);
+            }
+        };
+        if (list instanceof RandomAccess) {
+            for (int i = 0, size = list.size(); i < size; i++) {
+                transformer.apply(list.get(i), sink);
+            }
+            return resultList;
+        }
+        for (T item : list) {
+            transformer.apply(item, sink);
+        }
+        return resultList;
+    }
+
+    /**
+     * Get flat list of items of iterables returned by [transformer].
+     * @param <T> the type parameter
+     * @param <R> the type parameter
+     * @param list the list
+     * @param transformer the transformer
+     * @return flat list
+     */
+    @NonNull
+    public static <T, R> List<R> flatMapIterable(final List<T> list,
+                                                 final TransformFunc<T, ? extends Iterable<R>> transformer) {
+        ArrayList<R> resultList = new ArrayList<>(list.size());
+        for (T item : list) {
+            for (R result : transformer.apply(item)) {
+                resultList.add(result);
+            }
+        }
+        return resultList;
+    }
+
+    /**
+     * Get iterator over items of iterables returned by [transformer]. The [transformer] is called only when the
+     * iterator needs the next item.
+     * @param <T> the type parameter
+     * @param <R> the type parameter
+     * @param list the list
+     * @param transformer the transformer
+     * @return the iterator
+     */
+    @NonNull
+    public static <T, R> Iterator<R> flatMapIterator(final List<T> list,
+                                                     final TransformFunc<T, ? extends Iterable<R>> transformer) {
+        return new Iterator<R>() {
+            private final Iterator<T> source = list.iterator();
+            private Iterator<? extends R> current;
+
+            @Override
+            public boolean hasNext() {
+                while (current == null || !current.hasNext()) {
+                    if (!source.hasNext()) {
+                        return false;
+                    }
+                    current = transformer.apply(source.next()).iterator();
+                }
+                return true;
+            }
+
+            @Override
+            public R next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("remove");
+            }
+        };
+    }
+
+    /**
+     * Return list without duplicated items, the first occurrence of each item is kept in encounter order.
+     * @param <T> the type parameter
+     * @param list the list
+     * @return the distinct list
+     */
+    @NonNull
+    public static <T> List<T> distinct(@NonNull final List<T> list) {
+        Dedup.ObjectSet seen = new Dedup.ObjectSet(list.size());
+        List<T> result = new ArrayList<>();
+        for (T item : list) {
+            if (seen.add(item)) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Return list without items with duplicated keys, the first item for each key is kept in encounter order.
+     * @param <T> the type parameter
+     * @param <K> the type parameter
+     * @param list the list
+     * @param keySelector the key selector
+     * @return the distinct list
+     */
+    @NonNull
+    public static <T, K> List<T> distinctBy(@NonNull final List<T> list, final TransformFunc<T, K> keySelector) {
+        Dedup.ObjectSet seen = new Dedup.ObjectSet(list.size());
+        List<T> result = new ArrayList<>();
+        for (T item : list) {
+            if (seen.add(keySelector.apply(item))) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Return list without items with duplicated int keys. Keys are not boxed.
+     * @param <T> the type parameter
+     * @param list the list
+     * @param keySelector the key selector
+     * @return the distinct list
+     */
+    @NonNull
+    public static <T> List<T> distinctByInt(@NonNull final List<T> list, final ToIntFunc<T> keySelector) {
+        Dedup.IntSet seen = new Dedup.IntSet(list.size());
+        List<T> result = new ArrayList<>();
+        for (T item : list) {
+            if (seen.add(keySelector.apply(item))) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Return list without items with duplicated long keys. Keys are not boxed.
+     * @param <T> the type parameter
+     * @param list the list
+     * @param keySelector the key selector
+     * @return the distinct list
+     */
+    @NonNull
+    public static <T> List<T> distinctByLong(@NonNull final List<T> list, final ToLongFunc<T> keySelector) {
+        Dedup.LongSet seen = new Dedup.LongSet(list.size());
+        List<T> result = new ArrayList<>();
+        for (T item : list) {
+            if (seen.add(keySelector.apply(item))) {
+                result.add(item);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Return list without duplicated items of the sorted list. Only neighbours are compared, so no hash set is
+     * created, but duplicates which are not adjacent are kept.
+     * @param <T> the type parameter
+     * @param list the sorted list
+     * @return the distinct list
+     */
+    @NonNull
+    public static <T> List<T> distinctSorted(@NonNull final List<T> list) {
+        return Dedup.distinctAdjacent(list);
+    }
+
     /**
      * Return HashMap that contains an ArrayList of items of list keyed by a specified {@code keySelector} function.}
      * @param <T> the type parameter
@@ -235,13 +581,30 @@ public class ListUtils {
      */
     @NonNull
     public static <T, K> Map<K, List<T>> groupBy(final List<T> list, final TransformFunc<T, K> keySelector) {
-        HashMap<K, List<T>> listMap = new HashMap<>();
-        for (T item : list) {
-            K key = keySelector.apply(item);
-            if (!listMap.containsKey(key)) {
-                listMap.put(key, new ArrayList<T>());
+        return groupBy(list, keySelector, 0);
+    }
+
+    /**
+     * Return HashMap that contains an ArrayList of items of list keyed by a specified {@code keySelector} function.}
+     * @param <T> the type parameter
+     * @param <K> the type parameter
+     * @param list the list
+     * @param keySelector the transform
+     * @param expectedKeyCount the expected number of groups, the map is created with the capacity for them
+     * @return the group map
+     */
+    @NonNull
+    public static <T, K> Map<K, List<T>> groupBy(final List<T> list, final TransformFunc<T, K> keySelector,
+                                                 int expectedKeyCount) {
+        HashMap<K, List<T>> listMap = new HashMap<>(Grouping.capacity(expectedKeyCount));
+        if (list instanceof RandomAccess) {
+            for (int i = 0, size = list.size(); i < size; i++) {
+                addToGroup(listMap, keySelector, list.get(i));
             }
-            listMap.get(key).add(item);
+            return listMap;
+        }
+        for (T item : list) {
+            addToGroup(listMap, keySelector, item);
         }
         return listMap;
     }
@@ -266,6 +629,289 @@ public class ListUtils {
         return accumulator;
     }
 
+    /**
+     * Returns the first element yielding the smallest value of the given function or throw exception if there are no
+     * elements. The key of every element is computed once.
+     * @param <T> the type parameter
+     * @param <R> the type parameter
+     * @param list the list
+     * @param transform the transform
+     * @return the element
+     */
+    public static <T, R extends Comparable<R>> T minBy(@NonNull final List<T> list,
+                                                       final TransformFunc<T, R> transform) {
+        checkNotEmpty(list);
+        return extremeBy(list, transform, -1);
+    }
+
+    /**
+     * Returns the first element yielding the largest value of the given function or throw exception if there are no
+     * elements. The key of every element is computed once.
+     * @param <T> the type parameter
+     * @param <R> the type parameter
+     * @param list the list
+     * @param transform the transform
+     * @return the element
+     */
+    public static <T, R extends Comparable<R>> T maxBy(@NonNull final List<T> list,
+                                                       final TransformFunc<T, R> transform) {
+        checkNotEmpty(list);
+        return extremeBy(list, transform, 1);
+    }
+
+    /**
+     * Returns the first element yielding the smallest value of the given function or null if there are no elements.
+     * @param <T> the type parameter
+     * @param <R> the type parameter
+     * @param list the list
+     * @param transform the transform
+     * @return the element or null
+     */
+    @Nullable
+    public static <T, R extends Comparable<R>> T minByOrNull(@NonNull final List<T> list,
+                                                             final TransformFunc<T, R> transform) {
+        return extremeBy(list, transform, -1);
+    }
+
+    /**
+     * Returns the first element yielding the largest value of the given function or null if there are no elements.
+     * @param <T> the type parameter
+     * @param <R> the type parameter
+     * @param list the list
+     * @param transform the transform
+     * @return the element or null
+     */
+    @Nullable
+    public static <T, R extends Comparable<R>> T maxByOrNull(@NonNull final List<T> list,
+                                                             final TransformFunc<T, R> transform) {
+        return extremeBy(list, transform, 1);
+    }
+
+    /**
+     * Returns the first elements yielding the smallest and the largest values of the given function, found in one
+     * traversal, or throw exception if there are no elements.
+     * @param <T> the type parameter
+     * @param <R> the type parameter
+     * @param list the list
+     * @param transform the transform
+     * @return the min and max elements
+     */
+    @NonNull
+    public static <T, R extends Comparable<R>> MinMax<T> minMaxBy(@NonNull final List<T> list,
+                                                                  final TransformFunc<T, R> transform) {
+        checkNotEmpty(list);
+        Iterator<T> iterator = list.iterator();
+        T min = iterator.next();
+        T max = min;
+        R minKey = transform.apply(min);
+        R maxKey = minKey;
+        while (iterator.hasNext()) {
+            T item = iterator.next();
+            R key = transform.apply(item);
+            if (key.compareTo(minKey) < 0) {
+                min = item;
+                minKey = key;
+            } else if (key.compareTo(maxKey) > 0) {
+                max = item;
+                maxKey = key;
+            }
+        }
+        return new MinMax<>(min, max);
+    }
+
+    /**
+     * Returns the first element yielding the smallest int value of the given function or throw exception if there
+     * are no elements.
+     * @param <T> the type parameter
+     * @param list the list
+     * @param transform the transform
+     * @return the element
+     */
+    public static <T> T minByInt(@NonNull final List<T> list, final ToIntFunc<T> transform) {
+        checkNotEmpty(list);
+        Iterator<T> iterator = list.iterator();
+        T result = iterator.next();
+        int resultKey = transform.apply(result);
+        while (iterator.hasNext()) {
+            T item = iterator.next();
+            int key = transform.apply(item);
+            if (key < resultKey) {
+                result = item;
+                resultKey = key;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the first element yielding the largest int value of the given function or throw exception if there
+     * are no elements.
+     * @param <T> the type parameter
+     * @param list the list
+     * @param transform the transform
+     * @return the element
+     */
+    public static <T> T maxByInt(@NonNull final List<T> list, final ToIntFunc<T> transform) {
+        checkNotEmpty(list);
+        Iterator<T> iterator = list.iterator();
+        T result = iterator.next();
+        int resultKey = transform.apply(result);
+        while (iterator.hasNext()) {
+            T item = iterator.next();
+            int key = transform.apply(item);
+            if (key > resultKey) {
+                result = item;
+                resultKey = key;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the first element yielding the smallest long value of the given function or throw exception if there
+     * are no elements.
+     * @param <T> the type parameter
+     * @param list the list
+     * @param transform the transform
+     * @return the element
+     */
+    public static <T> T minByLong(@NonNull final List<T> list, final ToLongFunc<T> transform) {
+        checkNotEmpty(list);
+        Iterator<T> iterator = list.iterator();
+        T result = iterator.next();
+        long resultKey = transform.apply(result);
+        while (iterator.hasNext()) {
+            T item = iterator.next();
+            long key = transform.apply(item);
+            if (key < resultKey) {
+                result = item;
+                resultKey = key;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the first element yielding the largest long value of the given function or throw exception if there
+     * are no elements.
+     * @param <T> the type parameter
+     * @param list the list
+     * @param transform the transform
+     * @return the element
+     */
+    public static <T> T maxByLong(@NonNull final List<T> list, final ToLongFunc<T> transform) {
+        checkNotEmpty(list);
+        Iterator<T> iterator = list.iterator();
+        T result = iterator.next();
+        long resultKey = transform.apply(result);
+        while (iterator.hasNext()) {
+            T item = iterator.next();
+            long key = transform.apply(item);
+            if (key > resultKey) {
+                result = item;
+                resultKey = key;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the first element yielding the smallest double value of the given function or throw exception if there
+     * are no elements.
+     * @param <T> the type parameter
+     * @param list the list
+     * @param transform the transform
+     * @return the element
+     */
+    public static <T> T minByDouble(@NonNull final List<T> list, final ToDoubleFunc<T> transform) {
+        checkNotEmpty(list);
+        Iterator<T> iterator = list.iterator();
+        T result = iterator.next();
+        double resultKey = transform.apply(result);
+        while (iterator.hasNext()) {
+            T item = iterator.next();
+            double key = transform.apply(item);
+            if (key < resultKey) {
+                result = item;
+                resultKey = key;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the first element yielding the largest double value of the given function or throw exception if there
+     * are no elements.
+     * @param <T> the type parameter
+     * @param list the list
+     * @param transform the transform
+     * @return the element
+     */
+    public static <T> T maxByDouble(@NonNull final List<T> list, final ToDoubleFunc<T> transform) {
+        checkNotEmpty(list);
+        Iterator<T> iterator = list.iterator();
+        T result = iterator.next();
+        double resultKey = transform.apply(result);
+        while (iterator.hasNext()) {
+            T item = iterator.next();
+            double key = transform.apply(item);
+            if (key > resultKey) {
+                result = item;
+                resultKey = key;
+            }
+        }
+        return result;
+    }
+
+    private static <T, R extends Comparable<R>> T extremeBy(final List<T> list, final TransformFunc<T, R> transform,
+                                                            int sign) {
+        Iterator<T> iterator = list.iterator();
+        if (!iterator.hasNext()) {
+            return null;
+        }
+        T result = iterator.next();
+        R resultKey = transform.apply(result);
+        while (iterator.hasNext()) {
+            T item = iterator.next();
+            R key = transform.apply(item);
+            if (Integer.signum(key.compareTo(resultKey)) == sign) {
+                result = item;
+                resultKey = key;
+            }
+        }
+        return result;
+    }
+
+    private static <T, K> void addToGroup(Map<K, List<T>> groups, TransformFunc<T, K> keySelector, T item) {
+        K key = keySelector.apply(item);
+        List<T> group = groups.get(key);
+        if (group == null) {
+            group = new ArrayList<>();
+            groups.put(key, group);
+        }
+        group.add(item);
+    }
+
+    private static void checkNotEmpty(final List<?> list) {
+        if (list.isEmpty()) {
+            throw new UnsupportedOperationException("Empty collection can't be reduced.");
+        }
+    }
+
+    /**
+     * Operation which accepts the int index and the element, the index is not boxed.
+     * @param <T> the type parameter
+     */
+    public interface IntObjConsumer<T> {
+
+        /**
+         * Performs operation on the given arguments.
+         * @param index the index
+         * @param value the value
+         */
+        void apply(int index, T value);
+    }
+
     /**
      * Binary operation function interface.
      * @param <T> the type parameter
@@ -282,6 +928,55 @@ public class ListUtils {
         R apply(T first, T second);
     }
 
+    /**
+     * Function which combines elements of two lists with equal keys.
+     * @param <T> the type parameter
+     * @param <U> the type parameter
+     * @param <R> the type parameter
+     */
+    public interface JoinFunc<T, U, R> {
+
+        /**
+         * Apply r.
+         * @param left the element of the left list
+         * @param right the matching element of the right list, or null if the left join found no match
+         * @return the combined value
+         */
+        R apply(T left, U right);
+    }
+
+    /**
+     * Function which combines accumulated value with the next element.
+     * @param <R> the type parameter
+     * @param <T> the type parameter
+     */
+    public interface FoldFunc<R, T> {
+
+        /**
+         * Apply r.
+         * @param accumulator the accumulated value
+         * @param value the value
+         * @return the new accumulated value
+         */
+        R apply(R accumulator, T value);
+    }
+
+    /**
+     * Function which emits any number of results for the given argument to the sink.
+     * @param <T> the type parameter
+     * @param <R> the type parameter
+     */
+    @FunctionalInterface
+    public interface FlatMapFunc<T, R> {
+
+        /**
+         * Emit results for the value.
+         * @param value the value
+         * @param sink the sink which receives the results
+         */
+        void apply(T value, ConsumerFunc<R> sink);
+    }
+
     /**
      * Represents an operation that accepts a single input argument and returns no result.
      * This is a functional interface and can therefore be used as the assignment target for a lambda expression or
@@ -350,4 +1045,115 @@ public class ListUtils {
         R apply(T value);
     }
 
-}
\ No newline at end of file
+    /**
+     * Function that produces int value from the given argument without boxing.
+     * @param <T> the type parameter
+     */
+    public interface ToIntFunc<T> {
+        /**
+         * Applies this function to the given argument.
+         * @param value the value
+         * @return the int value
+         */
+        int apply(T value);
+    }
+
+    /**
+     * Function that produces long value from the given argument without boxing.
+     * @param <T> the type parameter
+     */
+    public interface ToLongFunc<T> {
+        /**
+         * Applies this function to the given argument.
+         * @param value the value
+         * @return the long value
+         */
+        long apply(T value);
+    }
+
+    /**
+     * Function that produces double value from the given argument without boxing.
+     * @param <T> the type parameter
+     */
+    public interface ToDoubleFunc<T> {
+        /**
+         * Applies this function to the given argument.
+         * @param value the value
+         * @return the double value
+         */
+        double apply(T value);
+    }
+
+    /**
+     * Predicate of int value.
+     */
+    public interface IntPredicate {
+        /**
+         * Evaluates this predicate on the given argument.
+         * @param value the value
+         * @return the boolean
+         */
+        boolean test(int value);
+    }
+
+    /**
+     * Transform function of int value.
+     */
+    public interface IntTransformFunc {
+        /**
+         * Applies this function to the given argument.
+         * @param value the value
+         * @return the int value
+         */
+        int apply(int value);
+    }
+
+    /**
+     * Predicate of long value.
+     */
+    public interface LongPredicate {
+        /**
+         * Evaluates this predicate on the given argument.
+         * @param value the value
+         * @return the boolean
+         */
+        boolean test(long value);
+    }
+
+    /**
+     * Transform function of long value.
+     */
+    public interface LongTransformFunc {
+        /**
+         * Applies this function to the given argument.
+         * @param value the value
+         * @return the long value
+         */
+        long apply(long value);
+    }
+
+    /**
+     * Predicate of double value.
+     */
+    public interface DoublePredicate {
+        /**
+         * Evaluates this predicate on the given argument.
+         * @param value the value
+         * @return the boolean
+         */
+        boolean test(double value);
+    }
+
+    /**
+     * Transform function of double value.
+     */
+    public interface DoubleTransformFunc {
+        /**
+         * Applies this function to the given argument.
+         * @param value the value
+         * @return the double value
+         */
+        double apply(double value);
+    }
+
+}
@@ -0,0 +1,189 @@
+package com.ivanserbyniuk.fluentlist;
+
+import android.support.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable list of longs backed by a long array. Operations don't box values.
+ */
+public class LongFluentList {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final long[] values;
+    private final int size;
+
+    LongFluentList(long[] values, int size) {
+        this.values = values;
+        this.size = size;
+    }
+
+    /**
+     * Create LongFluentList from values.
+     * @param values the values
+     * @return the long fluent list
+     */
+    public static LongFluentList of(long... values) {
+        return new LongFluentList(values.clone(), values.length);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return values[index];
+    }
+
+    /**
+     * Filter list by predicate.
+     * @param predicate the predicate
+     * @return the long fluent list
+     */
+    public LongFluentList filter(final ListUtils.LongPredicate predicate) {
+        long[] result = new long[size];
+        int resultSize = 0;
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(values[i])) {
+                result[resultSize++] = values[i];
+            }
+        }
+        return new LongFluentList(result, resultSize);
+    }
+
+    /**
+     * Transform list items and return new list.
+     * @param transform the transform
+     * @return the long fluent list
+     */
+    public LongFluentList map(final ListUtils.LongTransformFunc transform) {
+        long[] result = new long[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = transform.apply(values[i]);
+        }
+        return new LongFluentList(result, size);
+    }
+
+    /**
+     * Returns the number of elements matching the given [predicate].
+     */
+    public int count(final ListUtils.LongPredicate predicate) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(values[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Is at least one element matches the given [predicate].
+     * @param predicate the predicate
+     * @return `true` if at least one element matches the given [predicate]
+     */
+    public boolean any(final ListUtils.LongPredicate predicate) {
+        for (int i = 0; i < size; i++) {
+            if (predicate.test(values[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the sum of all values.
+     */
+    public long sum() {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the smallest value or throw exception if there are no values.
+     */
+    public long min() {
+        checkNotEmpty();
+        long min = values[0];
+        for (int i = 1; i < size; i++) {
+            if (values[i] < min) {
+                min = values[i];
+            }
+        }
+        return min;
+    }
+
+    /**
+     * Returns the largest value or throw exception if there are no values.
+     */
+    public long max() {
+        checkNotEmpty();
+        long max = values[0];
+        for (int i = 1; i < size; i++) {
+            if (values[i] > max) {
+                max = values[i];
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the average of all values or NaN if there are no values.
+     */
+    public double average() {
+        return size == 0 ? Double.NaN : (double) sum() / size;
+    }
+
+    /**
+     * Returns the list sorted in ascending order.
+     */
+    public LongFluentList sorted() {
+        long[] result = Arrays.copyOf(values, size);
+        Arrays.sort(result);
+        return new LongFluentList(result, size);
+    }
+
+    /**
+     * Copy values to the new array.
+     */
+    @NonNull
+    public long[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Create FluentList of boxed values.
+     */
+    @NonNull
+    public FluentList<Long> boxed() {
+        List<Long> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(values[i]);
+        }
+        return FluentList.from(list);
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new UnsupportedOperationException("Empty collection can't be reduced.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,213 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Read-only list of records of a memory-mapped file. Records are decoded by {@link RecordCodec} on every access,
+ * the file content stays in the page cache instead of the Java heap. A file larger than 2 GB is mapped by several
+ * segments, every segment contains whole records.
+ * <p>
+ * Records of fixed size are located by arithmetic. For records of variable size the file is scanned once when the
+ * list is created and the offset of every record is kept in an int array.
+ * @param <T> the type parameter
+ */
+final class MappedFileList<T>
+        extends AbstractList<T>
+        implements RandomAccess {
+
+    private static final int LENGTH_BYTES = 4;
+    private static final int MAX_SEGMENT_BYTES = 1 << 30;
+    private static final int WRITE_BUFFER_BYTES = 64 * 1024;
+
+    private final RecordCodec<T> codec;
+    private final MappedByteBuffer[] segments;
+    private final int size;
+    private final int recordsPerSegment;
+    private final int[] segmentStarts;
+    private final int[] offsets;
+
+    private MappedFileList(RecordCodec<T> codec, MappedByteBuffer[] segments, int size, int recordsPerSegment,
+                           int[] segmentStarts, int[] offsets) {
+        this.codec = codec;
+        this.segments = segments;
+        this.size = size;
+        this.recordsPerSegment = recordsPerSegment;
+        this.segmentStarts = segmentStarts;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Map [file] and create list of its records.
+     * @param file the file
+     * @param codec the codec
+     * @return the list
+     * @throws IOException if the file can't be mapped or its size doesn't match the records
+     */
+    static <T> MappedFileList<T> open(File file, RecordCodec<T> codec) throws IOException {
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = randomAccessFile.getChannel();
+            long length = channel.size();
+            int recordSize = codec.fixedSize();
+            return recordSize == RecordCodec.VARIABLE_SIZE
+                    ? openVariable(channel, length, codec)
+                    : openFixed(channel, length, recordSize, codec);
+        } finally {
+            randomAccessFile.close();
+        }
+    }
+
+    /**
+     * Write records of [items] to [file] through a reusable direct buffer.
+     * @param items the items
+     * @param file the file
+     * @param codec the codec
+     * @throws IOException if the file can't be written
+     */
+    static <T> void write(List<T> items, File file, RecordCodec<T> codec) throws IOException {
+        FileOutputStream stream = new FileOutputStream(file);
+        try {
+            FileChannel channel = stream.getChannel();
+            boolean variable = codec.fixedSize() == RecordCodec.VARIABLE_SIZE;
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+            for (T item : items) {
+                int recordSize = variable ? codec.size(item) : codec.fixedSize();
+                int needed = recordSize + (variable ? LENGTH_BYTES : 0);
+                if (buffer.remaining() < needed) {
+                    flush(channel, buffer);
+                    if (buffer.capacity() < needed) {
+                        buffer = ByteBuffer.allocateDirect(needed);
+                    }
+                }
+                if (variable) {
+                    buffer.putInt(recordSize);
+                }
+                int start = buffer.position();
+                codec.encode(item, buffer);
+                if (buffer.position() - start != recordSize) {
+                    throw new IllegalStateException("Codec wrote " + (buffer.position() - start)
+                            + " bytes instead of " + recordSize + ".");
+                }
+            }
+            flush(channel, buffer);
+        } finally {
+            stream.close();
+        }
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        ByteBuffer record;
+        if (offsets == null) {
+            int recordSize = codec.fixedSize();
+            int start = (index % recordsPerSegment) * recordSize;
+            record = slice(segments[index / recordsPerSegment], start, start + recordSize);
+        } else {
+            int segment = segmentOf(index);
+            int start = offsets[index];
+            int length = segments[segment].getInt(start);
+            record = slice(segments[segment], start + LENGTH_BYTES, start + LENGTH_BYTES + length);
+        }
+        return codec.decode(record);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private int segmentOf(int index) {
+        int segment = Arrays.binarySearch(segmentStarts, index);
+        return segment >= 0 ? segment : -segment - 2;
+    }
+
+    private static ByteBuffer slice(MappedByteBuffer segment, int start, int end) {
+        ByteBuffer record = segment.duplicate();
+        record.limit(end);
+        record.position(start);
+        return record;
+    }
+
+    private static <T> MappedFileList<T> openFixed(FileChannel channel, long length, int recordSize,
+                                                   RecordCodec<T> codec) throws IOException {
+        if (length % recordSize != 0) {
+            throw new IOException("File size " + length + " is not a multiple of record size " + recordSize + ".");
+        }
+        long count = length / recordSize;
+        if (count > Integer.MAX_VALUE) {
+            throw new IOException("File contains " + count + " records, more than a list can hold.");
+        }
+        int recordsPerSegment = Math.max(1, MAX_SEGMENT_BYTES / recordSize);
+        long segmentBytes = (long) recordsPerSegment * recordSize;
+        MappedByteBuffer[] segments = new MappedByteBuffer[(int) ((length + segmentBytes - 1) / segmentBytes)];
+        for (int i = 0; i < segments.length; i++) {
+            long position = i * segmentBytes;
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                    Math.min(segmentBytes, length - position));
+        }
+        return new MappedFileList<>(codec, segments, (int) count, recordsPerSegment, null, null);
+    }
+
+    private static <T> MappedFileList<T> openVariable(FileChannel channel, long length, RecordCodec<T> codec)
+            throws IOException {
+        List<MappedByteBuffer> segments = new ArrayList<>();
+        List<Integer> segmentStarts = new ArrayList<>();
+        int[] offsets = new int[16];
+        int count = 0;
+        long segmentPosition = 0;
+        while (segmentPosition < length) {
+            MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, segmentPosition,
+                    Math.min(MAX_SEGMENT_BYTES, length - segmentPosition));
+            segments.add(segment);
+            segmentStarts.add(count);
+            int offset = 0;
+            while (offset + LENGTH_BYTES <= segment.capacity()) {
+                int recordLength = segment.getInt(offset);
+                if (recordLength < 0) {
+                    throw new IOException("Negative record length " + recordLength + " at "
+                            + (segmentPosition + offset) + ".");
+                }
+                if ((long) offset + LENGTH_BYTES + recordLength > segment.capacity()) {
+                    break;
+                }
+                if (count == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, count + (count >> 1));
+                }
+                offsets[count++] = offset;
+                offset += LENGTH_BYTES + recordLength;
+            }
+            if (offset == 0) {
+                throw new IOException("Truncated or too large record at " + segmentPosition + ".");
+            }
+            segmentPosition += offset;
+        }
+        int[] starts = new int[segmentStarts.size()];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = segmentStarts.get(i);
+        }
+        return new MappedFileList<>(codec, segments.toArray(new MappedByteBuffer[segments.size()]), count, 0,
+                starts, offsets);
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
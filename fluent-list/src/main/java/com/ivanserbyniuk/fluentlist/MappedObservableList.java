@@ -0,0 +1,61 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.util.ArrayList;
+
+/**
+ * Observable list of transformed elements of the source. The transform is applied once for every added or replaced
+ * element.
+ * @param <T> the type of source elements
+ * @param <R> the type of elements
+ */
+final class MappedObservableList<T, R>
+        extends ObservableList<R>
+        implements ListChangeListener<T> {
+
+    private final ObservableList<T> source;
+    private final ListUtils.TransformFunc<T, R> transform;
+    private final ArrayList<R> values;
+
+    MappedObservableList(ObservableList<T> source, ListUtils.TransformFunc<T, R> transform) {
+        this.source = source;
+        this.transform = transform;
+        this.values = new ArrayList<>(source.size());
+        for (T item : source) {
+            values.add(transform.apply(item));
+        }
+        source.addListener(this);
+    }
+
+    @Override
+    public R get(int index) {
+        return values.get(index);
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public void onItemAdded(int index, T item) {
+        R value = transform.apply(item);
+        values.add(index, value);
+        fireAdded(index, value);
+    }
+
+    @Override
+    public void onItemRemoved(int index, T item) {
+        fireRemoved(index, values.remove(index));
+    }
+
+    @Override
+    public void onItemChanged(int index, T oldItem, T newItem) {
+        R value = transform.apply(newItem);
+        fireChanged(index, values.set(index, value), value);
+    }
+
+    @Override
+    void dispose() {
+        source.removeListener(this);
+    }
+}
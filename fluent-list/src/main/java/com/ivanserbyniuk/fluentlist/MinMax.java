@@ -0,0 +1,37 @@
+package com.ivanserbyniuk.fluentlist;
+
+/**
+ * The smallest and the largest elements found in one traversal.
+ * @param <T> the type parameter
+ */
+public final class MinMax<T> {
+
+    private final T min;
+    private final T max;
+
+    MinMax(T min, T max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * Gets the first element yielding the smallest key.
+     * @return the min
+     */
+    public T getMin() {
+        return min;
+    }
+
+    /**
+     * Gets the first element yielding the largest key.
+     * @return the max
+     */
+    public T getMax() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "MinMax{min=" + min + ", max=" + max + '}';
+    }
+}
@@ -0,0 +1,57 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * Mutable observable list backed by {@link ArrayList}. Every structural change of the {@link java.util.List} methods,
+ * including changes through iterators and sub lists, goes through {@link #add(int, Object)}, {@link #set} and
+ * {@link #remove(int)}, so listeners are notified once per element.
+ * @param <T> the type parameter
+ */
+final class ObservableArrayList<T>
+        extends ObservableList<T> {
+
+    private final ArrayList<T> items;
+
+    ObservableArrayList(Collection<? extends T> items) {
+        this.items = new ArrayList<>(items);
+    }
+
+    @Override
+    public T get(int index) {
+        return items.get(index);
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    @Override
+    public void add(int index, T element) {
+        items.add(index, element);
+        fireAdded(index, element);
+    }
+
+    @Override
+    public T set(int index, T element) {
+        T oldItem = items.set(index, element);
+        fireChanged(index, oldItem, element);
+        return oldItem;
+    }
+
+    @Override
+    public T remove(int index) {
+        T item = items.remove(index);
+        fireRemoved(index, item);
+        return item;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        for (int i = toIndex - 1; i >= fromIndex; i--) {
+            remove(i);
+        }
+    }
+}
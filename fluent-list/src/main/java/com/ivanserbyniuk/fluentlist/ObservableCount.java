@@ -0,0 +1,86 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Number of elements of {@link ObservableFluentList} matching the predicate, which is updated when the list changes.
+ * The predicate is tested once for every added or replaced element.
+ */
+public final class ObservableCount {
+
+    private final FilteredObservableList<?> matching;
+    private final List<Listener> listeners = new ArrayList<>();
+    private int count;
+
+    <T> ObservableCount(ObservableList<T> source, ListUtils.Predicate<T> predicate) {
+        FilteredObservableList<T> filtered = new FilteredObservableList<>(source, predicate);
+        filtered.addListener(new ListChangeListener<T>() {
+            @Override
+            public void onItemAdded(int index, T item) {
+                update();
+            }
+
+            @Override
+            public void onItemRemoved(int index, T item) {
+                update();
+            }
+
+            @Override
+            public void onItemChanged(int index, T oldItem, T newItem) {
+            }
+        });
+        this.matching = filtered;
+        this.count = filtered.size();
+    }
+
+    /**
+     * Gets the current count.
+     * @return the count
+     */
+    public int get() {
+        return count;
+    }
+
+    /**
+     * Add listener of the count changes.
+     * @param listener the listener
+     */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Remove listener of the count changes.
+     * @param listener the listener
+     */
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Stop updating the count.
+     */
+    public void dispose() {
+        matching.dispose();
+    }
+
+    private void update() {
+        count = matching.size();
+        for (Listener listener : new ArrayList<>(listeners)) {
+            listener.onCountChanged(count);
+        }
+    }
+
+    /**
+     * Receives changes of the count.
+     */
+    public interface Listener {
+
+        /**
+         * Called when the count has been changed.
+         * @param count the new count
+         */
+        void onCountChanged(int count);
+    }
+}
@@ -0,0 +1,140 @@
+package com.ivanserbyniuk.fluentlist;
+
+import android.support.annotation.NonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Fluent list which notifies {@link ListChangeListener}s about every added, removed and replaced element, and
+ * maintains derived views incrementally instead of recomputing them on every change.
+ * <pre>
+ *     ObservableFluentList&lt;User&gt; users = ObservableFluentList.of(loadedUsers);
+ *     ObservableFluentList&lt;User&gt; adults = users.observeFilter(user -&gt; user.age &gt;= 18)
+ *             .observeSortedBy(user -&gt; user.name);
+ *     adults.addListener(adapterListener);
+ *     users.add(newUser); // adults and the adapter receive only the inserted element
+ * </pre>
+ * Lists created with {@link #create()} and {@link #of} are mutable through the {@link java.util.List} methods, the
+ * views returned by {@code observe*} methods are read-only and throw {@link UnsupportedOperationException}. Views
+ * hold listeners registered on their source, call {@link #dispose()} to stop updating a view which is not needed
+ * anymore. Elements must be replaced with {@link #set} instead of being mutated in place, otherwise views keep
+ * results computed for the old state. Lists are not thread-safe and listeners must not change the list.
+ * @param <T> the type parameter
+ */
+public class ObservableFluentList<T>
+        extends FluentList<T> {
+
+    private final ObservableList<T> observableList;
+
+    ObservableFluentList(ObservableList<T> observableList) {
+        super(observableList);
+        this.observableList = observableList;
+    }
+
+    /**
+     * Create empty mutable observable list.
+     * @param <T> the type parameter
+     * @return the observable fluent list
+     */
+    public static <T> ObservableFluentList<T> create() {
+        return of(Collections.<T>emptyList());
+    }
+
+    /**
+     * Create mutable observable list with copy of [items].
+     * @param <T> the type parameter
+     * @param items the items
+     * @return the observable fluent list
+     */
+    public static <T> ObservableFluentList<T> of(@NonNull Collection<? extends T> items) {
+        return new ObservableFluentList<T>(new ObservableArrayList<T>(items));
+    }
+
+    /**
+     * Add listener of the list changes.
+     * @param listener the listener
+     */
+    public void addListener(ListChangeListener<? super T> listener) {
+        observableList.addListener(listener);
+    }
+
+    /**
+     * Remove listener of the list changes.
+     * @param listener the listener
+     */
+    public void removeListener(ListChangeListener<? super T> listener) {
+        observableList.removeListener(listener);
+    }
+
+    /**
+     * Create view of elements matching the [predicate], which is updated when this list changes.
+     * @param predicate the predicate
+     * @return the observable fluent list
+     */
+    public ObservableFluentList<T> observeFilter(final ListUtils.Predicate<T> predicate) {
+        return new ObservableFluentList<T>(new FilteredObservableList<>(observableList, predicate));
+    }
+
+    /**
+     * Create view of transformed elements, which is updated when this list changes.
+     * @param <R> the type parameter
+     * @param transform the transform
+     * @return the observable fluent list
+     */
+    public <R> ObservableFluentList<R> observeMap(final ListUtils.TransformFunc<T, R> transform) {
+        return new ObservableFluentList<R>(new MappedObservableList<>(observableList, transform));
+    }
+
+    /**
+     * Create view of elements sorted by key, which is updated when this list changes.
+     * @param <R> the type parameter
+     * @param keySelector the key selector
+     * @return the observable fluent list
+     */
+    public <R extends Comparable<R>> ObservableFluentList<T> observeSortedBy(
+            final ListUtils.TransformFunc<T, R> keySelector) {
+        return new ObservableFluentList<T>(new SortedObservableList<>(observableList, keySelector, false));
+    }
+
+    /**
+     * Create view of elements sorted by key in descending order, which is updated when this list changes.
+     * @param <R> the type parameter
+     * @param keySelector the key selector
+     * @return the observable fluent list
+     */
+    public <R extends Comparable<R>> ObservableFluentList<T> observeSortedByDescending(
+            final ListUtils.TransformFunc<T, R> keySelector) {
+        return new ObservableFluentList<T>(new SortedObservableList<>(observableList, keySelector, true));
+    }
+
+    /**
+     * Group elements by key, the groups are updated when this list changes.
+     * @param <K> the type parameter
+     * @param keySelector the key selector
+     * @return the observable groups
+     */
+    public <K> ObservableGroups<K, T> observeGroupBy(final ListUtils.TransformFunc<T, K> keySelector) {
+        return new ObservableGroups<>(observableList, keySelector);
+    }
+
+    /**
+     * Count elements matching the [predicate], the count is updated when this list changes.
+     * @param predicate the predicate
+     * @return the observable count
+     */
+    public ObservableCount observeCount(final ListUtils.Predicate<T> predicate) {
+        return new ObservableCount(observableList, predicate);
+    }
+
+    /**
+     * Stop updating this view. Does nothing for lists created with {@link #create()} and {@link #of}.
+     */
+    public void dispose() {
+        observableList.dispose();
+    }
+
+    ObservableList<T> observableList() {
+        return observableList;
+    }
+}
@@ -0,0 +1,131 @@
+package com.ivanserbyniuk.fluentlist;
+
+import android.support.annotation.NonNull;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read-only map of groups of {@link ObservableFluentList} which is updated when the source list changes. Every group
+ * is an observable list of the elements with the same key in source order. A group is added to the map with its
+ * first element and removed with its last element. The key of every element is extracted once and cached.
+ * @param <K> the type of keys
+ * @param <T> the type of elements
+ */
+public final class ObservableGroups<K, T>
+        extends AbstractMap<K, ObservableFluentList<T>> {
+
+    private final ObservableList<T> source;
+    private final ListUtils.TransformFunc<T, K> keySelector;
+    private final List<K> sourceKeys;
+    private final Map<K, ObservableFluentList<T>> groups = new LinkedHashMap<>();
+    private final ListChangeListener<T> listener = new ListChangeListener<T>() {
+        @Override
+        public void onItemAdded(int index, T item) {
+            itemAdded(index, item);
+        }
+
+        @Override
+        public void onItemRemoved(int index, T item) {
+            itemRemoved(index, item);
+        }
+
+        @Override
+        public void onItemChanged(int index, T oldItem, T newItem) {
+            itemChanged(index, oldItem, newItem);
+        }
+    };
+
+    ObservableGroups(ObservableList<T> source, ListUtils.TransformFunc<T, K> keySelector) {
+        this.source = source;
+        this.keySelector = keySelector;
+        this.sourceKeys = new ArrayList<>(source.size());
+        for (int i = 0, size = source.size(); i < size; i++) {
+            itemAdded(i, source.get(i));
+        }
+        source.addListener(listener);
+    }
+
+    /**
+     * Stop updating the groups.
+     */
+    public void dispose() {
+        source.removeListener(listener);
+    }
+
+    @Override
+    public ObservableFluentList<T> get(Object key) {
+        return groups.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return groups.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return groups.size();
+    }
+
+    @NonNull
+    @Override
+    public Set<Entry<K, ObservableFluentList<T>>> entrySet() {
+        return Collections.unmodifiableMap(groups).entrySet();
+    }
+
+    private void itemAdded(int index, T item) {
+        K key = keySelector.apply(item);
+        sourceKeys.add(index, key);
+        IndexedObservableList<T> target = group(key);
+        for (ObservableFluentList<T> group : groups.values()) {
+            IndexedObservableList<T> list = indexed(group);
+            list.sourceAdded(index, item, list == target);
+        }
+    }
+
+    private void itemRemoved(int index, T item) {
+        K key = sourceKeys.remove(index);
+        for (ObservableFluentList<T> group : groups.values()) {
+            indexed(group).sourceRemoved(index, item);
+        }
+        removeIfEmpty(key);
+    }
+
+    private void itemChanged(int index, T oldItem, T newItem) {
+        K oldKey = sourceKeys.get(index);
+        K newKey = keySelector.apply(newItem);
+        if (oldKey == null ? newKey == null : oldKey.equals(newKey)) {
+            indexed(groups.get(oldKey)).sourceChanged(index, oldItem, newItem, true);
+            return;
+        }
+        sourceKeys.set(index, newKey);
+        indexed(groups.get(oldKey)).sourceChanged(index, oldItem, newItem, false);
+        group(newKey).sourceChanged(index, oldItem, newItem, true);
+        removeIfEmpty(oldKey);
+    }
+
+    private IndexedObservableList<T> group(K key) {
+        ObservableFluentList<T> group = groups.get(key);
+        if (group == null) {
+            group = new ObservableFluentList<T>(new IndexedObservableList<>(source));
+            groups.put(key, group);
+        }
+        return indexed(group);
+    }
+
+    private void removeIfEmpty(K key) {
+        if (groups.get(key).isEmpty()) {
+            groups.remove(key);
+        }
+    }
+
+    private static <T> IndexedObservableList<T> indexed(ObservableFluentList<T> group) {
+        return (IndexedObservableList<T>) group.observableList();
+    }
+}
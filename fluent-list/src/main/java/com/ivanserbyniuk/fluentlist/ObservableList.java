@@ -0,0 +1,56 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * List which notifies {@link ListChangeListener}s about its changes. Listeners may be added and removed while the
+ * list notifies them, the change is applied to the next notification.
+ * @param <T> the type parameter
+ */
+abstract class ObservableList<T>
+        extends AbstractList<T>
+        implements RandomAccess {
+
+    private List<ListChangeListener<? super T>> listeners = new ArrayList<>();
+
+    void addListener(ListChangeListener<? super T> listener) {
+        List<ListChangeListener<? super T>> copy = new ArrayList<>(listeners);
+        copy.add(listener);
+        listeners = copy;
+    }
+
+    void removeListener(ListChangeListener<? super T> listener) {
+        List<ListChangeListener<? super T>> copy = new ArrayList<>(listeners);
+        copy.remove(listener);
+        listeners = copy;
+    }
+
+    /**
+     * Stop following the source list, does nothing for lists without source.
+     */
+    void dispose() {
+    }
+
+    void fireAdded(int index, T item) {
+        modCount++;
+        for (ListChangeListener<? super T> listener : listeners) {
+            listener.onItemAdded(index, item);
+        }
+    }
+
+    void fireRemoved(int index, T item) {
+        modCount++;
+        for (ListChangeListener<? super T> listener : listeners) {
+            listener.onItemRemoved(index, item);
+        }
+    }
+
+    void fireChanged(int index, T oldItem, T newItem) {
+        for (ListChangeListener<? super T> listener : listeners) {
+            listener.onItemChanged(index, oldItem, newItem);
+        }
+    }
+}
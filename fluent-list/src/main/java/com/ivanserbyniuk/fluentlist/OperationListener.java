@@ -0,0 +1,17 @@
+package com.ivanserbyniuk.fluentlist;
+
+/**
+ * Receives metrics of FluentList operations when installed with {@link Instrumentation#setListener}.
+ */
+public interface OperationListener {
+
+    /**
+     * Called after an operation has created its result.
+     * @param operation the operation name, e.g. "map"
+     * @param inputSize the size of the source list
+     * @param outputSize the size of the result list or the number of groups
+     * @param elapsedNanos the time of the operation
+     * @param allocatedBytes the estimated size of the result list in bytes, 0 if the result shares the source
+     */
+    void onOperation(String operation, int inputSize, int outputSize, long elapsedNanos, long allocatedBytes);
+}
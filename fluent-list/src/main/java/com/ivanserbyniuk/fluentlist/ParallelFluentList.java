@@ -0,0 +1,517 @@
+package com.ivanserbyniuk.fluentlist;
+
+import android.support.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * List which runs operations concurrently. The list is split into index ranges, every range is processed by
+ * {@link ExecutorService}, results are merged in encounter order. Lists smaller than the threshold are processed
+ * sequentially in the calling thread.
+ * <p>
+ * Functions passed to the operations must be thread-safe, reducers must be associative. Don't start parallel
+ * operations from functions running on the same executor, the executor may run out of threads.
+ * @param <T> the type parameter
+ */
+public class ParallelFluentList<T> {
+
+    /**
+     * Default size of list below which operations run sequentially.
+     */
+    public static final int DEFAULT_THRESHOLD = 2048;
+
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private static ExecutorService defaultExecutor;
+
+    private final List<T> list;
+    private final ExecutorService executor;
+    private final int threshold;
+
+    ParallelFluentList(List<T> list, ExecutorService executor, int threshold) {
+        this.list = list instanceof RandomAccess ? list : new ArrayList<>(list);
+        this.executor = executor;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Shared executor with daemon threads, one thread per available processor.
+     * @return the executor
+     */
+    public static synchronized ExecutorService defaultExecutor() {
+        if (defaultExecutor == null) {
+            defaultExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                    new ThreadFactory() {
+                        private final AtomicInteger count = new AtomicInteger();
+
+                        @Override
+                        public Thread newThread(@NonNull Runnable runnable) {
+                            Thread thread = new Thread(runnable, "fluent-list-" + count.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+        }
+        return defaultExecutor;
+    }
+
+    /**
+     * Create list with another threshold.
+     * @param threshold size of list below which operations run sequentially
+     * @return the parallel fluent list
+     */
+    public ParallelFluentList<T> withThreshold(int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold " + threshold + " is less than one.");
+        }
+        return new ParallelFluentList<>(list, executor, threshold);
+    }
+
+    /**
+     * Transform list items and return new list.
+     * @param <R> the type parameter
+     * @param transform the transform
+     * @return the parallel fluent list
+     */
+    public <R> ParallelFluentList<R> map(final ListUtils.TransformFunc<T, R> transform) {
+        List<List<R>> chunks = invoke(new RangeTask<List<R>>() {
+            @Override
+            public List<R> apply(int from, int to) {
+                return ListUtils.map(list.subList(from, to), transform);
+            }
+        });
+        return new ParallelFluentList<>(concat(chunks), executor, threshold);
+    }
+
+    /**
+     * Filter list by predicate.
+     * @param predicate the predicate
+     * @return the parallel fluent list
+     */
+    public ParallelFluentList<T> filter(final ListUtils.Predicate<T> predicate) {
+        List<List<T>> chunks = invoke(new RangeTask<List<T>>() {
+            @Override
+            public List<T> apply(int from, int to) {
+                return ListUtils.filter(list.subList(from, to), predicate);
+            }
+        });
+        return new ParallelFluentList<>(concat(chunks), executor, threshold);
+    }
+
+    /**
+     * Sort list by key. Keys are extracted and ranges are sorted concurrently, the sort is stable.
+     * @param <R> the type parameter
+     * @param transform the transform
+     * @return the parallel fluent list
+     */
+    public <R extends Comparable<R>> ParallelFluentList<T> sortedBy(final ListUtils.TransformFunc<T, R> transform) {
+        return sortedBy(transform, false);
+    }
+
+    /**
+     * Sort list by key in descending order. Keys are extracted and ranges are sorted concurrently, the sort is stable.
+     * @param <R> the type parameter
+     * @param transform the transform
+     * @return the parallel fluent list
+     */
+    public <R extends Comparable<R>> ParallelFluentList<T> sortedByDescending(
+            final ListUtils.TransformFunc<T, R> transform) {
+        return sortedBy(transform, true);
+    }
+
+    /**
+     * Remove duplicated items, the first occurrence of each item is kept in encounter order.
+     * @return the parallel fluent list
+     */
+    public ParallelFluentList<T> distinct() {
+        return distinct(new ListUtils.TransformFunc<T, T>() {
+            @Override
+            public T apply(T value) {
+                return value;
+            }
+        });
+    }
+
+    /**
+     * Remove items with duplicated keys, the first item for each key is kept in encounter order. Keys are extracted
+     * and every range is deduplicated concurrently, then the ranges are merged in the calling thread.
+     * @param <K> the type parameter
+     * @param keySelector the key selector
+     * @return the parallel fluent list
+     */
+    public <K> ParallelFluentList<T> distinct(final ListUtils.TransformFunc<T, K> keySelector) {
+        List<Survivors<T>> chunks = invoke(new RangeTask<Survivors<T>>() {
+            @Override
+            public Survivors<T> apply(int from, int to) {
+                Dedup.ObjectSet seen = new Dedup.ObjectSet(to - from);
+                Survivors<T> survivors = new Survivors<>();
+                for (int i = from; i < to; i++) {
+                    T item = list.get(i);
+                    K key = keySelector.apply(item);
+                    if (seen.add(key)) {
+                        survivors.items.add(item);
+                        survivors.keys.add(key);
+                    }
+                }
+                return survivors;
+            }
+        });
+        if (chunks.size() == 1) {
+            return new ParallelFluentList<>(chunks.get(0).items, executor, threshold);
+        }
+        int size = 0;
+        for (Survivors<T> chunk : chunks) {
+            size += chunk.items.size();
+        }
+        Dedup.ObjectSet seen = new Dedup.ObjectSet(size);
+        List<T> result = new ArrayList<>(size);
+        for (Survivors<T> chunk : chunks) {
+            for (int i = 0; i < chunk.items.size(); i++) {
+                if (seen.add(chunk.keys.get(i))) {
+                    result.add(chunk.items.get(i));
+                }
+            }
+        }
+        return new ParallelFluentList<>(result, executor, threshold);
+    }
+
+    /**
+     * Returns the number of elements matching the given [predicate].
+     */
+    public int count(final ListUtils.Predicate<T> predicate) {
+        List<Integer> chunks = invoke(new RangeTask<Integer>() {
+            @Override
+            public Integer apply(int from, int to) {
+                return ListUtils.count(list.subList(from, to), predicate);
+            }
+        });
+        int count = 0;
+        for (Integer chunk : chunks) {
+            count += chunk;
+        }
+        return count;
+    }
+
+    /**
+     * Combine every element with elements of [other] which have the equal key. The hash table is built on [other]
+     * in the calling thread, ranges of this list are probed concurrently. Results are in the order of this list.
+     * @param <U> the type parameter
+     * @param <K> the type parameter
+     * @param <R> the type parameter
+     * @param other the other list, usually the smaller one
+     * @param keySelector the key selector of this list
+     * @param otherKeySelector the key selector of [other]
+     * @param combiner the combiner of matching elements
+     * @return the parallel fluent list
+     */
+    public <U, K, R> ParallelFluentList<R> join(List<U> other, final ListUtils.TransformFunc<T, K> keySelector,
+            final ListUtils.TransformFunc<U, K> otherKeySelector, final ListUtils.JoinFunc<T, U, R> combiner) {
+        return join(other, keySelector, otherKeySelector, combiner, false);
+    }
+
+    /**
+     * Combine every element with elements of [other] which have the equal key, elements without matches are
+     * combined with null. Ranges of this list are probed concurrently.
+     * @param <U> the type parameter
+     * @param <K> the type parameter
+     * @param <R> the type parameter
+     * @param other the other list, usually the smaller one
+     * @param keySelector the key selector of this list
+     * @param otherKeySelector the key selector of [other]
+     * @param combiner the combiner of matching elements
+     * @return the parallel fluent list
+     */
+    public <U, K, R> ParallelFluentList<R> leftJoin(List<U> other, final ListUtils.TransformFunc<T, K> keySelector,
+            final ListUtils.TransformFunc<U, K> otherKeySelector, final ListUtils.JoinFunc<T, U, R> combiner) {
+        return join(other, keySelector, otherKeySelector, combiner, true);
+    }
+
+    /**
+     * Groups elements by the key returned by the given [keySelector]. Every group keeps encounter order.
+     * @param <K> the type parameter
+     * @param keySelector the key selector
+     * @return the grouped map
+     */
+    @NonNull
+    public <K> Map<K, List<T>> groupBy(final ListUtils.TransformFunc<T, K> keySelector) {
+        List<Map<K, List<T>>> chunks = invoke(new RangeTask<Map<K, List<T>>>() {
+            @Override
+            public Map<K, List<T>> apply(int from, int to) {
+                return ListUtils.groupBy(list.subList(from, to), keySelector);
+            }
+        });
+        if (chunks.size() == 1) {
+            return chunks.get(0);
+        }
+        Map<K, List<T>> result = new HashMap<>();
+        for (Map<K, List<T>> chunk : chunks) {
+            for (Map.Entry<K, List<T>> entry : chunk.entrySet()) {
+                List<T> group = result.get(entry.getKey());
+                if (group == null) {
+                    result.put(entry.getKey(), entry.getValue());
+                } else {
+                    group.addAll(entry.getValue());
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Create grouping by the key returned by [keySelector], which aggregates ranges concurrently and merges the
+     * accumulators with {@link Aggregator#merge}.
+     * @param <K> the type parameter
+     * @param keySelector the key selector
+     * @param expectedKeyCount the expected number of groups
+     * @return the grouping
+     */
+    public <K> Grouping<T, K> groupingBy(final ListUtils.TransformFunc<T, K> keySelector, int expectedKeyCount) {
+        return new Grouping<>(list, keySelector, expectedKeyCount, executor, threshold);
+    }
+
+    /**
+     * Select [count] elements with the highest keys. Every range is selected concurrently by its own bounded heap,
+     * then the heaps are merged.
+     * @param <R> the type parameter
+     * @param count the count
+     * @param transform the key selector
+     * @return the fluent list sorted by key in descending order
+     */
+    @NonNull
+    public <R extends Comparable<R>> FluentList<T> topBy(int count, final ListUtils.TransformFunc<T, R> transform) {
+        return selectBy(count, transform, true);
+    }
+
+    /**
+     * Select [count] elements with the lowest keys. Every range is selected concurrently by its own bounded heap,
+     * then the heaps are merged.
+     * @param <R> the type parameter
+     * @param count the count
+     * @param transform the key selector
+     * @return the fluent list sorted by key
+     */
+    @NonNull
+    public <R extends Comparable<R>> FluentList<T> bottomBy(int count, final ListUtils.TransformFunc<T, R> transform) {
+        return selectBy(count, transform, false);
+    }
+
+    /**
+     * Provide reduce operation, such as finding min or max value, sum or multiply all items. The [reducer] must be
+     * associative, every range is reduced separately and then the results are reduced in encounter order.
+     * @param reducer the reducer
+     * @return the reduced value
+     */
+    @NonNull
+    public T reduce(final ListUtils.BiOperationFunc<T, T> reducer) {
+        if (list.isEmpty()) {
+            throw new UnsupportedOperationException("Empty collection can't be reduced.");
+        }
+        List<T> chunks = invoke(new RangeTask<T>() {
+            @Override
+            public T apply(int from, int to) {
+                return ListUtils.reduce(list.subList(from, to), reducer);
+            }
+        });
+        return ListUtils.reduce(chunks, reducer);
+    }
+
+    /**
+     * Return list for the sequential operations.
+     * @return the fluent list
+     */
+    @NonNull
+    public FluentList<T> toList() {
+        return FluentList.from(list);
+    }
+
+    public int size() {
+        return list.size();
+    }
+
+    private <R extends Comparable<R>> FluentList<T> selectBy(int count,
+            final ListUtils.TransformFunc<T, R> transform, final boolean descending) {
+        final int capacity = TopK.checkCount(count, list.size());
+        List<TopK.ObjectHeap> heaps = invoke(new RangeTask<TopK.ObjectHeap>() {
+            @Override
+            public TopK.ObjectHeap apply(int from, int to) {
+                TopK.ObjectHeap heap = new TopK.ObjectHeap(capacity, descending);
+                for (int i = from; i < to; i++) {
+                    heap.offer(transform.apply(list.get(i)), i);
+                }
+                return heap;
+            }
+        });
+        TopK.ObjectHeap merged = heaps.get(0);
+        for (int i = 1; i < heaps.size(); i++) {
+            merged.offerAll(heaps.get(i));
+        }
+        return FluentList.from(merged.drain(list));
+    }
+
+    private <U, K, R> ParallelFluentList<R> join(final List<U> other, final ListUtils.TransformFunc<T, K> keySelector,
+            ListUtils.TransformFunc<U, K> otherKeySelector, final ListUtils.JoinFunc<T, U, R> combiner,
+            final boolean keepUnmatched) {
+        final Joins.JoinTable table = new Joins.JoinTable(Joins.keys(other, otherKeySelector));
+        List<List<R>> chunks = invoke(new RangeTask<List<R>>() {
+            @Override
+            public List<R> apply(int from, int to) {
+                List<T> range = list.subList(from, to);
+                List<R> result = new ArrayList<>(range.size());
+                Joins.probe(range, other, Joins.keys(range, keySelector), 0, range.size(), table, combiner,
+                        keepUnmatched, result);
+                return result;
+            }
+        });
+        return new ParallelFluentList<>(concat(chunks), executor, threshold);
+    }
+
+    private <R extends Comparable<R>> ParallelFluentList<T> sortedBy(final ListUtils.TransformFunc<T, R> transform,
+                                                                     boolean descending) {
+        final Object[] items = list.toArray();
+        final Object[] keys = new Object[items.length];
+        invoke(new RangeTask<Void>() {
+            @Override
+            public Void apply(int from, int to) {
+                for (int i = from; i < to; i++) {
+                    keys[i] = transform.apply(Sorting.<T>item(items, i));
+                }
+                return null;
+            }
+        });
+        int[] indexes = Sorting.sortedIndexes(items.length, Sorting.comparator(keys, descending), executor, threshold);
+        return new ParallelFluentList<>(Sorting.<T>reorder(items, indexes), executor, threshold);
+    }
+
+    /**
+     * Split list to index ranges and run [task] for every range.
+     * @param task the task
+     * @return results of the ranges in encounter order
+     */
+    <R> List<R> invoke(final RangeTask<R> task) {
+        return invoke(executor, list.size(), threshold, task);
+    }
+
+    /**
+     * Split [size] to index ranges and run [task] for every range, the first range runs in the calling thread.
+     * @param executor the executor
+     * @param size the size
+     * @param threshold the size below which only one range is created
+     * @param task the task
+     * @return results of the ranges in encounter order
+     */
+    static <R> List<R> invoke(ExecutorService executor, int size, int threshold, final RangeTask<R> task) {
+        int chunkCount = Math.min(size / threshold, parallelism(executor) * CHUNKS_PER_THREAD);
+        if (chunkCount <= 1) {
+            List<R> result = new ArrayList<>(1);
+            result.add(task.apply(0, size));
+            return result;
+        }
+        int chunkSize = (size + chunkCount - 1) / chunkCount;
+        List<Future<R>> futures = new ArrayList<>(chunkCount);
+        for (int from = chunkSize; from < size; from += chunkSize) {
+            final int start = from;
+            final int end = Math.min(size, from + chunkSize);
+            futures.add(executor.submit(new Callable<R>() {
+                @Override
+                public R call() {
+                    return task.apply(start, end);
+                }
+            }));
+        }
+        List<R> result = new ArrayList<>(futures.size() + 1);
+        try {
+            result.add(task.apply(0, chunkSize));
+            for (Future<R> future : futures) {
+                result.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            cancel(futures);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        } catch (InterruptedException e) {
+            cancel(futures);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (RuntimeException | Error e) {
+            cancel(futures);
+            throw e;
+        }
+        return result;
+    }
+
+    /**
+     * Number of threads which run ranges at the same time. Operations are bound by the processors, so the size of
+     * unbounded pools, e.g. cached thread pools, is limited by the number of processors.
+     */
+    private static int parallelism(ExecutorService executor) {
+        int processors = Runtime.getRuntime().availableProcessors();
+        if (executor instanceof ThreadPoolExecutor) {
+            return Math.max(1, Math.min(processors, ((ThreadPoolExecutor) executor).getMaximumPoolSize()));
+        }
+        return processors;
+    }
+
+    private static <R> void cancel(List<Future<R>> futures) {
+        for (Future<R> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    private static <R> List<R> concat(List<List<R>> chunks) {
+        if (chunks.size() == 1) {
+            return chunks.get(0);
+        }
+        int size = 0;
+        for (List<R> chunk : chunks) {
+            size += chunk.size();
+        }
+        List<R> result = new ArrayList<>(size);
+        for (List<R> chunk : chunks) {
+            result.addAll(chunk);
+        }
+        return result;
+    }
+
+    /**
+     * Items of the range which have the first occurrence of the key in the range, with their keys.
+     * @param <T> the type parameter
+     */
+    private static final class Survivors<T> {
+
+        final List<T> items = new ArrayList<>();
+        final List<Object> keys = new ArrayList<>();
+    }
+
+    /**
+     * Task for index range of the list.
+     * @param <R> the type parameter
+     */
+    interface RangeTask<R> {
+
+        /**
+         * Process range.
+         * @param from the from index inclusive
+         * @param to the to index exclusive
+         * @return the result
+         */
+        R apply(int from, int to);
+    }
+}
@@ -0,0 +1,295 @@
+package com.ivanserbyniuk.fluentlist;
+
+import android.support.annotation.NonNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list stored in a 32-way trie with a tail buffer. {@link #plus}, {@link #plusAll} and {@link #with} return
+ * a new vector which shares all untouched nodes with this one, so they copy O(log32 n) nodes instead of the whole
+ * list. {@link #subList} is an O(1) view. Mutating methods of {@link java.util.List} throw
+ * {@link UnsupportedOperationException}.
+ * @param <T> the type parameter
+ */
+public final class PersistentVector<T>
+        extends AbstractList<T>
+        implements RandomAccess {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final Node EMPTY_NODE = new Node(new Object[WIDTH]);
+    private static final PersistentVector<Object> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int count;
+    private final int shift;
+    private final Node root;
+    private final Object[] tail;
+
+    private PersistentVector(int count, int shift, Node root, Object[] tail) {
+        this.count = count;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Gets the empty vector.
+     * @param <T> the type parameter
+     * @return the empty vector
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    /**
+     * Create vector with items of collection.
+     * @param <T> the type parameter
+     * @param items the items
+     * @return the vector
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> of(@NonNull Collection<? extends T> items) {
+        if (items instanceof PersistentVector) {
+            return (PersistentVector<T>) items;
+        }
+        return PersistentVector.<T>empty().plusAll(items);
+    }
+
+    /**
+     * Create vector with item appended to the end.
+     * @param item the item
+     * @return the vector
+     */
+    public PersistentVector<T> plus(T item) {
+        if (count - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = item;
+            return new PersistentVector<>(count + 1, shift, root, newTail);
+        }
+        return withTailPushed(new Object[]{item});
+    }
+
+    /**
+     * Create vector with items appended to the end. Items are added by blocks of 32, so the trie path is copied once
+     * per block.
+     * @param items the items
+     * @return the vector
+     */
+    public PersistentVector<T> plusAll(@NonNull Collection<? extends T> items) {
+        int remaining = items.size();
+        if (remaining == 0) {
+            return this;
+        }
+        Iterator<? extends T> iterator = items.iterator();
+        int added = Math.min(WIDTH - (count - tailOffset()), remaining);
+        Object[] newTail = Arrays.copyOf(tail, tail.length + added);
+        for (int i = tail.length; i < newTail.length; i++) {
+            newTail[i] = iterator.next();
+        }
+        remaining -= added;
+        PersistentVector<T> result = new PersistentVector<>(count + added, shift, root, newTail);
+        while (remaining > 0) {
+            Object[] block = new Object[Math.min(WIDTH, remaining)];
+            for (int i = 0; i < block.length; i++) {
+                block[i] = iterator.next();
+            }
+            remaining -= block.length;
+            result = result.withTailPushed(block);
+        }
+        return result;
+    }
+
+    /**
+     * Create vector with item replaced at [index].
+     * @param index the index
+     * @param item the item
+     * @return the vector
+     */
+    public PersistentVector<T> with(int index, T item) {
+        checkIndex(index);
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = item;
+            return new PersistentVector<>(count, shift, root, newTail);
+        }
+        return new PersistentVector<>(count, shift, assoc(shift, root, index, item), tail);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkIndex(index);
+        return (T) arrayFor(index)[index & MASK];
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @NonNull
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int index;
+            private Object[] array;
+
+            @Override
+            public boolean hasNext() {
+                return index < count;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (index >= count) {
+                    throw new NoSuchElementException();
+                }
+                if ((index & MASK) == 0) {
+                    array = arrayFor(index);
+                }
+                return (T) array[index++ & MASK];
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("Immutable list");
+            }
+        };
+    }
+
+    @NonNull
+    @Override
+    public PersistentVector.Slice<T> subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > count || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", size: "
+                    + count);
+        }
+        return new Slice<>(this, fromIndex, toIndex);
+    }
+
+    private int tailOffset() {
+        return count < WIDTH ? 0 : ((count - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] arrayFor(int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+        return node.array;
+    }
+
+    private PersistentVector<T> withTailPushed(Object[] newTail) {
+        Node tailNode = new Node(tail);
+        if ((count >>> BITS) > (1 << shift)) {
+            Node newRoot = new Node(new Object[WIDTH]);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(shift, tailNode);
+            return new PersistentVector<>(count + newTail.length, shift + BITS, newRoot, newTail);
+        }
+        return new PersistentVector<>(count + newTail.length, shift, pushTail(shift, root, tailNode), newTail);
+    }
+
+    private Node pushTail(int level, Node parent, Node tailNode) {
+        int subIndex = ((count - 1) >>> level) & MASK;
+        Node result = new Node(parent.array.clone());
+        if (level == BITS) {
+            result.array[subIndex] = tailNode;
+        } else {
+            Node child = (Node) parent.array[subIndex];
+            result.array[subIndex] = child != null
+                    ? pushTail(level - BITS, child, tailNode)
+                    : newPath(level - BITS, tailNode);
+        }
+        return result;
+    }
+
+    private static Node newPath(int level, Node node) {
+        if (level == 0) {
+            return node;
+        }
+        Node result = new Node(new Object[WIDTH]);
+        result.array[0] = newPath(level - BITS, node);
+        return result;
+    }
+
+    private static Node assoc(int level, Node node, int index, Object item) {
+        Node result = new Node(node.array.clone());
+        if (level == 0) {
+            result.array[index & MASK] = item;
+        } else {
+            int subIndex = (index >>> level) & MASK;
+            result.array[subIndex] = assoc(level - BITS, (Node) node.array[subIndex], index, item);
+        }
+        return result;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+        }
+    }
+
+    private static final class Node {
+
+        final Object[] array;
+
+        Node(Object[] array) {
+            this.array = array;
+        }
+    }
+
+    /**
+     * Immutable view of the range of the vector.
+     * @param <T> the type parameter
+     */
+    public static final class Slice<T>
+            extends AbstractList<T>
+            implements RandomAccess {
+
+        private final PersistentVector<T> vector;
+        private final int from;
+        private final int to;
+
+        Slice(PersistentVector<T> vector, int from, int to) {
+            this.vector = vector;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public T get(int index) {
+            if (index < 0 || index >= to - from) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + (to - from));
+            }
+            return vector.get(from + index);
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+
+        @NonNull
+        @Override
+        public Slice<T> subList(int fromIndex, int toIndex) {
+            if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+                throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", size: "
+                        + size());
+            }
+            return new Slice<>(vector, from + fromIndex, from + toIndex);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts elements to records of a binary file and back, used by {@link FluentList#fromMappedFile} and
+ * {@link FluentList#writeTo}. Records of fixed size are stored one after another, records of variable size are
+ * prefixed with their length.
+ * @param <T> the type parameter
+ */
+public interface RecordCodec<T> {
+
+    /**
+     * Value of {@link #fixedSize()} for records of variable size.
+     */
+    int VARIABLE_SIZE = -1;
+
+    /**
+     * Gets the size of every record in bytes.
+     * @return the size or {@link #VARIABLE_SIZE}
+     */
+    int fixedSize();
+
+    /**
+     * Gets the size of the record of [item] in bytes, called only for records of variable size.
+     * @param item the item
+     * @return the size
+     */
+    int size(T item);
+
+    /**
+     * Write record of [item] at the position of [buffer]. The buffer has enough space for the record.
+     * @param item the item
+     * @param buffer the buffer
+     */
+    void encode(T item, ByteBuffer buffer);
+
+    /**
+     * Read element from the record, the position of [buffer] is the start of the record and the limit is its end.
+     * @param buffer the buffer
+     * @return the element
+     */
+    T decode(ByteBuffer buffer);
+}
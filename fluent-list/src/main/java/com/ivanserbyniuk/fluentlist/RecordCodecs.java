@@ -0,0 +1,123 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * Codecs of records of common types.
+ */
+public final class RecordCodecs {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private RecordCodecs() {
+    }
+
+    /**
+     * Codec of int records of 4 bytes.
+     * @return the record codec
+     */
+    public static RecordCodec<Integer> ints() {
+        return new RecordCodec<Integer>() {
+            @Override
+            public int fixedSize() {
+                return 4;
+            }
+
+            @Override
+            public int size(Integer item) {
+                return 4;
+            }
+
+            @Override
+            public void encode(Integer item, ByteBuffer buffer) {
+                buffer.putInt(item);
+            }
+
+            @Override
+            public Integer decode(ByteBuffer buffer) {
+                return buffer.getInt();
+            }
+        };
+    }
+
+    /**
+     * Codec of long records of 8 bytes.
+     * @return the record codec
+     */
+    public static RecordCodec<Long> longs() {
+        return new RecordCodec<Long>() {
+            @Override
+            public int fixedSize() {
+                return 8;
+            }
+
+            @Override
+            public int size(Long item) {
+                return 8;
+            }
+
+            @Override
+            public void encode(Long item, ByteBuffer buffer) {
+                buffer.putLong(item);
+            }
+
+            @Override
+            public Long decode(ByteBuffer buffer) {
+                return buffer.getLong();
+            }
+        };
+    }
+
+    /**
+     * Codec of UTF-8 string records of variable size.
+     * @return the record codec
+     */
+    public static RecordCodec<String> strings() {
+        return new RecordCodec<String>() {
+            @Override
+            public int fixedSize() {
+                return VARIABLE_SIZE;
+            }
+
+            @Override
+            public int size(String item) {
+                return utf8Length(item);
+            }
+
+            @Override
+            public void encode(String item, ByteBuffer buffer) {
+                buffer.put(item.getBytes(UTF_8));
+            }
+
+            @Override
+            public String decode(ByteBuffer buffer) {
+                byte[] bytes = new byte[buffer.remaining()];
+                buffer.get(bytes);
+                return new String(bytes, UTF_8);
+            }
+        };
+    }
+
+    private static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (c >= Character.MIN_SURROGATE && c <= Character.MAX_SURROGATE) {
+                // String.getBytes replaces an unpaired surrogate with '?'
+                length++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,51 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Reversed view of the random access list, indexes are remapped on every access and elements are not copied.
+ * @param <T> the type parameter
+ */
+final class ReversedList<T>
+        extends AbstractList<T>
+        implements RandomAccess {
+
+    private final List<T> list;
+
+    ReversedList(List<T> list) {
+        this.list = list;
+    }
+
+    /**
+     * Gets the reversed list.
+     * @return the list in the original order
+     */
+    List<T> original() {
+        return list;
+    }
+
+    @Override
+    public T get(int index) {
+        return list.get(reverseIndex(index));
+    }
+
+    @Override
+    public T set(int index, T element) {
+        return list.set(reverseIndex(index), element);
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    private int reverseIndex(int index) {
+        int size = list.size();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return size - 1 - index;
+    }
+}
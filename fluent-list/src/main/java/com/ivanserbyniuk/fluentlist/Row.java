@@ -0,0 +1,102 @@
+package com.ivanserbyniuk.fluentlist;
+
+/**
+ * Cursor over a row of {@link ColumnarFluentList}, passed to {@link RowMapper}. Columns are addressed by the numbers
+ * of {@link ColumnSchema}, the type of the column must match the accessor.
+ */
+public final class Row {
+
+    private final ColumnStore store;
+    private final ColumnSchema schema;
+    private int row;
+
+    Row(ColumnStore store, int row) {
+        this.store = store;
+        this.schema = store.schema();
+        this.row = row;
+    }
+
+    void moveTo(int row) {
+        this.row = row;
+    }
+
+    /**
+     * Gets the int value of the column.
+     * @param column the column number
+     * @return the value
+     */
+    public int getInt(int column) {
+        schema.checkType(column, ColumnSchema.Type.INT);
+        return store.getInt(column, row);
+    }
+
+    /**
+     * Gets the long value of the column.
+     * @param column the column number
+     * @return the value
+     */
+    public long getLong(int column) {
+        schema.checkType(column, ColumnSchema.Type.LONG);
+        return store.getLong(column, row);
+    }
+
+    /**
+     * Gets the double value of the column.
+     * @param column the column number
+     * @return the value
+     */
+    public double getDouble(int column) {
+        schema.checkType(column, ColumnSchema.Type.DOUBLE);
+        return store.getDouble(column, row);
+    }
+
+    /**
+     * Gets the string value of the column.
+     * @param column the column number
+     * @return the value
+     */
+    public String getString(int column) {
+        schema.checkType(column, ColumnSchema.Type.STRING);
+        return store.getString(column, row);
+    }
+
+    /**
+     * Sets the int value of the column.
+     * @param column the column number
+     * @param value the value
+     */
+    public void setInt(int column, int value) {
+        schema.checkType(column, ColumnSchema.Type.INT);
+        store.putInt(column, row, value);
+    }
+
+    /**
+     * Sets the long value of the column.
+     * @param column the column number
+     * @param value the value
+     */
+    public void setLong(int column, long value) {
+        schema.checkType(column, ColumnSchema.Type.LONG);
+        store.putLong(column, row, value);
+    }
+
+    /**
+     * Sets the double value of the column.
+     * @param column the column number
+     * @param value the value
+     */
+    public void setDouble(int column, double value) {
+        schema.checkType(column, ColumnSchema.Type.DOUBLE);
+        store.putDouble(column, row, value);
+    }
+
+    /**
+     * Sets the string value of the column.
+     * @param column the column number
+     * @param value the value
+     */
+    public void setString(int column, String value) {
+        schema.checkType(column, ColumnSchema.Type.STRING);
+        store.putString(column, row, value);
+    }
+}
@@ -0,0 +1,34 @@
+package com.ivanserbyniuk.fluentlist;
+
+/**
+ * Converts elements to rows of {@link ColumnarFluentList} and back.
+ * <pre>
+ *     class ProductMapper implements RowMapper&lt;Product&gt; {
+ *         public void write(Product product, Row row) {
+ *             row.setString(0, product.getName());
+ *             row.setInt(1, product.getPrice());
+ *         }
+ *
+ *         public Product read(Row row) {
+ *             return new Product(row.getString(0), row.getInt(1));
+ *         }
+ *     }
+ * </pre>
+ * @param <T> the type parameter
+ */
+public interface RowMapper<T> {
+
+    /**
+     * Write columns of [item] to the row.
+     * @param item the item
+     * @param row the row
+     */
+    void write(T item, Row row);
+
+    /**
+     * Create element from columns of the row.
+     * @param row the row
+     * @return the element
+     */
+    T read(Row row);
+}
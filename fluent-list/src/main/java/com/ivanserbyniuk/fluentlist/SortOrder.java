@@ -0,0 +1,105 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Order by several keys, every next key is compared when the previous keys are equal.
+ * <pre>
+ *     FluentList.from(users).sortedWith(SortOrder.by(user -&gt; user.lastName).thenBy(user -&gt; user.firstName));
+ * </pre>
+ * @param <T> the type parameter
+ */
+public final class SortOrder<T> {
+
+    private final List<ListUtils.TransformFunc<T, ? extends Comparable<?>>> keySelectors;
+    private final List<Boolean> descending;
+
+    private SortOrder(List<ListUtils.TransformFunc<T, ? extends Comparable<?>>> keySelectors,
+                      List<Boolean> descending) {
+        this.keySelectors = keySelectors;
+        this.descending = descending;
+    }
+
+    /**
+     * Create order by ascending key.
+     * @param <T> the type parameter
+     * @param <R> the type parameter
+     * @param keySelector the key selector
+     * @return the sort order
+     */
+    public static <T, R extends Comparable<R>> SortOrder<T> by(ListUtils.TransformFunc<T, R> keySelector) {
+        return new SortOrder<T>(Collections.<ListUtils.TransformFunc<T, ? extends Comparable<?>>>emptyList(),
+                Collections.<Boolean>emptyList()).then(keySelector, false);
+    }
+
+    /**
+     * Create order by descending key.
+     * @param <T> the type parameter
+     * @param <R> the type parameter
+     * @param keySelector the key selector
+     * @return the sort order
+     */
+    public static <T, R extends Comparable<R>> SortOrder<T> byDescending(ListUtils.TransformFunc<T, R> keySelector) {
+        return new SortOrder<T>(Collections.<ListUtils.TransformFunc<T, ? extends Comparable<?>>>emptyList(),
+                Collections.<Boolean>emptyList()).then(keySelector, true);
+    }
+
+    /**
+     * Add ascending key compared when the previous keys are equal.
+     * @param <R> the type parameter
+     * @param keySelector the key selector
+     * @return the sort order
+     */
+    public <R extends Comparable<R>> SortOrder<T> thenBy(ListUtils.TransformFunc<T, R> keySelector) {
+        return then(keySelector, false);
+    }
+
+    /**
+     * Add descending key compared when the previous keys are equal.
+     * @param <R> the type parameter
+     * @param keySelector the key selector
+     * @return the sort order
+     */
+    public <R extends Comparable<R>> SortOrder<T> thenByDescending(ListUtils.TransformFunc<T, R> keySelector) {
+        return then(keySelector, true);
+    }
+
+    /**
+     * Stable sort of the items. Every key of every item is extracted once.
+     * @param items the items
+     * @return the sorted indexes
+     */
+    int[] sortedIndexes(Object[] items) {
+        final Object[][] keys = new Object[keySelectors.size()][];
+        final Sorting.IndexComparator[] comparators = new Sorting.IndexComparator[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = Sorting.keys(items, keySelectors.get(i));
+            comparators[i] = Sorting.comparator(keys[i], descending.get(i));
+        }
+        if (comparators.length == 1) {
+            return Sorting.sortedIndexes(keys[0], descending.get(0));
+        }
+        return Sorting.sortedIndexes(items.length, new Sorting.IndexComparator() {
+            @Override
+            public int compare(int first, int second) {
+                for (Sorting.IndexComparator comparator : comparators) {
+                    int result = comparator.compare(first, second);
+                    if (result != 0) {
+                        return result;
+                    }
+                }
+                return 0;
+            }
+        });
+    }
+
+    private SortOrder<T> then(ListUtils.TransformFunc<T, ? extends Comparable<?>> keySelector, boolean descending) {
+        List<ListUtils.TransformFunc<T, ? extends Comparable<?>>> keySelectors = new ArrayList<>(this.keySelectors);
+        keySelectors.add(keySelector);
+        List<Boolean> directions = new ArrayList<>(this.descending);
+        directions.add(descending);
+        return new SortOrder<>(keySelectors, directions);
+    }
+}
@@ -0,0 +1,120 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Sorted index of elements by key, lookups by key and key ranges take logarithmic time. Elements with null keys are
+ * not indexed.
+ * @param <T> the type parameter
+ * @param <K> the type parameter
+ */
+public final class SortedIndex<T, K extends Comparable<K>>
+        extends ListIndex<T, K> {
+
+    private final TreeMap<K, List<T>> groups = new TreeMap<>();
+
+    SortedIndex(ListUtils.TransformFunc<T, K> keySelector) {
+        super(keySelector);
+    }
+
+    @Override
+    public FluentList<T> findByKey(K key) {
+        List<T> group = key == null ? null : groups.get(key);
+        return FluentList.from(group == null ? Collections.<T>emptyList() : Collections.unmodifiableList(group));
+    }
+
+    /**
+     * Find elements with keys from [from] inclusive to [to] exclusive.
+     * @param from the lowest key
+     * @param to the key after the highest key
+     * @return the elements sorted by key
+     */
+    public FluentList<T> findRange(K from, K to) {
+        return findRange(from, true, to, false);
+    }
+
+    /**
+     * Find elements with keys between [from] and [to].
+     * @param from the lowest key
+     * @param fromInclusive include elements with [from] key
+     * @param to the highest key
+     * @param toInclusive include elements with [to] key
+     * @return the elements sorted by key
+     */
+    public FluentList<T> findRange(K from, boolean fromInclusive, K to, boolean toInclusive) {
+        if (from.compareTo(to) > 0) {
+            return FluentList.from(new ArrayList<T>(0));
+        }
+        NavigableMap<K, List<T>> range = groups.subMap(from, fromInclusive, to, toInclusive);
+        int size = 0;
+        for (List<T> group : range.values()) {
+            size += group.size();
+        }
+        List<T> result = new ArrayList<>(size);
+        for (List<T> group : range.values()) {
+            result.addAll(group);
+        }
+        return FluentList.from(result);
+    }
+
+    /**
+     * Gets the lowest key.
+     * @return the key or null if the index is empty
+     */
+    public K firstKey() {
+        return groups.isEmpty() ? null : groups.firstKey();
+    }
+
+    /**
+     * Gets the highest key.
+     * @return the key or null if the index is empty
+     */
+    public K lastKey() {
+        return groups.isEmpty() ? null : groups.lastKey();
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return key != null && groups.containsKey(key);
+    }
+
+    @Override
+    public int keyCount() {
+        return groups.size();
+    }
+
+    @Override
+    void added(T item) {
+        K key = keySelector.apply(item);
+        if (key == null) {
+            return;
+        }
+        List<T> group = groups.get(key);
+        if (group == null) {
+            group = new ArrayList<>(1);
+            groups.put(key, group);
+        }
+        group.add(item);
+    }
+
+    @Override
+    void removed(T item) {
+        K key = keySelector.apply(item);
+        if (key == null) {
+            return;
+        }
+        List<T> group = groups.get(key);
+        if (group != null && group.remove(item) && group.isEmpty()) {
+            groups.remove(key);
+        }
+    }
+
+    @Override
+    void cleared() {
+        groups.clear();
+    }
+}
@@ -0,0 +1,136 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Observable list of the source elements sorted by key. Keys are extracted once for every added or replaced element
+ * and cached. Elements with equal keys are ordered by their source indexes, so the list is always equal to a stable
+ * sort of the source. Every change costs a binary search and a pass over the source indexes.
+ * @param <T> the type parameter
+ * @param <R> the type of keys
+ */
+final class SortedObservableList<T, R extends Comparable<R>>
+        extends ObservableList<T>
+        implements ListChangeListener<T> {
+
+    private final ObservableList<T> source;
+    private final ListUtils.TransformFunc<T, R> keySelector;
+    private final boolean descending;
+    private final List<R> sourceKeys;
+    private final List<T> items;
+    private final List<R> keys;
+    private int[] sourceIndexes;
+
+    SortedObservableList(ObservableList<T> source, ListUtils.TransformFunc<T, R> keySelector, boolean descending) {
+        this.source = source;
+        this.keySelector = keySelector;
+        this.descending = descending;
+        Object[] array = source.toArray();
+        Object[] extracted = Sorting.keys(array, keySelector);
+        this.sourceIndexes = Sorting.sortedIndexes(extracted, descending);
+        this.sourceKeys = new ArrayList<>(array.length);
+        this.items = new ArrayList<>(array.length);
+        this.keys = new ArrayList<>(array.length);
+        for (int i = 0; i < array.length; i++) {
+            sourceKeys.add(Sorting.<R>item(extracted, i));
+            items.add(Sorting.<T>item(array, sourceIndexes[i]));
+            keys.add(Sorting.<R>item(extracted, sourceIndexes[i]));
+        }
+        source.addListener(this);
+    }
+
+    @Override
+    public T get(int index) {
+        return items.get(index);
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    @Override
+    public void onItemAdded(int index, T item) {
+        R key = keySelector.apply(item);
+        sourceKeys.add(index, key);
+        shift(index, 1);
+        int position = position(key, index);
+        insert(position, item, key, index);
+        fireAdded(position, item);
+    }
+
+    @Override
+    public void onItemRemoved(int index, T item) {
+        int position = position(sourceKeys.remove(index), index);
+        removeAt(position);
+        shift(index, -1);
+        fireRemoved(position, item);
+    }
+
+    @Override
+    public void onItemChanged(int index, T oldItem, T newItem) {
+        int position = position(sourceKeys.get(index), index);
+        R key = keySelector.apply(newItem);
+        sourceKeys.set(index, key);
+        removeAt(position);
+        int newPosition = position(key, index);
+        if (newPosition == position) {
+            insert(position, newItem, key, index);
+            fireChanged(position, oldItem, newItem);
+            return;
+        }
+        fireRemoved(position, oldItem);
+        insert(newPosition, newItem, key, index);
+        fireAdded(newPosition, newItem);
+    }
+
+    @Override
+    void dispose() {
+        source.removeListener(this);
+    }
+
+    /**
+     * Position of the element with [key] and [sourceIndex], or the position where it should be inserted.
+     */
+    private int position(R key, int sourceIndex) {
+        int low = 0;
+        int high = keys.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int result = descending ? key.compareTo(keys.get(middle)) : keys.get(middle).compareTo(key);
+            if (result < 0 || (result == 0 && sourceIndexes[middle] < sourceIndex)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private void shift(int fromSourceIndex, int delta) {
+        for (int i = 0, size = keys.size(); i < size; i++) {
+            if (sourceIndexes[i] >= fromSourceIndex) {
+                sourceIndexes[i] += delta;
+            }
+        }
+    }
+
+    private void insert(int position, T item, R key, int sourceIndex) {
+        int size = keys.size();
+        if (size == sourceIndexes.length) {
+            sourceIndexes = Arrays.copyOf(sourceIndexes, size + (size >> 1) + 1);
+        }
+        System.arraycopy(sourceIndexes, position, sourceIndexes, position + 1, size - position);
+        sourceIndexes[position] = sourceIndex;
+        items.add(position, item);
+        keys.add(position, key);
+    }
+
+    private void removeAt(int position) {
+        System.arraycopy(sourceIndexes, position + 1, sourceIndexes, position, keys.size() - position - 1);
+        items.remove(position);
+        keys.remove(position);
+    }
+}
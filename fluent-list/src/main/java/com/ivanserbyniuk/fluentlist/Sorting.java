@@ -0,0 +1,233 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Stable sorting of element indexes by precomputed keys. Keys are extracted once per element, so the comparison
+ * never calls key functions.
+ */
+final class Sorting {
+
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private Sorting() {
+    }
+
+    /**
+     * Extract key of every item.
+     * @param items the items
+     * @param transform the key selector
+     * @return the keys
+     */
+    static <T, R> Object[] keys(Object[] items, ListUtils.TransformFunc<T, R> transform) {
+        Object[] keys = new Object[items.length];
+        for (int i = 0; i < items.length; i++) {
+            keys[i] = transform.apply(Sorting.<T>item(items, i));
+        }
+        return keys;
+    }
+
+    /**
+     * Stable sort of indexes of [keys] by natural order of the keys.
+     * @param keys the comparable keys
+     * @param descending is the order descending
+     * @return the sorted indexes
+     */
+    static int[] sortedIndexes(Object[] keys, boolean descending) {
+        return sortedIndexes(keys.length, comparator(keys, descending));
+    }
+
+    /**
+     * Stable sort of indexes by [comparator].
+     * @param size the size
+     * @param comparator the comparator
+     * @return the sorted indexes
+     */
+    static int[] sortedIndexes(int size, IndexComparator comparator) {
+        int[] indexes = identity(size);
+        mergeSort(indexes, new int[size], 0, size, comparator);
+        return indexes;
+    }
+
+    /**
+     * Stable sort of indexes of int keys. Every key is packed with its index to one long, so the array is sorted by
+     * primitive sort without comparator calls.
+     * @param keys the keys
+     * @param descending is the order descending
+     * @return the sorted indexes
+     */
+    static int[] sortedIndexes(int[] keys, boolean descending) {
+        long[] packed = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            int key = descending ? ~keys[i] : keys[i];
+            packed[i] = ((long) key << 32) | i;
+        }
+        Arrays.sort(packed);
+        int[] indexes = new int[keys.length];
+        for (int i = 0; i < packed.length; i++) {
+            indexes[i] = (int) packed[i];
+        }
+        return indexes;
+    }
+
+    /**
+     * Stable sort of indexes of long keys.
+     * @param keys the keys
+     * @param descending is the order descending
+     * @return the sorted indexes
+     */
+    static int[] sortedIndexes(final long[] keys, final boolean descending) {
+        return sortedIndexes(keys.length, new IndexComparator() {
+            @Override
+            public int compare(int first, int second) {
+                long one = keys[descending ? second : first];
+                long two = keys[descending ? first : second];
+                return one < two ? -1 : (one == two ? 0 : 1);
+            }
+        });
+    }
+
+    /**
+     * Stable sort of indexes by [comparator] on the [executor]. Ranges are sorted concurrently and then merged
+     * pairwise.
+     * @param size the size
+     * @param comparator the comparator
+     * @param executor the executor
+     * @param threshold the size below which sorting is sequential
+     * @return the sorted indexes
+     */
+    static int[] sortedIndexes(int size, final IndexComparator comparator, ExecutorService executor,
+                               int threshold) {
+        final int[] indexes = identity(size);
+        final int[] buffer = new int[size];
+        List<Integer> starts = ParallelFluentList.invoke(executor, size, threshold,
+                new ParallelFluentList.RangeTask<Integer>() {
+                    @Override
+                    public Integer apply(int from, int to) {
+                        mergeSort(indexes, buffer, from, to, comparator);
+                        return from;
+                    }
+                });
+        List<Integer> runs = new ArrayList<>(starts);
+        runs.add(size);
+        while (runs.size() > 2) {
+            final List<Integer> bounds = runs;
+            final int pairs = (bounds.size() - 1) / 2;
+            ParallelFluentList.invoke(executor, pairs, 1, new ParallelFluentList.RangeTask<Void>() {
+                @Override
+                public Void apply(int from, int to) {
+                    for (int pair = from; pair < to; pair++) {
+                        merge(indexes, buffer, bounds.get(2 * pair), bounds.get(2 * pair + 1),
+                                bounds.get(2 * pair + 2), comparator);
+                    }
+                    return null;
+                }
+            });
+            List<Integer> merged = new ArrayList<>(pairs + 2);
+            for (int i = 0; i < bounds.size(); i += 2) {
+                merged.add(bounds.get(i));
+            }
+            if (merged.get(merged.size() - 1) != size) {
+                merged.add(size);
+            }
+            runs = merged;
+        }
+        return indexes;
+    }
+
+    /**
+     * Comparator of indexes by natural order of the comparable keys.
+     * @param keys the keys
+     * @param descending is the order descending
+     * @return the index comparator
+     */
+    static IndexComparator comparator(final Object[] keys, final boolean descending) {
+        return new IndexComparator() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public int compare(int first, int second) {
+                Comparable<Object> one = (Comparable<Object>) keys[descending ? second : first];
+                return one.compareTo(keys[descending ? first : second]);
+            }
+        };
+    }
+
+    /**
+     * Create list of items in order of [indexes].
+     * @param items the items
+     * @param indexes the indexes
+     * @return the list
+     */
+    static <T> List<T> reorder(Object[] items, int[] indexes) {
+        List<T> result = new ArrayList<>(indexes.length);
+        for (int index : indexes) {
+            result.add(Sorting.<T>item(items, index));
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T item(Object[] items, int index) {
+        return (T) items[index];
+    }
+
+    private static int[] identity(int size) {
+        int[] indexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
+        }
+        return indexes;
+    }
+
+    private static void mergeSort(int[] indexes, int[] buffer, int from, int to, IndexComparator comparator) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                int index = indexes[i];
+                int j = i - 1;
+                while (j >= from && comparator.compare(indexes[j], index) > 0) {
+                    indexes[j + 1] = indexes[j];
+                    j--;
+                }
+                indexes[j + 1] = index;
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        mergeSort(indexes, buffer, from, middle, comparator);
+        mergeSort(indexes, buffer, middle, to, comparator);
+        merge(indexes, buffer, from, middle, to, comparator);
+    }
+
+    private static void merge(int[] indexes, int[] buffer, int from, int middle, int to, IndexComparator comparator) {
+        if (comparator.compare(indexes[middle - 1], indexes[middle]) <= 0) {
+            return;
+        }
+        System.arraycopy(indexes, from, buffer, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < middle && comparator.compare(buffer[left], buffer[right]) <= 0)) {
+                indexes[i] = buffer[left++];
+            } else {
+                indexes[i] = buffer[right++];
+            }
+        }
+    }
+
+    /**
+     * Comparator of element indexes.
+     */
+    interface IndexComparator {
+
+        /**
+         * Compare elements by indexes.
+         * @param first the first index
+         * @param second the second index
+         * @return the comparison result
+         */
+        int compare(int first, int second);
+    }
+}
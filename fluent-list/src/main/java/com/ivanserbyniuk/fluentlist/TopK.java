@@ -0,0 +1,349 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Selection of the first elements by key without sorting the whole list. The bounded heap keeps [count] best
+ * elements seen so far, its root is the worst of them, so the selection takes O(n log count) time and O(count)
+ * memory. Elements with equal keys keep encounter order, so results are equal to the head of the stable sort.
+ */
+final class TopK {
+
+    private TopK() {
+    }
+
+    /**
+     * Select [count] elements with the lowest keys, or with the highest keys if [descending].
+     * @param list the list
+     * @param count the count
+     * @param transform the key selector
+     * @param descending select the highest keys
+     * @return the selected elements sorted by key
+     */
+    static <T, R extends Comparable<R>> List<T> selectBy(List<T> list, int count,
+            ListUtils.TransformFunc<T, R> transform, boolean descending) {
+        ObjectHeap heap = new ObjectHeap(checkCount(count, list.size()), descending);
+        int index = 0;
+        for (T item : list) {
+            heap.offer(transform.apply(item), index++);
+        }
+        return heap.drain(list);
+    }
+
+    /**
+     * Select [count] elements with the lowest int keys, or with the highest keys if [descending].
+     * @param list the list
+     * @param count the count
+     * @param transform the key selector
+     * @param descending select the highest keys
+     * @return the selected elements sorted by key
+     */
+    static <T> List<T> selectByInt(List<T> list, int count, ListUtils.ToIntFunc<T> transform, boolean descending) {
+        IntHeap heap = new IntHeap(checkCount(count, list.size()), descending);
+        int index = 0;
+        for (T item : list) {
+            heap.offer(transform.apply(item), index++);
+        }
+        return heap.drain(list);
+    }
+
+    /**
+     * Select [count] elements with the lowest long keys, or with the highest keys if [descending].
+     * @param list the list
+     * @param count the count
+     * @param transform the key selector
+     * @param descending select the highest keys
+     * @return the selected elements sorted by key
+     */
+    static <T> List<T> selectByLong(List<T> list, int count, ListUtils.ToLongFunc<T> transform, boolean descending) {
+        LongHeap heap = new LongHeap(checkCount(count, list.size()), descending);
+        int index = 0;
+        for (T item : list) {
+            heap.offer(transform.apply(item), index++);
+        }
+        return heap.drain(list);
+    }
+
+    /**
+     * Find the element which would be at [n] in the list stably sorted by key. Keys are partitioned in place by
+     * quickselect in O(n) average time.
+     * @param list the list
+     * @param n the index in the sorted list
+     * @param transform the key selector
+     * @return the element
+     */
+    static <T, R extends Comparable<R>> T nthBy(List<T> list, int n, ListUtils.TransformFunc<T, R> transform) {
+        int size = list.size();
+        if (n < 0 || n >= size) {
+            throw new IndexOutOfBoundsException("Index: " + n + ", Size: " + size);
+        }
+        Object[] items = list.toArray();
+        Object[] keys = Sorting.keys(items, transform);
+        int[] indexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
+        }
+        int from = 0;
+        int to = size - 1;
+        int seed = 0x2545F491;
+        while (from < to) {
+            seed ^= seed << 13;
+            seed ^= seed >>> 17;
+            seed ^= seed << 5;
+            int pivot = indexes[from + (seed >>> 1) % (to - from + 1)];
+            int low = from;
+            int high = to;
+            while (low <= high) {
+                while (compare(keys, indexes[low], pivot) < 0) {
+                    low++;
+                }
+                while (compare(keys, indexes[high], pivot) > 0) {
+                    high--;
+                }
+                if (low <= high) {
+                    int swap = indexes[low];
+                    indexes[low++] = indexes[high];
+                    indexes[high--] = swap;
+                }
+            }
+            if (n <= high) {
+                to = high;
+            } else if (n >= low) {
+                from = low;
+            } else {
+                break;
+            }
+        }
+        return Sorting.item(items, indexes[n]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int compare(Object[] keys, int first, int second) {
+        int result = ((Comparable<Object>) keys[first]).compareTo(keys[second]);
+        return result != 0 ? result : first < second ? -1 : first > second ? 1 : 0;
+    }
+
+    static int checkCount(int count, int size) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Requested element count " + count + " is less than zero.");
+        }
+        return Math.min(count, size);
+    }
+
+    /**
+     * Binary heap of the selected elements. Slot [capacity] holds the candidate, which replaces the root if it's
+     * better. Keys are stored in the subclasses, so primitive keys are not boxed.
+     */
+    abstract static class Heap {
+
+        final int capacity;
+        final boolean descending;
+        final int[] indexes;
+        int size;
+
+        Heap(int capacity, boolean descending) {
+            this.capacity = capacity;
+            this.descending = descending;
+            this.indexes = new int[capacity + 1];
+        }
+
+        /**
+         * Compare keys of slots.
+         * @param first the first slot
+         * @param second the second slot
+         * @return the comparison result in ascending order
+         */
+        abstract int compareKeys(int first, int second);
+
+        abstract void move(int from, int to);
+
+        /**
+         * Compare slots by selection order, the element which is selected first is less.
+         */
+        final int compare(int first, int second) {
+            int result = compareKeys(first, second);
+            if (descending) {
+                result = -result;
+            }
+            if (result != 0) {
+                return result;
+            }
+            return indexes[first] < indexes[second] ? -1 : indexes[first] > indexes[second] ? 1 : 0;
+        }
+
+        /**
+         * Add the candidate from slot [capacity] with element [index].
+         */
+        final void offerCandidate(int index) {
+            indexes[capacity] = index;
+            if (size < capacity) {
+                move(capacity, size);
+                siftUp(size++);
+            } else if (capacity > 0 && compare(capacity, 0) < 0) {
+                move(capacity, 0);
+                siftDown(0, size);
+            }
+        }
+
+        /**
+         * Sort the slots by selection order, the heap is emptied.
+         * @return the element indexes in selection order
+         */
+        final int[] sortedIndexes() {
+            int[] result = new int[size];
+            for (int last = size - 1; last >= 0; last--) {
+                result[last] = indexes[0];
+                move(last, 0);
+                siftDown(0, last);
+            }
+            size = 0;
+            return result;
+        }
+
+        final <T> List<T> drain(List<T> list) {
+            int[] selected = sortedIndexes();
+            List<T> result = new ArrayList<>(selected.length);
+            for (int index : selected) {
+                result.add(list.get(index));
+            }
+            return result;
+        }
+
+        private void siftUp(int slot) {
+            while (slot > 0) {
+                int parent = (slot - 1) >>> 1;
+                if (compare(slot, parent) <= 0) {
+                    return;
+                }
+                swap(slot, parent);
+                slot = parent;
+            }
+        }
+
+        private void siftDown(int slot, int end) {
+            while (true) {
+                int child = 2 * slot + 1;
+                if (child >= end) {
+                    return;
+                }
+                if (child + 1 < end && compare(child + 1, child) > 0) {
+                    child++;
+                }
+                if (compare(child, slot) <= 0) {
+                    return;
+                }
+                swap(slot, child);
+                slot = child;
+            }
+        }
+
+        private void swap(int first, int second) {
+            move(first, capacity);
+            move(second, first);
+            move(capacity, second);
+        }
+    }
+
+    /**
+     * Heap of comparable keys.
+     */
+    static final class ObjectHeap
+            extends Heap {
+
+        private final Object[] keys;
+
+        ObjectHeap(int capacity, boolean descending) {
+            super(capacity, descending);
+            this.keys = new Object[capacity + 1];
+        }
+
+        void offer(Object key, int index) {
+            keys[capacity] = key;
+            offerCandidate(index);
+            keys[capacity] = null;
+        }
+
+        /**
+         * Offer elements selected by [other] heap, e.g. by heaps of ranges selected concurrently.
+         * @param other the other heap
+         */
+        void offerAll(ObjectHeap other) {
+            for (int slot = 0; slot < other.size; slot++) {
+                offer(other.keys[slot], other.indexes[slot]);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        int compareKeys(int first, int second) {
+            return ((Comparable<Object>) keys[first]).compareTo(keys[second]);
+        }
+
+        @Override
+        void move(int from, int to) {
+            keys[to] = keys[from];
+            indexes[to] = indexes[from];
+        }
+    }
+
+    /**
+     * Heap of int keys.
+     */
+    private static final class IntHeap
+            extends Heap {
+
+        private final int[] keys;
+
+        IntHeap(int capacity, boolean descending) {
+            super(capacity, descending);
+            this.keys = new int[capacity + 1];
+        }
+
+        void offer(int key, int index) {
+            keys[capacity] = key;
+            offerCandidate(index);
+        }
+
+        @Override
+        int compareKeys(int first, int second) {
+            return keys[first] < keys[second] ? -1 : keys[first] > keys[second] ? 1 : 0;
+        }
+
+        @Override
+        void move(int from, int to) {
+            keys[to] = keys[from];
+            indexes[to] = indexes[from];
+        }
+    }
+
+    /**
+     * Heap of long keys.
+     */
+    private static final class LongHeap
+            extends Heap {
+
+        private final long[] keys;
+
+        LongHeap(int capacity, boolean descending) {
+            super(capacity, descending);
+            this.keys = new long[capacity + 1];
+        }
+
+        void offer(long key, int index) {
+            keys[capacity] = key;
+            offerCandidate(index);
+        }
+
+        @Override
+        int compareKeys(int first, int second) {
+            return keys[first] < keys[second] ? -1 : keys[first] > keys[second] ? 1 : 0;
+        }
+
+        @Override
+        void move(int from, int to) {
+            keys[to] = keys[from];
+            indexes[to] = indexes[from];
+        }
+    }
+}
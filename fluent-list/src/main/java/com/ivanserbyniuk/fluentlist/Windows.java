@@ -0,0 +1,48 @@
+package com.ivanserbyniuk.fluentlist;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * List of windows over the backing list. Every window is {@link List#subList} view, so elements are not copied and
+ * changes of the backing list are visible in the windows.
+ * @param <T> the type parameter
+ */
+final class Windows<T>
+        extends AbstractList<List<T>>
+        implements RandomAccess {
+
+    private final List<T> list;
+    private final int size;
+    private final int step;
+    private final boolean partialWindows;
+
+    Windows(List<T> list, int size, int step, boolean partialWindows) {
+        if (size < 1 || step < 1) {
+            throw new IllegalArgumentException("Size " + size + " and step " + step + " must be positive.");
+        }
+        this.list = list;
+        this.size = size;
+        this.step = step;
+        this.partialWindows = partialWindows;
+    }
+
+    @Override
+    public List<T> get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        int from = index * step;
+        return list.subList(from, from + Math.min(list.size() - from, size));
+    }
+
+    @Override
+    public int size() {
+        int count = list.size();
+        if (partialWindows) {
+            return count == 0 ? 0 : (count - 1) / step + 1;
+        }
+        return count < size ? 0 : (count - size) / step + 1;
+    }
+}
@@ -0,0 +1,118 @@
+package com.ivanserbyniuk.fluentlist;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+
+public class ArrayFluentListTest {
+
+    @Test
+    public void wrapSharesArrayUntilGrowth() {
+        String[] array = {"a", "b", "c"};
+        ArrayFluentList<String> list = ArrayFluentList.wrap(array);
+        list.set(1, "x");
+        assertEquals("x", array[1]);
+        assertEquals(3, list.capacity());
+
+        list.add("d");
+        list.set(0, "y");
+        assertEquals("a", array[0]);
+        assertEquals(Arrays.asList("y", "x", "c", "d"), list);
+        assertEquals(Arrays.asList("Y", "X", "C", "D"), list.map(String::toUpperCase));
+    }
+
+    @Test
+    public void fromArrayCopiesArray() {
+        String[] array = {"a", "b"};
+        FluentList<String> list = FluentList.from(array);
+        array[0] = "x";
+        list.add("c");
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+        assertEquals(Object[].class, list.toArray().getClass());
+    }
+
+    @Test
+    public void fromArrayAcceptsSupertypeElements() {
+        FluentList<CharSequence> list = FluentList.<CharSequence>from(new String[]{"a", "b"});
+        list.add(new StringBuilder("c"));
+        list.set(0, new StringBuilder("d"));
+        assertEquals(Arrays.asList("d", "b", "c"), list.map(CharSequence::toString));
+
+        ArrayFluentList<CharSequence> wrapped = ArrayFluentList.<CharSequence>wrap(new String[]{"a"});
+        wrapped.add(new StringBuilder("b"));
+        assertEquals(2, wrapped.size());
+    }
+
+    @Test
+    public void fromSetKeepsIterationOrder() {
+        FluentList<Integer> list = FluentList.from(new LinkedHashSet<>(Arrays.asList(3, 1, 2)));
+        assertEquals(Arrays.asList(3, 1, 2), list);
+        assertEquals(Collections.emptyList(), FluentList.from(new LinkedHashSet<Integer>()));
+    }
+
+    @Test
+    public void growsByPolicy() {
+        ArrayFluentList<Integer> exact = ArrayFluentList.withCapacity(2, ArrayFluentList.GrowthPolicy.EXACT);
+        ArrayFluentList<Integer> doubling = ArrayFluentList.withCapacity(2, ArrayFluentList.GrowthPolicy.DOUBLING);
+        for (int i = 0; i < 5; i++) {
+            exact.add(i);
+            doubling.add(i);
+        }
+        assertEquals(5, exact.capacity());
+        assertEquals(8, doubling.capacity());
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), doubling);
+
+        doubling.addAll(FluentList.intRange(5, 20));
+        assertEquals(15, exact.ensureCapacity(15).capacity());
+        assertEquals(new ArrayList<>(FluentList.intRange(0, 20)), doubling);
+    }
+
+    @Test
+    public void addAllAtIndexGrowsOnce() {
+        ArrayFluentList<Integer> list = ArrayFluentList.withCapacity(3, ArrayFluentList.GrowthPolicy.EXACT);
+        list.addAll(Arrays.asList(1, 5, 6));
+        assertTrue(list.addAll(1, Arrays.asList(2, 3, 4)));
+        assertFalse(list.addAll(6, Collections.<Integer>emptyList()));
+        list.addAll(6, Collections.singletonList(7));
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7), list);
+        assertEquals(7, list.capacity());
+        try {
+            list.addAll(8, Collections.singletonList(8));
+            fail();
+        } catch (IndexOutOfBoundsException expected) {
+        }
+    }
+
+    @Test
+    public void trimToSize() {
+        ArrayFluentList<Integer> list = ArrayFluentList.withCapacity(10);
+        list.addAll(Arrays.asList(1, 2, 3, 4));
+        list.remove(0);
+        list.add(0, 0);
+        list.removeAll(Collections.singletonList(3));
+        assertEquals(3, list.trimToSize().capacity());
+        assertEquals(Arrays.asList(0, 2, 4), list);
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.trimToSize().capacity());
+        list.add(5);
+        assertEquals(Collections.singletonList(5), list);
+    }
+
+    @Test
+    public void intRangeExcludesEnd() {
+        List<Integer> range = FluentList.intRange(3, 7);
+        assertEquals(Arrays.asList(3, 4, 5, 6), range);
+        assertTrue(FluentList.intRange(7, 7).isEmpty());
+        assertFalse(FluentList.intRange(7, 3).contains(5));
+    }
+}
@@ -0,0 +1,79 @@
+package com.ivanserbyniuk.fluentlist;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+
+public class ColumnarFluentListTest {
+    List<Product> products = Arrays.asList(new Product("prod1", 3), new Product("prod2", 4),
+            new Product("prod3", 10), new Product("prod4", 52), new Product("prod5", 2), new Product("prod6", 7));
+
+    ColumnSchema schema = ColumnSchema.create().withString("name").withInt("price");
+
+    RowMapper<Product> mapper = new RowMapper<Product>() {
+        @Override
+        public void write(Product item, Row row) {
+            row.setString(0, item.getName());
+            row.setInt(1, item.getPrice());
+        }
+
+        @Override
+        public Product read(Row row) {
+            return new Product(row.getString(0), row.getInt(1));
+        }
+    };
+
+    @Test
+    public void readsRows() {
+        ColumnarFluentList<Product> columnar = FluentList.from(products).toColumnar(schema, mapper);
+        assertEquals(products, new ArrayList<>(columnar));
+        assertEquals(products.get(3), columnar.get(3));
+        assertEquals(Arrays.asList("prod3", "prod4"), columnar.filter(it -> it.getPrice() > 7).map(Product::getName));
+    }
+
+    @Test
+    public void columnOperations() {
+        ColumnarFluentList<Product> columnar = ColumnarFluentList.of(products, schema, mapper);
+        ColumnarFluentList<Product> cheap = columnar.filterInt("price", it -> it < 8);
+        assertEquals(16, cheap.sumInt("price"));
+        assertEquals(78, columnar.sumInt("price"));
+        assertEquals(new Product("prod5", 2), cheap.minByInt("price"));
+        assertEquals(new Product("prod4", 52), columnar.maxByInt("price"));
+        assertEquals(Arrays.asList("prod5", "prod1", "prod2", "prod6"),
+                cheap.sortedByInt("price").map(Product::getName));
+        assertEquals(Arrays.asList("prod2", "prod5", "prod6"), cheap.sortedByInt("price")
+                .filterString("name", it -> it.compareTo("prod2") >= 0)
+                .sortedByString("name")
+                .map(Product::getName));
+        assertEquals(Arrays.asList(3, 4, 2, 7), new ArrayList<>(cheap.mapToInt("price").boxed()));
+    }
+
+    @Test
+    public void groupByColumn() {
+        ColumnarFluentList<Product> columnar = ColumnarFluentList.of(products, schema, mapper);
+        Map<Integer, ColumnarFluentList<Product>> groups = columnar.filterInt("price", it -> it > 3)
+                .groupByInt("price");
+        assertEquals(4, groups.size());
+        assertEquals(new Product("prod3", 10), groups.get(10).get(0));
+        assertEquals(1, columnar.groupByString("name").get("prod6").size());
+    }
+
+    @Test
+    public void storesNullsAndUnicode() {
+        ColumnarFluentList<Product> columnar = ColumnarFluentList.of(
+                Arrays.asList(new Product(null, 1), new Product("\u0446\u0435\u043d\u0430 \u20ac", 2)), schema, mapper);
+        assertNull(columnar.get(0).getName());
+        assertEquals("\u0446\u0435\u043d\u0430 \u20ac", columnar.get(1).getName());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void checksColumnType() {
+        ColumnarFluentList.of(products, schema, mapper).sumInt("name");
+    }
+}
@@ -0,0 +1,89 @@
+package com.ivanserbyniuk.fluentlist;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+
+public class FluentFutureTest {
+    FluentList<Integer> numbers = FluentList.intRange(0, 200);
+
+    @Test
+    public void mapAsyncKeepsOrderAndLimitsConcurrency() {
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        List<Integer> result = numbers.mapAsync(4, it -> {
+            int current = active.incrementAndGet();
+            maxActive.set(Math.max(maxActive.get(), current));
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            active.decrementAndGet();
+            return it * 2;
+        }).join();
+        assertEquals(new ArrayList<>(numbers.map(it -> it * 2)), new ArrayList<>(result));
+        assertTrue(maxActive.get() <= 4);
+    }
+
+    @Test
+    public void filterAsyncOnExecutor() {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Integer> result = numbers.filterAsync(executor, 8, it -> it % 3 == 0).join();
+            assertEquals(new ArrayList<>(numbers.filter(it -> it % 3 == 0)), new ArrayList<>(result));
+            assertEquals(0, FluentList.from(new ArrayList<Integer>()).mapAsync(executor, 2, it -> it).join().size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void firstFailureCancelsRemainingElements() throws InterruptedException {
+        CountDownLatch released = new CountDownLatch(1);
+        AtomicBoolean lastCalled = new AtomicBoolean();
+        FluentFuture<Integer> future = numbers.mapAsync(2, it -> {
+            if (it == 10) {
+                throw new IllegalStateException("failed " + it);
+            }
+            if (it == numbers.size() - 1) {
+                lastCalled.set(true);
+            }
+            if (it > 10) {
+                try {
+                    released.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            return it;
+        });
+        try {
+            future.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertEquals("failed 10", e.getCause().getMessage());
+        } finally {
+            released.countDown();
+        }
+        assertFalse(lastCalled.get());
+        try {
+            future.join();
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+    }
+}
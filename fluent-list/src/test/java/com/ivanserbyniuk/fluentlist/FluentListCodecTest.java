@@ -0,0 +1,134 @@
+package com.ivanserbyniuk.fluentlist;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+
+public class FluentListCodecTest {
+    List<Product> products = Arrays.asList(new Product("prod1", 3), new Product("prod2", 4),
+            new Product("prod1", 10), new Product(null, 52), new Product("\u0446\u0456\u043d\u0430", -2),
+            new Product("prod1", 7));
+
+    ElementCodec<Product> productCodec = new ElementCodec<Product>() {
+        @Override
+        public void write(Product item, BinaryOutput output) throws IOException {
+            output.writeString(item.getName());
+            output.writeSignedVarInt(item.getPrice());
+        }
+
+        @Override
+        public Product read(BinaryInput input) throws IOException {
+            return new Product(input.readString(), input.readSignedVarInt());
+        }
+    };
+
+    @Test
+    public void writesAndReadsElements() throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        FluentListCodec.write(products, productCodec, stream);
+        FluentList<Product> result = FluentListCodec.read(new ByteArrayInputStream(stream.toByteArray()), productCodec);
+        assertEquals(products, new ArrayList<>(result));
+    }
+
+    @Test
+    public void dictionaryWritesRepeatedStringsOnce() throws IOException {
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        FluentListCodec.write(products, productCodec, plain);
+        ByteArrayOutputStream dictionary = new ByteArrayOutputStream();
+        FluentListCodec.write(products, productCodec, dictionary, true);
+        assertTrue(dictionary.size() < plain.size());
+        FluentList<Product> result = FluentListCodec.read(new ByteArrayInputStream(dictionary.toByteArray()),
+                productCodec);
+        assertEquals(products, new ArrayList<>(result));
+    }
+
+    @Test
+    public void iteratorReadsElementsOneByOne() throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        FluentListCodec.write(FluentList.from("a", "b", "a"), ElementCodecs.strings(), stream, true);
+        Iterator<String> iterator = FluentListCodec.iterator(new ByteArrayInputStream(stream.toByteArray()),
+                ElementCodecs.strings());
+        assertEquals("a", iterator.next());
+        assertEquals("b", iterator.next());
+        assertEquals("a", iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void writesAndReadsPrimitiveLists() throws IOException {
+        ByteArrayOutputStream ints = new ByteArrayOutputStream();
+        FluentListCodec.writeInts(IntFluentList.of(1000, 1001, 1003, Integer.MIN_VALUE, Integer.MAX_VALUE), ints);
+        IntFluentList intResult = FluentListCodec.readInts(new ByteArrayInputStream(ints.toByteArray()));
+        assertEquals(5, intResult.size());
+        assertEquals(1003, intResult.get(2));
+        assertEquals(Integer.MIN_VALUE, intResult.get(3));
+        assertEquals(Integer.MAX_VALUE, intResult.get(4));
+
+        ByteArrayOutputStream longs = new ByteArrayOutputStream();
+        FluentListCodec.writeLongs(LongFluentList.of(Long.MAX_VALUE, -1L, Long.MIN_VALUE), longs);
+        LongFluentList longResult = FluentListCodec.readLongs(new ByteArrayInputStream(longs.toByteArray()));
+        assertEquals(Long.MAX_VALUE, longResult.get(0));
+        assertEquals(-1L, longResult.get(1));
+        assertEquals(Long.MIN_VALUE, longResult.get(2));
+
+        ByteArrayOutputStream doubles = new ByteArrayOutputStream();
+        FluentListCodec.writeDoubles(DoubleFluentList.of(1.5, -0.25), doubles);
+        DoubleFluentList doubleResult = FluentListCodec.readDoubles(new ByteArrayInputStream(doubles.toByteArray()));
+        assertEquals(1.5, doubleResult.get(0));
+        assertEquals(-0.25, doubleResult.get(1));
+    }
+
+    @Test
+    public void readsLongPrimitiveLists() throws IOException {
+        ByteArrayOutputStream ints = new ByteArrayOutputStream();
+        FluentListCodec.writeInts(IntFluentList.range(-100000, 100000), ints);
+        IntFluentList intResult = FluentListCodec.readInts(new ByteArrayInputStream(ints.toByteArray()));
+        assertEquals(200000, intResult.size());
+        assertEquals(99999, intResult.get(199999));
+    }
+
+    @Test
+    public void truncatedPrimitiveListsFailWithoutAllocatingCount() {
+        for (int kind = 1; kind <= 3; kind++) {
+            byte[] bytes = {'F', 'L', 1, (byte) kind, 0, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 2};
+            try {
+                if (kind == 1) {
+                    FluentListCodec.readInts(new ByteArrayInputStream(bytes));
+                } else if (kind == 2) {
+                    FluentListCodec.readLongs(new ByteArrayInputStream(bytes));
+                } else {
+                    FluentListCodec.readDoubles(new ByteArrayInputStream(bytes));
+                }
+                fail();
+            } catch (IOException expected) {
+            }
+        }
+    }
+
+    @Test
+    public void rejectsOtherStreams() throws IOException {
+        try {
+            FluentListCodec.read(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5, 0}), productCodec);
+            fail();
+        } catch (IOException expected) {
+        }
+        ByteArrayOutputStream ints = new ByteArrayOutputStream();
+        FluentListCodec.writeInts(IntFluentList.of(1, 2), ints);
+        try {
+            FluentListCodec.read(new ByteArrayInputStream(ints.toByteArray()), productCodec);
+            fail();
+        } catch (IOException expected) {
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.ivanserbyniuk.fluentlist;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static junit.framework.Assert.assertEquals;
+
+public class GroupingTest {
+    List<Product> products = Arrays.asList(new Product("tv", 300), new Product("phone", 200),
+            new Product("tv", 500), new Product("laptop", 900), new Product("phone", 100), new Product("tv", 300));
+
+    @Test
+    public void eachCount() {
+        Map<String, Integer> expected = new HashMap<>();
+        expected.put("tv", 3);
+        expected.put("phone", 2);
+        expected.put("laptop", 1);
+        assertEquals(expected, FluentList.from(products).groupingBy(Product::getName).eachCount());
+    }
+
+    @Test
+    public void eachSumBy() {
+        Map<String, Long> sums = FluentList.from(products).groupingBy(Product::getName, 3).eachSumBy(Product::getPrice);
+        assertEquals(1100L, (long) sums.get("tv"));
+        assertEquals(300L, (long) sums.get("phone"));
+    }
+
+    @Test
+    public void eachMinMaxBy() {
+        Grouping<Product, String> grouping = FluentList.from(products).groupingBy(Product::getName);
+        assertEquals(100, grouping.eachMinBy(Product::getPrice).get("phone").getPrice());
+        assertEquals(500, grouping.eachMaxBy(Product::getPrice).get("tv").getPrice());
+    }
+
+    @Test
+    public void eachToSetAndFold() {
+        Grouping<Product, String> grouping = FluentList.from(products).groupingBy(Product::getName);
+        assertEquals(new HashSet<>(Arrays.asList(new Product("tv", 300), new Product("tv", 500))),
+                grouping.eachToSet().get("tv"));
+        assertEquals("300,500,300", grouping.fold("", (acc, it) -> acc.isEmpty()
+                ? String.valueOf(it.getPrice())
+                : acc + "," + it.getPrice()).get("tv"));
+    }
+
+    @Test
+    public void parallelAggregate() {
+        FluentList<Integer> numbers = FluentList.intRange(0, 9999);
+        Map<Integer, Integer> counts = numbers.parallel().withThreshold(100).groupingBy(it -> it % 7, 7).eachCount();
+        assertEquals(numbers.groupingBy(it -> it % 7).eachCount(), counts);
+        Map<Integer, Integer> first = numbers.parallel().withThreshold(100)
+                .groupingBy(it -> it % 7, 7)
+                .eachMinBy(it -> it / 1000);
+        assertEquals(3, (int) first.get(3));
+    }
+
+    @Test
+    public void groupByKeepsOrder() {
+        Map<String, List<Product>> groups = FluentList.from(products).groupBy(Product::getName, 3);
+        assertEquals(Arrays.asList(new Product("tv", 300), new Product("tv", 500), new Product("tv", 300)),
+                groups.get("tv"));
+    }
+}
@@ -0,0 +1,142 @@
+package com.ivanserbyniuk.fluentlist;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+
+public class IndexTest {
+    List<Product> products = Arrays.asList(new Product("prod1", 3), new Product("prod2", 4),
+            new Product("prod3", 10), new Product("prod4", 52), new Product("prod5", 2), new Product("prod6", 7),
+            new Product("prod7", 4));
+
+    @Test
+    public void hashIndexFindsElementsByKey() {
+        FluentList<Product> list = FluentList.from(new ArrayList<>(products));
+        HashIndex<Product, Integer> byPrice = list.indexBy(Product::getPrice);
+        assertEquals(Arrays.asList(new Product("prod2", 4), new Product("prod7", 4)), byPrice.findByKey(4));
+        assertEquals(new Product("prod4", 52), byPrice.findFirst(52));
+        assertTrue(byPrice.findByKey(100).isEmpty());
+        assertEquals(6, byPrice.keyCount());
+    }
+
+    @Test
+    public void indexesFollowMutations() {
+        FluentList<Product> list = FluentList.from(new ArrayList<>(products));
+        HashIndex<Product, String> byName = list.uniqueIndexBy(Product::getName);
+        SortedIndex<Product, Integer> byPrice = list.sortedIndexBy(Product::getPrice);
+
+        list.add(new Product("prod8", 5));
+        list.remove(0);
+        list.set(0, new Product("prod9", 4));
+        list.remove(new Product("prod3", 10));
+        list.addAll(1, Collections.singletonList(new Product("prod10", 100)));
+        Iterator<Product> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getPrice() == 52) {
+                iterator.remove();
+            }
+        }
+
+        assertNull(byName.findFirst("prod1"));
+        assertNull(byName.findFirst("prod2"));
+        assertNull(byName.findFirst("prod4"));
+        assertEquals(new Product("prod9", 4), byName.findFirst("prod9"));
+        assertEquals(list.size(), byName.keyCount());
+        assertEquals(Arrays.asList("prod7", "prod9", "prod8", "prod6"),
+                new ArrayList<>(byPrice.findRange(4, 10).map(Product::getName)));
+        assertEquals(Arrays.asList("prod6", "prod10"),
+                byPrice.findRange(7, true, 100, true).map(Product::getName));
+        assertEquals(2, (int) byPrice.firstKey());
+        assertEquals(100, (int) byPrice.lastKey());
+
+        list.removeAll(Collections.singletonList(new Product("prod10", 100)));
+        assertFalse(byPrice.containsKey(100));
+        list.clear();
+        assertEquals(0, byName.keyCount());
+        assertEquals(0, byPrice.keyCount());
+    }
+
+    @Test
+    public void removeUpdatesIndexOfStoredElement() {
+        Product stored = new Product("prod1", 3);
+        FluentList<Product> list = FluentList.from(new ArrayList<>(Arrays.asList(stored, new Product("prod2", 4))));
+        HashIndex<Product, Integer> byIdentity = list.indexBy(System::identityHashCode);
+        assertTrue(list.remove(new Product("prod1", 3)));
+        assertFalse(list.remove(new Product("prod1", 3)));
+        assertTrue(byIdentity.findByKey(System.identityHashCode(stored)).isEmpty());
+        assertEquals(1, byIdentity.keyCount());
+    }
+
+    @Test
+    public void indexesFollowMutationsThroughSubList() {
+        FluentList<String> list = FluentList.from(new ArrayList<>(Arrays.asList("a", "bb", "cc", "ddd")));
+        HashIndex<String, Integer> byLength = list.indexBy(String::length);
+        list.subList(0, 1).clear();
+        list.subList(0, 2).set(1, "e");
+        list.subList(1, 2).add(0, "ffff");
+        list.subList(0, 3).subList(0, 1).remove(0);
+        assertEquals(Arrays.asList("ffff", "e", "ddd"), list);
+        assertTrue(byLength.findByKey(2).isEmpty());
+        assertEquals(Arrays.asList("e"), byLength.findByKey(1));
+        assertEquals(Arrays.asList("ffff"), byLength.findByKey(4));
+    }
+
+    @Test
+    public void indexesFollowMutationsThroughTakeAndDrop() {
+        FluentList<String> list = FluentList.from(new ArrayList<>(Arrays.asList("a", "bb", "cc", "ddd")));
+        HashIndex<String, Integer> byLength = list.indexBy(String::length);
+        list.take(2).set(1, "zzz");
+        list.drop(3).clear();
+        assertEquals(Arrays.asList("cc"), byLength.findByKey(2));
+        assertEquals(Arrays.asList("zzz"), byLength.findByKey(3));
+        list.takeWhile(it -> it.length() == 1).remove(0);
+        list.dropWhile(it -> it.length() == 3).add("gg");
+        assertEquals(Arrays.asList("zzz", "cc", "gg"), list);
+        assertTrue(byLength.findByKey(1).isEmpty());
+        assertEquals(Arrays.asList("cc", "gg"), byLength.findByKey(2));
+    }
+
+    @Test
+    public void indexesFollowMutationsThroughSliceAndReversed() {
+        FluentList<String> list = FluentList.from(new ArrayList<>(Arrays.asList("a", "bb", "cc")));
+        HashIndex<String, Integer> byLength = list.indexBy(String::length);
+        list.slice(1, 3).remove(1);
+        list.asReversed().set(0, "dddd");
+        assertEquals(Arrays.asList("a", "dddd"), list);
+        assertTrue(byLength.findByKey(2).isEmpty());
+        assertEquals(Arrays.asList("dddd"), byLength.findByKey(4));
+    }
+
+    @Test
+    public void uniqueIndexRejectsDuplicateKeys() {
+        FluentList<Product> list = FluentList.from(new ArrayList<>(products));
+        try {
+            list.uniqueIndexBy(Product::getPrice);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        HashIndex<Product, String> byName = list.uniqueIndexBy(Product::getName);
+        try {
+            list.add(new Product("prod1", 1));
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+        assertEquals(products.size(), list.size());
+        list.set(0, new Product("prod1", 1));
+        assertEquals(1, byName.findFirst("prod1").getPrice());
+
+        list.removeIndex(byName);
+        list.add(new Product("prod1", 2));
+        assertEquals(1, byName.findFirst("prod1").getPrice());
+    }
+}
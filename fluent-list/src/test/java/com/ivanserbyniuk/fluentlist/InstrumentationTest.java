@@ -0,0 +1,61 @@
+package com.ivanserbyniuk.fluentlist;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class InstrumentationTest {
+    List<Product> products = Arrays.asList(new Product("prod1", 3), new Product("prod2", 4),
+            new Product("prod3", 10), new Product("prod4", 52), new Product("prod5", 2), new Product("prod6", 7));
+
+    @Test
+    public void recordsOperations() {
+        InMemoryOperationRecorder recorder = new InMemoryOperationRecorder();
+        Instrumentation.setListener(recorder);
+        try {
+            FluentList.from(products)
+                    .filter(it -> it.getPrice() > 3)
+                    .map(Product::getName)
+                    .groupBy(it -> it.charAt(0));
+            FluentList.from(products).map(Product::getPrice);
+        } finally {
+            Instrumentation.setListener(null);
+        }
+        InMemoryOperationRecorder.OperationStats map = recorder.getStats("map");
+        assertEquals(2, map.getInvocations());
+        assertEquals(10, map.getInputSize());
+        assertEquals(10, map.getOutputSize());
+        assertEquals(6, map.getMaxOutputSize());
+        assertEquals(2 * Instrumentation.estimateListBytes(0) + 40, map.getAllocatedBytes());
+        assertEquals(1, recorder.getStats("filter").getInvocations());
+        assertEquals(1, recorder.getStats("groupBy").getOutputSize());
+        assertTrue(recorder.report().contains("filter: invocations=1, input=6, output=4"));
+    }
+
+    @Test
+    public void removedListenerIsNotCalled() {
+        assertNull(Instrumentation.getListener());
+        InMemoryOperationRecorder recorder = new InMemoryOperationRecorder();
+        Instrumentation.setListener(recorder);
+        long start = Instrumentation.start();
+        Instrumentation.setListener(null);
+        FluentList.from(products).map(Product::getName);
+        Instrumentation.record("map", 1, 1, start, 0);
+        assertNull(recorder.getStats("map"));
+
+        Instrumentation.setListener(recorder);
+        try {
+            Instrumentation.record("map", 1, 1, Instrumentation.DISABLED, 0);
+            assertNull(recorder.getStats("map"));
+            Instrumentation.record("map", 1, 1, 0, 0);
+            assertEquals(1, recorder.getStats("map").getInvocations());
+        } finally {
+            Instrumentation.setListener(null);
+        }
+    }
+}
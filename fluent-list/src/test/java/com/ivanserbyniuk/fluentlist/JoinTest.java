@@ -0,0 +1,91 @@
+package com.ivanserbyniuk.fluentlist;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+
+public class JoinTest {
+    List<Product> products = Arrays.asList(new Product("prod1", 3), new Product("prod2", 4),
+            new Product("prod3", 10), new Product("prod4", 52), new Product("prod5", 2), new Product(null, 7));
+
+    List<Product> sales = Arrays.asList(new Product("prod4", 1), new Product("prod1", 2), new Product("prod4", 3),
+            new Product(null, 4), new Product("prod9", 5));
+
+    @Test
+    public void joinBuildsOnEitherSide() {
+        List<String> expected = Arrays.asList("prod1:2", "prod4:1", "prod4:3");
+        assertEquals(expected, new ArrayList<>(FluentList.from(products)
+                .join(sales, Product::getName, Product::getName, (product, sale) -> product.getName() + ":"
+                        + sale.getPrice())));
+        assertEquals(Arrays.asList("prod4:1", "prod1:2", "prod4:3"), new ArrayList<>(FluentList.from(sales)
+                .join(products, Product::getName, Product::getName, (sale, product) -> product.getName() + ":"
+                        + sale.getPrice())));
+        assertEquals(Arrays.asList("prod4:1", "prod1:2", "prod4:3"), new ArrayList<>(FluentList.from(sales)
+                .join(products.subList(0, 4), Product::getName, Product::getName,
+                        (sale, product) -> product.getName() + ":" + sale.getPrice())));
+    }
+
+    @Test
+    public void sortedListsAreMerged() {
+        FluentList<Integer> left = FluentList.from(0, 1, 1, 2, 4, 6);
+        FluentList<Integer> right = FluentList.from(1, 2, 2, 3, 6, 6);
+        List<String> merged = left.join(right, it -> it, it -> it, (first, second) -> first + "-" + second);
+        List<String> hashed = left.reversed().join(right, it -> it, it -> it, (first, second) -> first + "-" + second);
+        assertEquals(Arrays.asList("1-1", "1-1", "2-2", "2-2", "6-6", "6-6"), new ArrayList<>(merged));
+        assertEquals(Arrays.asList("6-6", "6-6", "2-2", "2-2", "1-1", "1-1"), new ArrayList<>(hashed));
+        assertEquals(Arrays.asList(1, 1, 2, 6), new ArrayList<>(left.semiJoin(right, it -> it, it -> it)));
+        assertEquals(Arrays.asList(0, 4), new ArrayList<>(left.antiJoin(right, it -> it, it -> it)));
+    }
+
+    @Test
+    public void keysMatchByEquals() {
+        FluentList<BigDecimal> left = FluentList.from(new BigDecimal("1.0"));
+        assertEquals(0, left.join(FluentList.from(new BigDecimal("1.00")), it -> it, it -> it,
+                (first, second) -> first + "=" + second).size());
+        assertEquals(0, left.join(FluentList.from(new BigDecimal("2"), new BigDecimal("1.00")), it -> it, it -> it,
+                (first, second) -> first + "=" + second).size());
+        assertEquals(1, left.join(FluentList.from(new BigDecimal("1.0")), it -> it, it -> it,
+                (first, second) -> first + "=" + second).size());
+
+        FluentList<Number> ints = FluentList.<Number>from(1, 2, 3);
+        FluentList<Number> longs = FluentList.<Number>from(1L, 2L, 3L);
+        assertEquals(0, ints.join(longs, it -> it, it -> it, (first, second) -> first + "=" + second).size());
+        assertEquals(Arrays.asList("2=2"), new ArrayList<>(ints.join(FluentList.<Number>from(2L, 2, 4L), it -> it,
+                it -> it, (first, second) -> first + "=" + second)));
+    }
+
+    @Test
+    public void leftJoinKeepsUnmatchedElements() {
+        List<Integer> saleCounts = FluentList.from(products).leftJoin(sales, Product::getName, Product::getName,
+                (product, sale) -> sale == null ? 0 : sale.getPrice());
+        assertEquals(Arrays.asList(2, 0, 0, 1, 3, 0, 0), new ArrayList<>(saleCounts));
+    }
+
+    @Test
+    public void semiAndAntiJoin() {
+        FluentList<Product> list = FluentList.from(products);
+        assertEquals(Arrays.asList("prod1", "prod4"),
+                new ArrayList<>(list.semiJoin(sales, Product::getName, Product::getName).map(Product::getName)));
+        assertEquals(Arrays.asList("prod2", "prod3", "prod5", null),
+                new ArrayList<>(list.antiJoin(sales, Product::getName, Product::getName).map(Product::getName)));
+        assertEquals(Arrays.asList("prod4", "prod1", "prod4"), new ArrayList<>(FluentList.from(sales)
+                .semiJoin(products, Product::getName, Product::getName).map(Product::getName)));
+    }
+
+    @Test
+    public void parallelJoinMatchesSequential() {
+        FluentList<Integer> numbers = FluentList.intRange(0, 10000).reversed();
+        FluentList<Integer> divisors = FluentList.from(0, 3, 5, 5);
+        List<String> sequential = numbers.leftJoin(divisors, it -> it % 10, it -> it,
+                (number, divisor) -> number + ":" + divisor);
+        List<String> parallel = numbers.parallel().withThreshold(100).leftJoin(divisors, it -> it % 10, it -> it,
+                (number, divisor) -> number + ":" + divisor).toList();
+        assertEquals(new ArrayList<>(sequential), new ArrayList<>(parallel));
+        assertEquals(numbers.size() + numbers.size() / 10, sequential.size());
+    }
+}
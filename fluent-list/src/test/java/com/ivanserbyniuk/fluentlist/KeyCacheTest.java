@@ -0,0 +1,82 @@
+package com.ivanserbyniuk.fluentlist;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static junit.framework.Assert.assertEquals;
+
+public class KeyCacheTest {
+    List<Product> products = Arrays.asList(new Product("prod1", 3), new Product("prod2", 4),
+            new Product("prod3", 10), new Product("prod4", 52), new Product("prod5", 2), new Product("prod6", 7),
+            new Product("prod7", 4));
+
+    @Test
+    public void computesKeyOnceAcrossOperators() {
+        int[] calls = new int[1];
+        FluentList<Product> list = FluentList.from(products);
+        KeyCache<Product, Integer> price = list.cachedBy(it -> {
+            calls[0]++;
+            return it.getPrice();
+        });
+        List<String> sorted = list.sortedBy(price).map(Product::getName);
+        Map<Integer, List<Product>> groups = list.groupBy(price);
+        assertEquals("prod5", list.minBy(price).getName());
+        assertEquals("prod4", list.maxBy(price).getName());
+        assertEquals(6, list.distinct(price).size());
+
+        assertEquals(Arrays.asList("prod5", "prod1", "prod2", "prod7", "prod6", "prod3", "prod4"), sorted);
+        assertEquals(2, groups.get(4).size());
+        assertEquals(products.size(), calls[0]);
+        assertEquals(products.size(), price.misses());
+        assertEquals(products.size(), price.size());
+    }
+
+    @Test
+    public void comparesElementsByIdentity() {
+        int[] calls = new int[1];
+        KeyCache<Product, String> name = KeyCache.create(it -> {
+            calls[0]++;
+            return it.getName();
+        }, 10);
+        name.apply(new Product("prod1", 3));
+        name.apply(new Product("prod1", 3));
+        assertEquals(2, calls[0]);
+        assertEquals(2, name.size());
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedKey() {
+        int[] calls = new int[1];
+        KeyCache<Product, Integer> price = KeyCache.create(it -> {
+            calls[0]++;
+            return it.getPrice();
+        }, 2);
+        Product first = products.get(0);
+        Product second = products.get(1);
+        price.apply(first);
+        price.apply(second);
+        price.apply(first);
+        price.apply(products.get(2));
+        assertEquals(2, price.size());
+        price.apply(first);
+        assertEquals(3, calls[0]);
+        price.apply(second);
+        assertEquals(4, calls[0]);
+        assertEquals(2, price.hits());
+    }
+
+    @Test
+    public void weakCacheReturnsCachedKeys() {
+        KeyCache<Product, Integer> price = KeyCache.weak(Product::getPrice, 100);
+        for (Product product : products) {
+            assertEquals(product.getPrice(), (int) price.apply(product));
+        }
+        assertEquals(52, (int) price.apply(products.get(3)));
+        assertEquals(1, price.hits());
+        price.clear();
+        assertEquals(0, price.size());
+    }
+}
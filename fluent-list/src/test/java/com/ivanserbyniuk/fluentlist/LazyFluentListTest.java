@@ -0,0 +1,168 @@
+package com.ivanserbyniuk.fluentlist;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+
+public class LazyFluentListTest {
+    List<Product> products = Arrays.asList(new Product("prod1", 3), new Product("prod2", 4),
+            new Product("prod3", 10), new Product("prod4", 52), new Product("prod5", 2), new Product("prod6", 7),
+            new Product("prod2", 4));
+
+    @Test
+    public void filterMapDistinct() {
+        List<String> names = FluentList.from(products).lazy()
+                .filter(it -> it.getPrice() > 3)
+                .map(Product::getName)
+                .distinct()
+                .toList();
+        assertEquals(Arrays.asList("prod2", "prod3", "prod4", "prod6"), names);
+    }
+
+    @Test
+    public void shortCircuit() {
+        int[] calls = new int[1];
+        Product product = FluentList.from(products).lazy()
+                .map(it -> {
+                    calls[0]++;
+                    return it;
+                })
+                .firstOrNull(it -> it.getPrice() > 5);
+        assertEquals("prod3", product.getName());
+        assertEquals(3, calls[0]);
+
+        calls[0] = 0;
+        assertTrue(FluentList.from(products).lazy()
+                .filter(it -> {
+                    calls[0]++;
+                    return true;
+                })
+                .any(it -> it.getPrice() == 4));
+        assertEquals(2, calls[0]);
+    }
+
+    @Test
+    public void terminals() {
+        LazyFluentList<Product> lazy = FluentList.from(products).lazy().distinct();
+        assertEquals(6, lazy.count());
+        assertEquals(2, lazy.count(it -> it.getPrice() > 7));
+        assertTrue(lazy.all(it -> it.getPrice() > 1));
+        assertFalse(lazy.non(it -> it.getPrice() > 50));
+        assertEquals(78, (int) lazy.map(Product::getPrice).reduce((first, second) -> first + second));
+        assertNull(lazy.filter(it -> it.getPrice() > 100).firstOrNull());
+    }
+
+    @Test
+    public void sortedByAndTake() {
+        List<String> names = FluentList.from(products).lazy()
+                .sortedBy(Product::getPrice)
+                .take(3)
+                .map(Product::getName)
+                .toList();
+        assertEquals(Arrays.asList("prod5", "prod1", "prod2"), names);
+    }
+
+    @Test
+    public void flatMap() {
+        int count = FluentList.from(products).lazy()
+                .flatMap(it -> Arrays.asList(it, it))
+                .count();
+        assertEquals(14, count);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void reduceEmpty() {
+        FluentList.from(products).lazy()
+                .filter(it -> it.getPrice() > 100)
+                .reduce((first, second) -> first);
+    }
+
+    @Test
+    public void iteratorSourceIsConsumedOnce() {
+        Iterator<Product> iterator = products.iterator();
+        LazyFluentList<Product> lazy = LazyFluentList.fromIterator(iterator);
+        Map<String, List<Product>> groups = lazy.groupBy(Product::getName);
+        assertEquals(6, groups.size());
+        assertEquals(2, groups.get("prod2").size());
+        try {
+            lazy.count();
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+        assertEquals("prod1; prod2; prod3",
+                LazyFluentList.from((Iterable<Product>) products).take(3).joinToStringBy("; ", Product::getName));
+    }
+
+    @Test
+    public void channelBlocksProducerAndCancelsOnEarlyStop() throws InterruptedException {
+        final BoundedChannel<Integer> channel = new BoundedChannel<>(4);
+        final AtomicInteger produced = new AtomicInteger();
+        Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < 1000000; i++) {
+                    if (!channel.put(i)) {
+                        return;
+                    }
+                    produced.incrementAndGet();
+                }
+                channel.close();
+            } catch (InterruptedException e) {
+                channel.fail(e);
+            }
+        });
+        producer.start();
+        List<Integer> evens = LazyFluentList.from(channel).filter(it -> it % 2 == 0).take(5).toList();
+        producer.join();
+        assertEquals(Arrays.asList(0, 2, 4, 6, 8), evens);
+        assertTrue(channel.isCancelled());
+        assertTrue(produced.get() < 100);
+    }
+
+    @Test
+    public void takeZeroCancelsChannel() throws InterruptedException {
+        final BoundedChannel<Integer> channel = new BoundedChannel<>(1);
+        Thread producer = new Thread(() -> {
+            try {
+                int i = 0;
+                while (channel.put(i)) {
+                    i++;
+                }
+            } catch (InterruptedException e) {
+                channel.fail(e);
+            }
+        });
+        producer.start();
+        List<Integer> none = LazyFluentList.from(channel).map(it -> it * 2).take(0).toList();
+        producer.join(5000);
+        assertTrue(none.isEmpty());
+        assertTrue(channel.isCancelled());
+        assertFalse(producer.isAlive());
+    }
+
+    @Test
+    public void channelPassesFailureToConsumer() throws InterruptedException {
+        BoundedChannel<String> channel = new BoundedChannel<>(8);
+        channel.put("a");
+        channel.put("b");
+        channel.fail(new IllegalStateException("feed failed"));
+        List<String> received = new ArrayList<>();
+        try {
+            LazyFluentList.from(channel).forEachItem(received::add);
+            fail();
+        } catch (IllegalStateException e) {
+            assertEquals("feed failed", e.getMessage());
+        }
+        assertEquals(Arrays.asList("a", "b"), received);
+    }
+}
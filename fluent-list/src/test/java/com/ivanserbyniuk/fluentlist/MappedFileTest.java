@@ -0,0 +1,119 @@
+package com.ivanserbyniuk.fluentlist;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class MappedFileTest {
+    List<Product> products = Arrays.asList(new Product("prod1", 3), new Product("prod2", 4),
+            new Product("prod3", 10), new Product("prod4", 52), new Product("prod5", 2), new Product("prod6", 7));
+
+    RecordCodec<Product> productCodec = new RecordCodec<Product>() {
+        private final Charset utf8 = Charset.forName("UTF-8");
+
+        @Override
+        public int fixedSize() {
+            return VARIABLE_SIZE;
+        }
+
+        @Override
+        public int size(Product item) {
+            return 4 + item.getName().getBytes(utf8).length;
+        }
+
+        @Override
+        public void encode(Product item, ByteBuffer buffer) {
+            buffer.putInt(item.getPrice());
+            buffer.put(item.getName().getBytes(utf8));
+        }
+
+        @Override
+        public Product decode(ByteBuffer buffer) {
+            int price = buffer.getInt();
+            byte[] name = new byte[buffer.remaining()];
+            buffer.get(name);
+            return new Product(new String(name, utf8), price);
+        }
+    };
+
+    @Test
+    public void writesAndMapsVariableRecords() throws IOException {
+        File file = File.createTempFile("products", ".bin");
+        try {
+            FluentList.from(products).writeTo(file, productCodec);
+            FluentList<Product> mapped = FluentList.fromMappedFile(file, productCodec);
+            assertEquals(products, new ArrayList<>(mapped));
+            assertEquals(new Product("prod4", 52), mapped.get(3));
+            assertEquals(Arrays.asList("prod3", "prod4"), mapped.filter(it -> it.getPrice() > 7).map(Product::getName));
+        } finally {
+            assertTrue(file.delete());
+        }
+    }
+
+    @Test
+    public void writesAndMapsFixedRecords() throws IOException {
+        File file = File.createTempFile("ints", ".bin");
+        try {
+            List<Integer> values = new ArrayList<>();
+            for (int i = 0; i < 100000; i++) {
+                values.add(i * 3);
+            }
+            FluentList.from(values).writeTo(file, RecordCodecs.ints());
+            assertEquals(400000, file.length());
+            FluentList<Integer> mapped = FluentList.fromMappedFile(file, RecordCodecs.ints());
+            assertEquals(100000, mapped.size());
+            assertEquals(Integer.valueOf(299997), mapped.get(99999));
+            assertEquals(values, new ArrayList<>(mapped));
+        } finally {
+            assertTrue(file.delete());
+        }
+    }
+
+    @Test
+    public void mapsStrings() throws IOException {
+        File file = File.createTempFile("strings", ".bin");
+        try {
+            List<String> values = Arrays.asList("", "a", "\u0446\u0435\u043d\u0430", "\ud83d\ude00");
+            FluentList.from(values).writeTo(file, RecordCodecs.strings());
+            assertEquals(values, new ArrayList<>(FluentList.fromMappedFile(file, RecordCodecs.strings())));
+        } finally {
+            assertTrue(file.delete());
+        }
+    }
+
+    @Test
+    public void unpairedSurrogatesAreReplaced() throws IOException {
+        File file = File.createTempFile("strings", ".bin");
+        try {
+            List<String> values = Arrays.asList("bad\ud800", "\udc00x", "\ud83d\ude00\ud83d");
+            FluentList.from(values).writeTo(file, RecordCodecs.strings());
+            assertEquals(Arrays.asList("bad?", "?x", "\ud83d\ude00?"),
+                    new ArrayList<>(FluentList.fromMappedFile(file, RecordCodecs.strings())));
+        } finally {
+            assertTrue(file.delete());
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsTruncatedFile() throws IOException {
+        File file = File.createTempFile("ints", ".bin");
+        try {
+            FileOutputStream stream = new FileOutputStream(file);
+            stream.write(new byte[]{0, 0, 0, 1, 2});
+            stream.close();
+            FluentList.fromMappedFile(file, RecordCodecs.ints());
+        } finally {
+            assertTrue(file.delete());
+        }
+    }
+}
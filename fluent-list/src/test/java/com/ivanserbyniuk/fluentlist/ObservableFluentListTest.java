@@ -0,0 +1,107 @@
+package com.ivanserbyniuk.fluentlist;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNull;
+
+public class ObservableFluentListTest {
+    List<Product> products = Arrays.asList(new Product("prod1", 3), new Product("prod2", 4),
+            new Product("prod3", 10), new Product("prod4", 52), new Product("prod5", 2), new Product("prod6", 7));
+
+    @Test
+    public void filterEmitsDeltas() {
+        ObservableFluentList<Product> list = ObservableFluentList.of(products);
+        ObservableFluentList<Product> expensive = list.observeFilter(it -> it.getPrice() > 5);
+        List<String> events = new ArrayList<>();
+        expensive.addListener(new ListChangeListener<Product>() {
+            @Override
+            public void onItemAdded(int index, Product item) {
+                events.add("+" + index + item.getName());
+            }
+
+            @Override
+            public void onItemRemoved(int index, Product item) {
+                events.add("-" + index + item.getName());
+            }
+
+            @Override
+            public void onItemChanged(int index, Product oldItem, Product newItem) {
+                events.add("~" + index + newItem.getName());
+            }
+        });
+        list.add(0, new Product("prod7", 20));
+        list.add(new Product("prod8", 1));
+        list.remove(4);
+        list.set(1, new Product("prod9", 6));
+        list.set(2, new Product("prod10", 1));
+        assertEquals(Arrays.asList("+0prod7", "-2prod4", "+1prod9"), events);
+        assertEquals(new ArrayList<>(list.filter(it -> it.getPrice() > 5)), new ArrayList<>(expensive));
+    }
+
+    @Test
+    public void sortedAndGroupedViews() {
+        ObservableFluentList<Product> list = ObservableFluentList.of(products);
+        ObservableFluentList<String> names = list.observeSortedBy(Product::getPrice).observeMap(Product::getName);
+        ObservableGroups<Boolean, Product> groups = list.observeGroupBy(it -> it.getPrice() % 2 == 0);
+        ObservableCount count = list.observeCount(it -> it.getPrice() < 5);
+        int[] changes = new int[1];
+        count.addListener(it -> changes[0]++);
+
+        list.add(new Product("prod7", 1));
+        list.set(0, new Product("prod1", 30));
+        assertEquals(Arrays.asList("prod7", "prod5", "prod2", "prod6", "prod3", "prod1", "prod4"), names);
+        assertEquals(Arrays.asList(new Product("prod1", 30), new Product("prod2", 4), new Product("prod3", 10),
+                new Product("prod4", 52), new Product("prod5", 2)), groups.get(true));
+        assertEquals(3, count.get());
+        assertEquals(2, changes[0]);
+
+        list.removeAll(groups.get(false));
+        assertNull(groups.get(false));
+        assertEquals(1, groups.size());
+        names.dispose();
+        list.clear();
+        assertEquals(5, names.size());
+        assertEquals(0, count.get());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void viewsAreReadOnly() {
+        ObservableFluentList.of(products).observeFilter(it -> true).add(products.get(0));
+    }
+
+    @Test
+    public void viewsMatchRecomputation() {
+        Random random = new Random(7);
+        ObservableFluentList<Product> list = ObservableFluentList.create();
+        ObservableFluentList<Product> sorted = list.observeFilter(it -> it.getPrice() % 3 != 0)
+                .observeSortedByDescending(Product::getPrice);
+        ObservableGroups<Integer, Product> groups = list.observeGroupBy(it -> it.getPrice() % 5);
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(3);
+            Product product = new Product("prod" + i, random.nextInt(50));
+            if (operation == 0 || list.isEmpty()) {
+                list.add(random.nextInt(list.size() + 1), product);
+            } else if (operation == 1) {
+                list.remove(random.nextInt(list.size()));
+            } else {
+                list.set(random.nextInt(list.size()), product);
+            }
+        }
+        assertFalse(list.isEmpty());
+        assertEquals(new ArrayList<>(list.filter(it -> it.getPrice() % 3 != 0).sortedByDescending(Product::getPrice)),
+                new ArrayList<>(sorted));
+        Map<Integer, List<Product>> expected = list.groupBy(it -> it.getPrice() % 5);
+        assertEquals(expected.size(), groups.size());
+        for (Map.Entry<Integer, List<Product>> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), new ArrayList<>(groups.get(entry.getKey())));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.ivanserbyniuk.fluentlist;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class ParallelFluentListTest {
+    FluentList<Integer> numbers = FluentList.intRange(0, 10000);
+
+    @Test
+    public void mapFilterKeepOrder() {
+        List<Integer> result = numbers.parallel().withThreshold(100)
+                .map(it -> it * 2)
+                .filter(it -> it % 3 == 0)
+                .toList();
+        assertEquals(new ArrayList<>(numbers.map(it -> it * 2).filter(it -> it % 3 == 0)), result);
+    }
+
+    @Test
+    public void countReduce() {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            ParallelFluentList<Integer> parallel = numbers.parallel(executor).withThreshold(64);
+            assertEquals(numbers.count(it -> it % 7 == 0), parallel.count(it -> it % 7 == 0));
+            assertEquals(numbers.reduce((first, second) -> first + second),
+                    parallel.reduce((first, second) -> first + second));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void splitsWorkForCachedPool() {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        Set<Thread> threads = Collections.synchronizedSet(new HashSet<Thread>());
+        try {
+            List<Integer> result = numbers.parallel(executor).withThreshold(100).map(it -> {
+                threads.add(Thread.currentThread());
+                return it + 1;
+            }).toList();
+            assertEquals(new ArrayList<>(numbers.map(it -> it + 1)), result);
+            assertTrue(threads.size() > 1);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void groupBy() {
+        Map<Integer, List<Integer>> groups = numbers.parallel().withThreshold(100).groupBy(it -> it % 10);
+        assertEquals(numbers.groupBy(it -> it % 10), groups);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rethrowFailure() {
+        numbers.parallel().withThreshold(10).map(it -> {
+            if (it == 5000) {
+                throw new IllegalStateException();
+            }
+            return it;
+        });
+    }
+}
@@ -0,0 +1,81 @@
+package com.ivanserbyniuk.fluentlist;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+
+public class PersistentVectorTest {
+
+    @Test
+    public void plusSharesPreviousVersions() {
+        List<Integer> expected = new ArrayList<>();
+        List<PersistentVector<Integer>> versions = new ArrayList<>();
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 40000; i++) {
+            vector = vector.plus(i);
+            expected.add(i);
+            if (i % 997 == 0) {
+                versions.add(vector);
+            }
+        }
+        assertEquals(expected, vector);
+        for (PersistentVector<Integer> version : versions) {
+            assertEquals(expected.subList(0, version.size()), version);
+        }
+    }
+
+    @Test
+    public void plusAll() {
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            items.add(i);
+        }
+        PersistentVector<Integer> vector = PersistentVector.<Integer>empty().plus(-1).plusAll(items).plusAll(items);
+        List<Integer> expected = new ArrayList<>();
+        expected.add(-1);
+        expected.addAll(items);
+        expected.addAll(items);
+        assertEquals(expected, vector);
+        assertEquals(expected.subList(5, 4000), vector.subList(5, 4000));
+        assertEquals(expected.subList(10, 20), vector.subList(5, 4000).subList(5, 15));
+    }
+
+    @Test
+    public void with() {
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            items.add(i);
+        }
+        PersistentVector<Integer> vector = PersistentVector.of(items);
+        PersistentVector<Integer> changed = vector.with(5, -5).with(1999, -1999);
+        assertEquals(5, (int) vector.get(5));
+        assertEquals(-5, (int) changed.get(5));
+        assertEquals(-1999, (int) changed.get(1999));
+        assertEquals(1999, (int) vector.get(1999));
+    }
+
+    @Test
+    public void fluentListPlus() {
+        FluentList<String> list = FluentList.from(Arrays.asList("a", "b")).toPersistent();
+        FluentList<String> plus = list.plus("c").plus(Arrays.asList("d", "e")).with(0, "z");
+        assertEquals(Arrays.asList("z", "b", "c", "d", "e"), plus);
+        assertEquals(Arrays.asList("a", "b"), list);
+    }
+
+    @Test
+    public void immutableSnapshot() {
+        FluentList<String> list = FluentList.from(new ArrayList<>(Arrays.asList("a", "b")));
+        List<String> snapshot = list.toImmutableList();
+        list.add("c");
+        assertEquals(Arrays.asList("a", "b"), snapshot);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void persistentIsImmutable() {
+        FluentList.from(Arrays.asList("a", "b")).toPersistent().add("c");
+    }
+}
@@ -0,0 +1,53 @@
+package com.ivanserbyniuk.fluentlist;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+import static org.junit.Assert.assertArrayEquals;
+
+public class PrimitiveFluentListTest {
+    List<Product> products = Arrays.asList(new Product("prod1", 3), new Product("prod2", 4),
+            new Product("prod3", 10), new Product("prod4", 52), new Product("prod5", 2), new Product("prod6", 7));
+
+    @Test
+    public void intAggregates() {
+        IntFluentList prices = FluentList.from(products).mapToInt(Product::getPrice);
+        assertEquals(78, prices.sum());
+        assertEquals(2, prices.min());
+        assertEquals(52, prices.max());
+        assertEquals(13.0, prices.average(), 0.0);
+        assertArrayEquals(new int[]{2, 3, 4, 7, 10, 52}, prices.sorted().toArray());
+    }
+
+    @Test
+    public void intFilterMap() {
+        IntFluentList result = IntFluentList.range(0, 10)
+                .filter(it -> it % 2 == 0)
+                .map(it -> it * 10);
+        assertArrayEquals(new int[]{0, 20, 40, 60, 80}, result.toArray());
+        assertEquals(2, result.count(it -> it > 50));
+        assertTrue(result.any(it -> it == 40));
+        assertEquals(Arrays.asList(0, 20, 40, 60, 80), result.boxed());
+    }
+
+    @Test
+    public void longAndDouble() {
+        LongFluentList longs = FluentList.from(products).mapToLong(it -> it.getPrice() * 1000000000L);
+        assertEquals(78000000000L, longs.sum());
+        assertEquals(52000000000L, longs.max());
+
+        DoubleFluentList doubles = FluentList.from(products).mapToDouble(it -> it.getPrice() / 2.0);
+        assertEquals(39.0, doubles.sum(), 0.0);
+        assertEquals(1.0, doubles.min(), 0.0);
+        assertEquals(Double.NaN, doubles.filter(it -> it > 100).average(), 0.0);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void minOfEmpty() {
+        IntFluentList.range(5, 5).min();
+    }
+}
@@ -2,11 +2,13 @@ package com.ivanserbyniuk.fluentlist;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNull;
 import static junit.framework.Assert.assertTrue;
 
 public class ReduceTest {
@@ -52,6 +54,44 @@ public class ReduceTest {
         assertEquals("prod4", mostExpensiveProduct.getName());
     }
 
+    @Test
+    public void minByKeepsFirstOfEqual() {
+        List<Product> sameName = Arrays.asList(new Product("same", 3), new Product("same", 1));
+        assertEquals(3, FluentList.from(sameName).minBy(Product::getName).getPrice());
+        assertEquals(3, FluentList.from(sameName).maxBy(Product::getName).getPrice());
+    }
+
+    @Test
+    public void minByOrNull() {
+        assertEquals("prod5", FluentList.from(products).minByOrNull(Product::getPrice).getName());
+        assertNull(FluentList.from(new ArrayList<Product>()).minByOrNull(Product::getPrice));
+        assertNull(FluentList.from(new ArrayList<Product>()).maxByOrNull(Product::getPrice));
+    }
+
+    @Test
+    public void minMaxBy() {
+        int[] calls = new int[1];
+        MinMax<Product> minMax = FluentList.from(products).minMaxBy(it -> {
+            calls[0]++;
+            return it.getPrice();
+        });
+        assertEquals("prod5", minMax.getMin().getName());
+        assertEquals("prod4", minMax.getMax().getName());
+        assertEquals(products.size(), calls[0]);
+    }
+
+    @Test
+    public void minMaxByPrimitive() {
+        assertEquals("prod5", FluentList.from(products).minByInt(Product::getPrice).getName());
+        assertEquals("prod4", FluentList.from(products).maxByLong(Product::getPrice).getName());
+        assertEquals("prod4", FluentList.from(products).maxByDouble(it -> it.getPrice() / 2.0).getName());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void minByEmpty() {
+        FluentList.from(new ArrayList<Product>()).minBy(Product::getPrice);
+    }
+
     @Test
     public void sumBy() {
         int priceForAllProds = FluentList.from(products).sumBy(Product::getPrice);
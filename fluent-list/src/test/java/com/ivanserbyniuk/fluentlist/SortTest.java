@@ -0,0 +1,106 @@
+package com.ivanserbyniuk.fluentlist;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+
+public class SortTest {
+    List<Product> products = Arrays.asList(new Product("prod1", 3), new Product("prod2", 4),
+            new Product("prod3", 10), new Product("prod4", 52), new Product("prod5", 2), new Product("prod6", 7),
+            new Product("prod7", 4));
+
+    @Test
+    public void sortedBy() {
+        List<String> names = FluentList.from(products).sortedBy(Product::getPrice).map(Product::getName);
+        assertEquals(Arrays.asList("prod5", "prod1", "prod2", "prod7", "prod6", "prod3", "prod4"), names);
+    }
+
+    @Test
+    public void sortedByExtractsKeyOnce() {
+        int[] calls = new int[1];
+        FluentList.from(products).sortedBy(it -> {
+            calls[0]++;
+            return it.getName();
+        });
+        assertEquals(products.size(), calls[0]);
+    }
+
+    @Test
+    public void sortedByDescending() {
+        List<String> names = FluentList.from(products).sortedByDescending(Product::getPrice).map(Product::getName);
+        assertEquals(Arrays.asList("prod4", "prod3", "prod6", "prod2", "prod7", "prod1", "prod5"), names);
+    }
+
+    @Test
+    public void sortedByPrimitive() {
+        List<Product> byInt = FluentList.from(products).sortedByInt(Product::getPrice);
+        List<Product> byLong = FluentList.from(products).sortedByLong(it -> -it.getPrice() * 10000000000L);
+        assertEquals(new ArrayList<>(FluentList.from(products).sortedBy(Product::getPrice).map(Product::getName)),
+                FluentList.from(byInt).map(Product::getName));
+        assertEquals(Arrays.asList("prod4", "prod3", "prod6", "prod2", "prod7", "prod1", "prod5"),
+                FluentList.from(byLong).map(Product::getName));
+    }
+
+    @Test
+    public void thenBy() {
+        List<String> names = FluentList.from(products)
+                .sortedWith(SortOrder.<Product, Integer>by(it -> it.getPrice() % 2).thenByDescending(Product::getName))
+                .map(Product::getName);
+        assertEquals(Arrays.asList("prod7", "prod5", "prod4", "prod3", "prod2", "prod6", "prod1"), names);
+    }
+
+    @Test
+    public void parallelSortedBy() {
+        Random random = new Random(1);
+        List<Integer> numbers = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            numbers.add(random.nextInt(1000));
+        }
+        List<Integer> expected = new ArrayList<>(numbers);
+        Collections.sort(expected, Comparator.reverseOrder());
+        List<Integer> sorted = FluentList.from(numbers).parallel().withThreshold(100)
+                .sortedByDescending(it -> it).toList();
+        assertEquals(expected, sorted);
+    }
+
+    @Test
+    public void topAndBottomBy() {
+        FluentList<Product> list = FluentList.from(products);
+        assertEquals(Arrays.asList("prod4", "prod3", "prod6", "prod2"),
+                new ArrayList<>(list.topBy(4, Product::getPrice).map(Product::getName)));
+        assertEquals(Arrays.asList("prod5", "prod1", "prod2", "prod7"),
+                new ArrayList<>(list.bottomBy(4, Product::getPrice).map(Product::getName)));
+        assertEquals(new ArrayList<>(list.topBy(3, Product::getPrice)), list.topByInt(3, Product::getPrice));
+        assertEquals(new ArrayList<>(list.bottomBy(5, Product::getPrice)),
+                list.bottomByLong(5, it -> (long) it.getPrice()));
+        assertEquals(new ArrayList<>(list.sortedBy(Product::getPrice)), list.bottomBy(100, Product::getPrice));
+        assertEquals(0, list.topBy(0, Product::getPrice).size());
+    }
+
+    @Test
+    public void selectionMatchesSort() {
+        Random random = new Random(7);
+        List<Integer> numbers = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            numbers.add(random.nextInt(100));
+        }
+        FluentList<Integer> list = FluentList.from(numbers);
+        List<Integer> sorted = list.sortedBy(it -> it / 10);
+        List<Integer> sortedDescending = list.sortedByDescending(it -> it / 10);
+        assertEquals(sorted.subList(0, 50), list.bottomBy(50, it -> it / 10));
+        assertEquals(sortedDescending.subList(0, 50), list.topByInt(50, it -> it / 10));
+        assertEquals(sortedDescending.subList(0, 50),
+                list.parallel().withThreshold(100).topBy(50, it -> it / 10));
+        assertEquals(sorted.subList(0, 50), list.parallel().withThreshold(100).bottomBy(50, it -> it / 10));
+        for (int n : new int[]{0, 1, 2500, 4999}) {
+            assertEquals(sorted.get(n), list.nthBy(n, it -> it / 10));
+        }
+    }
+}
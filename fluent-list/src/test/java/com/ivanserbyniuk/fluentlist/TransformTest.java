@@ -0,0 +1,209 @@
+package com.ivanserbyniuk.fluentlist;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class TransformTest {
+    List<Product> products = Arrays.asList(new Product("prod1", 3), new Product("prod2", 4),
+            new Product("prod3", 10), new Product("prod4", 52), new Product("prod5", 2), new Product("prod6", 7));
+
+    @Test
+    public void flatMapWithSink() {
+        List<Object> result = FluentList.from(products).<Object>flatMap((it, sink) -> {
+            if (it.getPrice() > 5) {
+                sink.apply(it.getName());
+                sink.apply(it.getPrice());
+            }
+        });
+        assertEquals(Arrays.<Object>asList("prod3", 10, "prod4", 52, "prod6", 7), result);
+    }
+
+    @Test
+    public void flatMapIterable() {
+        List<String> result = FluentList.from(products)
+                .flatMapIterable(it -> it.getPrice() > 5
+                        ? Collections.singleton(it.getName())
+                        : Collections.<String>emptySet());
+        assertEquals(Arrays.asList("prod3", "prod4", "prod6"), result);
+    }
+
+    @Test
+    public void flatMapIterator() {
+        int[] calls = new int[1];
+        Iterator<String> iterator = FluentList.from(products).flatMapIterator(it -> {
+            calls[0]++;
+            return Arrays.asList(it.getName(), it.getName());
+        });
+        assertEquals("prod1", iterator.next());
+        assertEquals("prod1", iterator.next());
+        assertEquals("prod2", iterator.next());
+        assertEquals(2, calls[0]);
+    }
+
+    @Test
+    public void lazyFlatMapWithSinkStops() {
+        int[] emitted = new int[1];
+        String first = FluentList.from(products).lazy()
+                .<String>flatMap((it, sink) -> {
+                    emitted[0]++;
+                    sink.apply(it.getName());
+                    sink.apply(it.getName() + "!");
+                })
+                .firstOrNull(it -> it.endsWith("!"));
+        assertEquals("prod1!", first);
+        assertEquals(1, emitted[0]);
+        assertFalse(FluentList.from(products).flatMap(it -> Arrays.asList(it, it), 12).isEmpty());
+    }
+
+    @Test
+    public void distinctKeepsEncounterOrder() {
+        List<Integer> values = Arrays.asList(5, 3, null, 5, 0, 3, 9, null, 0);
+        assertEquals(Arrays.asList(5, 3, null, 0, 9), new ArrayList<>(FluentList.from(values).distinct()));
+    }
+
+    @Test
+    public void distinctByKeys() {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            values.add(i * 7 % 1000);
+        }
+        List<Integer> expected = new ArrayList<>(new LinkedHashSet<>(values));
+        assertEquals(expected, new ArrayList<>(FluentList.from(values).distinct(it -> it)));
+        assertEquals(expected, new ArrayList<>(FluentList.from(values).distinctByInt(it -> it)));
+        assertEquals(expected, new ArrayList<>(FluentList.from(values).distinctByLong(it -> (long) it << 32)));
+        assertEquals(expected, new ArrayList<>(FluentList.from(values).parallel().withThreshold(100).distinct()
+                .toList()));
+        assertEquals(Arrays.asList(0, 7, 14), new ArrayList<>(FluentList.from(values).distinctByInt(it -> it % 3)));
+    }
+
+    @Test
+    public void distinctSorted() {
+        List<String> values = Arrays.asList("a", "a", "b", "c", "c", "c", "a");
+        assertEquals(Arrays.asList("a", "b", "c", "a"), new ArrayList<>(FluentList.from(values).distinctSorted()));
+    }
+
+    @Test
+    public void chunkedViews() {
+        List<Integer> values = new ArrayList<>(Arrays.asList(1, 2, 3, 4, 5, 6, 7));
+        FluentList<List<Integer>> chunks = FluentList.from(values).chunked(3);
+        assertEquals(Arrays.asList(Arrays.asList(1, 2, 3), Arrays.asList(4, 5, 6), Collections.singletonList(7)),
+                new ArrayList<>(chunks));
+        values.set(0, 10);
+        assertEquals(Arrays.asList(10, 2, 3), chunks.get(0));
+        assertTrue(FluentList.from(Collections.<Integer>emptyList()).chunked(3).isEmpty());
+    }
+
+    @Test
+    public void windowed() {
+        FluentList<Integer> values = FluentList.from(1, 2, 3, 4, 5, 6);
+        assertEquals(Arrays.asList(Arrays.asList(1, 2, 3), Arrays.asList(3, 4, 5)),
+                new ArrayList<>(values.windowed(3, 2)));
+        assertEquals(Arrays.asList(Arrays.asList(1, 2, 3), Arrays.asList(3, 4, 5), Arrays.asList(5, 6)),
+                new ArrayList<>(values.windowed(3, 2, true)));
+        assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(5, 6)),
+                new ArrayList<>(values.windowed(2, 4)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void chunkedWithZeroSize() {
+        FluentList.from(1, 2, 3).chunked(0);
+    }
+
+    @Test
+    public void batchedForEach() {
+        List<Integer> sizes = new ArrayList<>();
+        FluentList.from(products).batchedForEach(4, it -> sizes.add(it.size()));
+        assertEquals(Arrays.asList(4, 2), sizes);
+    }
+
+    @Test
+    public void lazyChunked() {
+        int[] pulled = new int[1];
+        List<List<String>> chunks = FluentList.from(products).lazy()
+                .map(it -> {
+                    pulled[0]++;
+                    return it.getName();
+                })
+                .chunked(4)
+                .toList();
+        assertEquals(Arrays.asList(Arrays.asList("prod1", "prod2", "prod3", "prod4"), Arrays.asList("prod5", "prod6")),
+                new ArrayList<>(chunks));
+        pulled[0] = 0;
+        List<String> first = FluentList.from(products).lazy()
+                .map(it -> {
+                    pulled[0]++;
+                    return it.getName();
+                })
+                .chunked(2)
+                .firstOrNull();
+        assertEquals(Arrays.asList("prod1", "prod2"), first);
+        assertEquals(2, pulled[0]);
+    }
+
+    @Test
+    public void takeAndDropViews() {
+        List<Integer> values = new ArrayList<>(Arrays.asList(1, 2, 3, 4, 5));
+        FluentList<Integer> fluentList = FluentList.from(values);
+        assertEquals(Arrays.asList(1, 2), fluentList.take(2));
+        assertEquals(values, fluentList.take(10));
+        assertEquals(Arrays.asList(4, 5), fluentList.drop(3));
+        assertTrue(fluentList.drop(10).isEmpty());
+        assertEquals(Arrays.asList(2, 3, 4), fluentList.slice(1, 4));
+        assertEquals(Arrays.asList(1, 2), fluentList.takeWhile(it -> it < 3));
+        assertEquals(Arrays.asList(3, 4, 5), fluentList.dropWhile(it -> it < 3));
+        assertEquals(Arrays.asList(2, 3), fluentList.drop(1).take(2));
+        FluentList<Integer> page = fluentList.slice(0, 2);
+        FluentList<Integer> copy = page.copy();
+        values.set(0, 10);
+        assertEquals(Arrays.asList(10, 2), page);
+        assertEquals(Arrays.asList(1, 2), copy);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void takeNegative() {
+        FluentList.from(1, 2, 3).take(-1);
+    }
+
+    @Test
+    public void reversedView() {
+        List<Integer> values = new ArrayList<>(Arrays.asList(1, 2, 3));
+        FluentList<Integer> reversed = FluentList.from(values).asReversed();
+        assertEquals(Arrays.asList(3, 2, 1), reversed);
+        assertEquals(Arrays.asList(3, 2), reversed.take(2));
+        values.add(4);
+        assertEquals(Arrays.asList(4, 3, 2, 1), reversed);
+        assertEquals(values, reversed.asReversed());
+        assertEquals(Arrays.asList(3, 2, 1), FluentList.from(new LinkedList<>(Arrays.asList(1, 2, 3))).asReversed());
+    }
+
+    @Test
+    public void randomAccessAndSequentialListsGiveSameResults() {
+        List<List<Product>> sources = Arrays.<List<Product>>asList(new ArrayList<>(products),
+                new LinkedList<>(products));
+        for (List<Product> source : sources) {
+            FluentList<Product> list = FluentList.from(source);
+            assertEquals(Arrays.asList("prod3", "prod4", "prod6"),
+                    list.filter(it -> it.getPrice() > 5).map(Product::getName));
+            assertEquals(3, list.count(it -> it.getPrice() > 5));
+            assertTrue(list.any(it -> it.getPrice() == 52));
+            assertFalse(list.all(it -> it.getPrice() > 2));
+            assertEquals("prod5", list.firstOrNull(it -> it.getPrice() < 3).getName());
+            assertEquals("prod1, prod2, prod3, prod4, prod5, prod6", list.joinToStringBy(Product::getName));
+            assertEquals(2, list.groupBy(it -> it.getPrice() % 2).size());
+            StringBuilder indexes = new StringBuilder();
+            list.forEachIndexed((index, item) -> indexes.append(index).append(item.getName().charAt(4)));
+            assertEquals("011223344556", indexes.toString());
+        }
+    }
+}